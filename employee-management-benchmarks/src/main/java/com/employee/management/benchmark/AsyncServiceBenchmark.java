@@ -0,0 +1,92 @@
+package com.employee.management.benchmark;
+
+import com.employee.management.model.Employee;
+import com.employee.management.service.AsyncEmployeeService;
+import com.employee.management.service.AsyncServiceConfig;
+import com.employee.management.service.EmployeeService;
+import com.employee.management.service.EmployeeServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fan-out of first-name lookups: a blocking loop over the service against
+ * the same names requested through {@link AsyncEmployeeService}, where
+ * lookups waiting together are answered by one batched call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AsyncServiceBenchmark {
+
+    @Param({"100000"})
+    private int size;
+
+    @Param({"memory", "indexed", "columnar"})
+    private String repository;
+
+    @Param({"10", "1000"})
+    private int names;
+
+    @Param({"1", "256"})
+    private int batchSize;
+
+    private EmployeeService service;
+
+    private AsyncEmployeeService asyncService;
+
+    private List<String> firstNames;
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.disableLogging();
+        var generator = new EmployeeGenerator();
+        service = new EmployeeServiceImpl(BenchmarkSupport.createRepository(repository, generator, size));
+        asyncService = new AsyncEmployeeService(service, new AsyncServiceConfig(64, batchSize));
+        firstNames = new ArrayList<>(names);
+        for (int i = 0; i < names; i++) {
+            firstNames.add(EmployeeGenerator.firstName((int) ((long) i * size / names)));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        asyncService.close();
+    }
+
+    @Benchmark
+    public void blockingLoop(Blackhole blackhole) {
+        for (var firstName : firstNames) {
+            blackhole.consume(service.getEmployeesByFirstName(firstName));
+        }
+    }
+
+    @Benchmark
+    public void asyncFanOut(Blackhole blackhole) {
+        var results = new ArrayList<CompletableFuture<List<Employee>>>(firstNames.size());
+        for (var firstName : firstNames) {
+            results.add(asyncService.getEmployeesByFirstName(firstName));
+        }
+        for (var result : results) {
+            blackhole.consume(result.join());
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.employee.management.benchmark;
+
+import com.employee.management.model.Employee;
+import com.employee.management.repository.ColumnarEmployeeRepository;
+import com.employee.management.repository.ConcurrentEmployeeRepository;
+import com.employee.management.repository.EmployeeRepository;
+import com.employee.management.repository.InMemoryEmployeeRepository;
+import com.employee.management.repository.IndexedEmployeeRepository;
+import com.employee.management.repository.UniqueConstraints;
+import com.employee.management.util.AsyncHandler;
+import com.employee.management.util.LogOverflowPolicy;
+import com.employee.management.util.LoggerUtil;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+import java.util.logging.StreamHandler;
+
+/**
+ * Shared fixtures for the benchmarks.
+ */
+public final class BenchmarkSupport {
+
+    /**
+     * Employees per saveAll call when loading large data sets
+     */
+    private static final int LOAD_CHUNK = 10_000;
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private BenchmarkSupport() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Turns off application logging so benchmarks measure the code, not the console
+     */
+    public static void disableLogging() {
+        // Load the application logging configuration first so it cannot re-enable handlers later
+        LoggerUtil.getLogger(BenchmarkSupport.class);
+        LogManager.getLogManager().reset();
+        Logger.getLogger("").setLevel(Level.OFF);
+    }
+
+    /**
+     * Configures application logging at INFO into a discarding stream, so
+     * formatting and handler costs are measured without terminal I/O.
+     * Modes: off, sync, async (BLOCK overflow) and async-discard.
+     */
+    public static void configureLogging(String mode) {
+        disableLogging();
+        if (mode.equals("off")) {
+            return;
+        }
+
+        var formatter = new SimpleFormatter();
+        var sink = new StreamHandler(OutputStream.nullOutputStream(), formatter);
+        var root = Logger.getLogger("");
+        root.setLevel(Level.INFO);
+        switch (mode) {
+            case "sync" -> root.addHandler(sink);
+            case "async" -> root.addHandler(new AsyncHandler(sink, 8192, LogOverflowPolicy.BLOCK));
+            case "async-discard" -> root.addHandler(new AsyncHandler(sink, 8192, LogOverflowPolicy.DISCARD));
+            default -> throw new IllegalArgumentException("Unknown logging mode: " + mode);
+        }
+    }
+
+    /**
+     * Creates an empty repository; kinds match the ems.repository modes, plus
+     * indexed-unique for the indexed mode with unique emails and phone numbers
+     */
+    public static EmployeeRepository createRepository(String kind) {
+        return switch (kind) {
+            case "memory" -> new InMemoryEmployeeRepository();
+            case "indexed" -> new IndexedEmployeeRepository();
+            case "indexed-unique" -> new IndexedEmployeeRepository(new UniqueConstraints(true, true));
+            case "columnar" -> new ColumnarEmployeeRepository();
+            case "concurrent" -> new ConcurrentEmployeeRepository();
+            default -> throw new IllegalArgumentException("Unknown repository kind: " + kind);
+        };
+    }
+
+    /**
+     * Creates a repository holding the given employees
+     */
+    public static EmployeeRepository createRepository(String kind, List<Employee> employees) {
+        var repository = createRepository(kind);
+        repository.saveAll(employees);
+        return repository;
+    }
+
+    /**
+     * Creates a repository holding the first size generated employees without
+     * keeping any other reference to them
+     */
+    public static EmployeeRepository createRepository(String kind, EmployeeGenerator generator, int size) {
+        var repository = createRepository(kind);
+        for (int from = 0; from < size; from += LOAD_CHUNK) {
+            repository.saveAll(generator.employees(from, Math.min(LOAD_CHUNK, size - from)));
+        }
+        return repository;
+    }
+
+    /**
+     * Deletes a directory tree, ignoring a missing root
+     */
+    public static void deleteRecursively(Path root) {
+        if (!Files.exists(root)) {
+            return;
+        }
+        try (var paths = Files.walk(root)) {
+            for (var path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete " + root, e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.employee.management.benchmark;
+
+import com.employee.management.cache.CacheConfig;
+import com.employee.management.cache.CachingEmployeeService;
+import com.employee.management.model.Employee;
+import com.employee.management.service.EmployeeService;
+import com.employee.management.service.EmployeeServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dashboard queries with and without the result cache. The dashboard
+ * benchmarks interleave one email/phone update per dashboard refresh (or one
+ * new hire every tenth refresh), showing how much of the cache survives
+ * precise invalidation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CacheBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"memory", "indexed", "columnar"})
+    private String repository;
+
+    @Param({"off", "on"})
+    private String cache;
+
+    private EmployeeGenerator generator;
+
+    private EmployeeService service;
+
+    private Employee updated;
+
+    private int nextIndex;
+
+    private long refreshes;
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.disableLogging();
+        generator = new EmployeeGenerator();
+        EmployeeService impl = new EmployeeServiceImpl(BenchmarkSupport.createRepository(repository, generator, size));
+        service = cache.equals("on")
+                ? new CachingEmployeeService(impl, new CacheConfig(1024, Duration.ofMinutes(5)))
+                : impl;
+        updated = generator.employee(size / 2);
+        nextIndex = size;
+        refreshes = 0;
+    }
+
+    @TearDown
+    public void printStats() {
+        if (service instanceof CachingEmployeeService caching) {
+            System.out.println("\nCache: " + caching.cache().stats());
+        }
+    }
+
+    @Benchmark
+    public Map<String, Double> averageSalaryByDepartment() {
+        return service.getAverageSalaryByDepartment();
+    }
+
+    @Benchmark
+    public List<Employee> topThreeHighestPaid() {
+        return service.getTopThreeHighestPaid();
+    }
+
+    @Benchmark
+    public long employeeCount() {
+        return service.getEmployeeCount();
+    }
+
+    @Benchmark
+    public void dashboardWithUpdate(Blackhole blackhole) {
+        var source = generator.employee(size + (int) (refreshes++ % 1000));
+        service.updateEmailAndPhone(updated.firstName(), source.email(), source.phoneNumber());
+        refresh(blackhole);
+    }
+
+    @Benchmark
+    public void dashboardWithHire(Blackhole blackhole) {
+        if (refreshes++ % 10 == 0) {
+            service.addEmployee(generator.employee(nextIndex++));
+        }
+        refresh(blackhole);
+    }
+
+    private void refresh(Blackhole blackhole) {
+        blackhole.consume(service.getAverageSalaryByDepartment());
+        blackhole.consume(service.getTopThreeHighestPaid());
+        blackhole.consume(service.getEmployeeCount());
+    }
+}
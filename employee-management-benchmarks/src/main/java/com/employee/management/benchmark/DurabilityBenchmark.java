@@ -0,0 +1,72 @@
+package com.employee.management.benchmark;
+
+import com.employee.management.persistence.DurableEmployeeRepository;
+import com.employee.management.persistence.FsyncPolicy;
+import com.employee.management.persistence.PersistenceConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Save throughput of the durable repository under each fsync policy, with
+ * eight concurrent writers so ALWAYS can batch waiting writers into one
+ * force. Each iteration writes to a fresh data directory.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class DurabilityBenchmark {
+
+    @Param({"ALWAYS", "INTERVAL", "OS"})
+    private FsyncPolicy fsyncPolicy;
+
+    private final EmployeeGenerator generator = new EmployeeGenerator();
+
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    private Path dataDirectory;
+
+    private DurableEmployeeRepository employees;
+
+    @Setup(Level.Iteration)
+    public void open() throws IOException {
+        BenchmarkSupport.disableLogging();
+        dataDirectory = Files.createTempDirectory("ems-bench-wal");
+        var config = new PersistenceConfig(
+                dataDirectory, fsyncPolicy, Duration.ofMillis(10), Duration.ofHours(1));
+        employees = new DurableEmployeeRepository(BenchmarkSupport.createRepository("memory"), config);
+    }
+
+    @TearDown(Level.Iteration)
+    public void close() {
+        employees.close();
+        BenchmarkSupport.deleteRecursively(dataDirectory);
+    }
+
+    @Benchmark
+    public void save() {
+        employees.save(generator.employee(sequence.getAndIncrement()));
+    }
+}
@@ -0,0 +1,106 @@
+package com.employee.management.benchmark;
+
+import com.employee.management.model.Employee;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Reproducible generator of valid employees for benchmark data sets.
+ * Employee i is derived from (seed, i) only, so data sets of different sizes
+ * share a common prefix and any employee can be regenerated on demand.
+ * First names ("Emp" + i), emails and phone numbers are unique, which keeps
+ * lookups unambiguous and lets data sets load under uniqueness constraints.
+ */
+public final class EmployeeGenerator {
+
+    public static final long DEFAULT_SEED = 20240229L;
+
+    private static final String[] LAST_NAMES = {
+            "Sharma", "Iyer", "Kumar", "Patel", "Nair", "Reddy", "Singh", "Das", "Menon", "Rao"
+    };
+
+    private static final String[] DEPARTMENTS = {
+            "Engineering", "HR", "Finance", "Sales", "Marketing", "Operations", "Support", "Legal"
+    };
+
+    private static final String[] CITIES = {
+            "Chennai", "Mumbai", "Bengaluru", "Pune", "Kolkata", "Hyderabad", "Delhi", "Kochi"
+    };
+
+    private static final LocalDate OLDEST_BIRTH_DATE = LocalDate.of(1960, 1, 1);
+
+    private static final int BIRTH_DATE_RANGE_DAYS = 40 * 365;
+
+    private static final long FIRST_PHONE_NUMBER = 6_000_000_000L;
+
+    private static final long PHONE_NUMBER_RANGE = 4_000_000_000L;
+
+    /**
+     * Odd and not a multiple of 5, so coprime with the range: distinct
+     * indexes map to distinct phone numbers
+     */
+    private static final long PHONE_NUMBER_STRIDE = 2_654_435_761L;
+
+    private final long seed;
+
+    public EmployeeGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public EmployeeGenerator() {
+        this(DEFAULT_SEED);
+    }
+
+    /**
+     * Returns the first name of employee i
+     */
+    public static String firstName(int index) {
+        return "Emp" + index;
+    }
+
+    /**
+     * Generates employee i
+     */
+    public Employee employee(int index) {
+        var random = new SplittableRandom(seed ^ (index * 0x9E3779B97F4A7C15L));
+        var dateOfBirth = OLDEST_BIRTH_DATE.plusDays(random.nextInt(BIRTH_DATE_RANGE_DAYS));
+        var weddingDate = random.nextInt(10) < 6
+                ? dateOfBirth.plusYears(22 + random.nextInt(15)).plusDays(random.nextInt(365))
+                : null;
+        return new Employee(
+                firstName(index),
+                LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                DEPARTMENTS[random.nextInt(DEPARTMENTS.length)],
+                random.nextInt(100) + " Main Road, " + CITIES[random.nextInt(CITIES.length)],
+                "emp" + index + "@example.com",
+                phoneNumber(index),
+                dateOfBirth,
+                weddingDate,
+                30_000 + random.nextInt(1_700) * 100);
+    }
+
+    /**
+     * Generates employees [from, from + count)
+     */
+    public List<Employee> employees(int from, int count) {
+        var result = new ArrayList<Employee>(count);
+        for (int i = from; i < from + count; i++) {
+            result.add(employee(i));
+        }
+        return result;
+    }
+
+    /**
+     * Generates employees [0, count)
+     */
+    public List<Employee> employees(int count) {
+        return employees(0, count);
+    }
+
+    private static String phoneNumber(int index) {
+        return Long.toString(FIRST_PHONE_NUMBER + Math.floorMod(index * PHONE_NUMBER_STRIDE, PHONE_NUMBER_RANGE));
+    }
+}
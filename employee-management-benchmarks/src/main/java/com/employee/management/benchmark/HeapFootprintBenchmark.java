@@ -0,0 +1,78 @@
+package com.employee.management.benchmark;
+
+import com.employee.management.repository.EmployeeRepository;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load time and retained heap of each repository implementation. The
+ * retainedBytes secondary result is the heap still in use after loading and
+ * a full collection, minus the heap in use before loading.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class HeapFootprintBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"memory", "indexed", "columnar"})
+    private String repository;
+
+    private EmployeeRepository employees;
+
+    /**
+     * Secondary result reported next to the load time
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long retainedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            retainedBytes = 0;
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        BenchmarkSupport.disableLogging();
+        employees = null;
+    }
+
+    @Benchmark
+    public EmployeeRepository load(Footprint footprint) {
+        var before = usedHeapAfterGc();
+        employees = BenchmarkSupport.createRepository(repository, new EmployeeGenerator(), size);
+        footprint.retainedBytes = usedHeapAfterGc() - before;
+        return employees;
+    }
+
+    private static long usedHeapAfterGc() {
+        var memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,138 @@
+package com.employee.management.benchmark;
+
+import com.employee.management.server.EmployeeHttpServer;
+import com.employee.management.server.ServerConfig;
+import com.employee.management.service.EmployeeServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local load test of the HTTP server over an in-memory repository, from 16
+ * concurrent keep-alive clients (override with -t). Throughput is requests
+ * per millisecond; the sample mode reports latency percentiles (p50, p99,
+ * p99.9) in milliseconds. Non-2xx responses fail the run.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+@Threads(16)
+@State(Scope.Benchmark)
+public class HttpServerBenchmark {
+
+    private static final int WORKER_THREADS = 64;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private EmployeeHttpServer server;
+
+    private HttpClient client;
+
+    private String baseUri;
+
+    /**
+     * Per-thread request selector, seeded by thread so runs are reproducible
+     */
+    @State(Scope.Thread)
+    public static class Requests {
+
+        private static final AtomicInteger THREADS = new AtomicInteger();
+
+        private SplittableRandom random;
+
+        @Setup
+        public void setUp() {
+            random = new SplittableRandom(EmployeeGenerator.DEFAULT_SEED + THREADS.getAndIncrement());
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.disableLogging();
+        var service = new EmployeeServiceImpl(
+                BenchmarkSupport.createRepository("memory", new EmployeeGenerator(), size));
+        server = new EmployeeHttpServer(service, new ServerConfig(0, WORKER_THREADS));
+        server.start();
+        baseUri = "http://localhost:" + server.port();
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public int lookup(Requests requests) {
+        return send(get("/employees/" + EmployeeGenerator.firstName(requests.random.nextInt(size))));
+    }
+
+    @Benchmark
+    public int count() {
+        return send(get("/analytics/count"));
+    }
+
+    @Benchmark
+    public int topPaid() {
+        return send(get("/analytics/top-paid?n=3"));
+    }
+
+    /**
+     * Lookups with one email/phone update in ten
+     */
+    @Benchmark
+    public int mixed(Requests requests) {
+        var index = requests.random.nextInt(size);
+        var firstName = EmployeeGenerator.firstName(index);
+        if (requests.random.nextInt(10) == 0) {
+            var body = "{\"email\":\"http" + index + "@example.com\",\"phoneNumber\":\"9988776655\"}";
+            return send(HttpRequest.newBuilder(URI.create(baseUri + "/employees/" + firstName))
+                    .PUT(HttpRequest.BodyPublishers.ofString(body))
+                    .build());
+        }
+        return send(get("/employees/" + firstName));
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUri + path)).GET().build();
+    }
+
+    private int send(HttpRequest request) {
+        try {
+            var response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException(request.method() + " " + request.uri() + " returned "
+                        + response.statusCode() + ": " + new String(response.body()));
+            }
+            return response.body().length;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + request.uri(), e);
+        }
+    }
+}
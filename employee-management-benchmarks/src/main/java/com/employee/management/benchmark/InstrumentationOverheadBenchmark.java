@@ -0,0 +1,94 @@
+package com.employee.management.benchmark;
+
+import com.employee.management.metrics.InstrumentedEmployeeRepository;
+import com.employee.management.metrics.LatencyHistogram;
+import com.employee.management.metrics.MetricsRegistry;
+import com.employee.management.model.Employee;
+import com.employee.management.repository.EmployeeRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the metrics decorator: the same repository calls with and without
+ * instrumentation, plus the raw histogram recording cost on one and four
+ * threads. Run with -prof gc to confirm recording does not allocate.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InstrumentationOverheadBenchmark {
+
+    private static final int SIZE = 100_000;
+
+    @Param({"memory", "indexed"})
+    private String repository;
+
+    @Param({"false", "true"})
+    private boolean instrumented;
+
+    private EmployeeRepository employees;
+
+    private LatencyHistogram histogram;
+
+    /**
+     * Per-thread source of lookup keys
+     */
+    @State(Scope.Thread)
+    public static class Keys {
+
+        private SplittableRandom random;
+
+        @Setup
+        public void setUp() {
+            random = new SplittableRandom(EmployeeGenerator.DEFAULT_SEED);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.disableLogging();
+        var plain = BenchmarkSupport.createRepository(repository, new EmployeeGenerator(), SIZE);
+        employees = instrumented
+                ? new InstrumentedEmployeeRepository(plain, new MetricsRegistry("Repository"))
+                : plain;
+        histogram = new LatencyHistogram();
+    }
+
+    @Benchmark
+    public Optional<Employee> findByFirstName(Keys keys) {
+        return employees.findByFirstName(EmployeeGenerator.firstName(keys.random.nextInt(SIZE)));
+    }
+
+    @Benchmark
+    public long count() {
+        return employees.count();
+    }
+
+    @Benchmark
+    public void histogramRecord(Keys keys) {
+        histogram.record(keys.random.nextInt(1_000_000));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void histogramRecordContended(Keys keys) {
+        histogram.record(keys.random.nextInt(1_000_000));
+    }
+}
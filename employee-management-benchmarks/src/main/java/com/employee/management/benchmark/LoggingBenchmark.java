@@ -0,0 +1,88 @@
+package com.employee.management.benchmark;
+
+import com.employee.management.model.Employee;
+import com.employee.management.service.EmployeeService;
+import com.employee.management.service.EmployeeServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogManager;
+
+/**
+ * Hot-path service calls with logging off, through a synchronous handler and
+ * through the AsyncHandler, on one and four threads. Every call logs at INFO
+ * in both the service and the repository.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+    private static final int SIZE = 100_000;
+
+    @Param({"off", "sync", "async", "async-discard"})
+    private String logging;
+
+    private EmployeeService service;
+
+    /**
+     * Per-thread source of lookup keys
+     */
+    @State(Scope.Thread)
+    public static class Keys {
+
+        private SplittableRandom random;
+
+        @Setup
+        public void setUp() {
+            random = new SplittableRandom(EmployeeGenerator.DEFAULT_SEED);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.disableLogging();
+        var employees = BenchmarkSupport.createRepository("indexed", new EmployeeGenerator(), SIZE);
+        service = new EmployeeServiceImpl(employees);
+        BenchmarkSupport.configureLogging(logging);
+    }
+
+    @TearDown
+    public void tearDown() {
+        // Closes the handlers, draining any asynchronous writer
+        LogManager.getLogManager().reset();
+    }
+
+    @Benchmark
+    public List<Employee> getEmployeesByFirstName(Keys keys) {
+        return service.getEmployeesByFirstName(EmployeeGenerator.firstName(keys.random.nextInt(SIZE)));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<Employee> getEmployeesByFirstNameContended(Keys keys) {
+        return service.getEmployeesByFirstName(EmployeeGenerator.firstName(keys.random.nextInt(SIZE)));
+    }
+
+    @Benchmark
+    public long getEmployeeCount() {
+        return service.getEmployeeCount();
+    }
+}
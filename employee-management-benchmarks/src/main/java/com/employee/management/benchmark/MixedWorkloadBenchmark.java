@@ -0,0 +1,94 @@
+package com.employee.management.benchmark;
+
+import com.employee.management.repository.EmployeeRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrent mix of lookups and email/phone updates against one shared
+ * repository. Each nested class runs the same workload at a fixed thread
+ * count, so one run reports how throughput scales with threads; a
+ * writePercent of 0 measures pure read scaling.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public abstract class MixedWorkloadBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"memory", "indexed", "columnar", "concurrent"})
+    private String repository;
+
+    @Param({"0", "10", "50"})
+    private int writePercent;
+
+    private EmployeeRepository employees;
+
+    /**
+     * Per-thread operation selector, seeded by thread so runs are reproducible
+     */
+    @State(Scope.Thread)
+    public static class Operations {
+
+        private static final AtomicInteger THREADS = new AtomicInteger();
+
+        private SplittableRandom random;
+
+        @Setup
+        public void setUp() {
+            random = new SplittableRandom(EmployeeGenerator.DEFAULT_SEED + THREADS.getAndIncrement());
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.disableLogging();
+        employees = BenchmarkSupport.createRepository(repository, new EmployeeGenerator(), size);
+    }
+
+    @Benchmark
+    public boolean mixed(Operations operations) {
+        var random = operations.random;
+        var index = random.nextInt(size);
+        var firstName = EmployeeGenerator.firstName(index);
+        if (random.nextInt(100) < writePercent) {
+            return employees.updateEmailAndPhone(firstName, "mixed" + index + "@example.com", "9988776655");
+        }
+        return employees.findByFirstName(firstName).isPresent();
+    }
+
+    @Threads(1)
+    public static class Threads1 extends MixedWorkloadBenchmark {
+    }
+
+    @Threads(2)
+    public static class Threads2 extends MixedWorkloadBenchmark {
+    }
+
+    @Threads(4)
+    public static class Threads4 extends MixedWorkloadBenchmark {
+    }
+
+    @Threads(8)
+    public static class Threads8 extends MixedWorkloadBenchmark {
+    }
+}
@@ -0,0 +1,79 @@
+package com.employee.management.benchmark;
+
+import com.employee.management.model.DepartmentStats;
+import com.employee.management.model.Employee;
+import com.employee.management.service.EmployeeService;
+import com.employee.management.service.EmployeeServiceImpl;
+import com.employee.management.service.ParallelQueryConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service analytics in parallel mode across pool sizes. A parallelism of 0
+ * is the sequential baseline; sizes above the machine's core count show
+ * where scaling flattens.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelScalingBenchmark {
+
+    private static final LocalDate QUERY_DATE = LocalDate.of(2024, 6, 15);
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    @Param({"memory", "columnar"})
+    private String repository;
+
+    @Param({"0", "1", "2", "4", "8", "16", "32"})
+    private int parallelism;
+
+    private EmployeeService service;
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.disableLogging();
+        var employees = BenchmarkSupport.createRepository(repository, new EmployeeGenerator(), size);
+        service = parallelism == 0
+                ? new EmployeeServiceImpl(employees)
+                : new EmployeeServiceImpl(employees, new ParallelQueryConfig(0, parallelism));
+    }
+
+    @Benchmark
+    public Map<String, DepartmentStats> getDepartmentStats() {
+        return service.getDepartmentStats();
+    }
+
+    @Benchmark
+    public List<Employee> getTopNHighestPaid() {
+        return service.getTopNHighestPaid(100);
+    }
+
+    @Benchmark
+    public List<Map<String, String>> getFirstNameAndPhone() {
+        return service.getFirstNameAndPhone();
+    }
+
+    @Benchmark
+    public List<Map<String, String>> getEmployeesWithBirthdayOn() {
+        return service.getEmployeesWithBirthdayOn(QUERY_DATE);
+    }
+}
@@ -0,0 +1,92 @@
+package com.employee.management.benchmark;
+
+import com.employee.management.model.NameEmail;
+import com.employee.management.model.NamePhone;
+import com.employee.management.service.EmployeeService;
+import com.employee.management.service.EmployeeServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Map-based projections against the typed record lists and the
+ * allocation-free consumer variant. Run with {@code -prof gc} to compare
+ * bytes allocated per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectionBenchmark {
+
+    private static final LocalDate QUERY_DATE = LocalDate.of(2024, 6, 15);
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"memory", "indexed", "columnar"})
+    private String repository;
+
+    private EmployeeService service;
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.disableLogging();
+        service = new EmployeeServiceImpl(
+                BenchmarkSupport.createRepository(repository, new EmployeeGenerator(), size));
+    }
+
+    @Benchmark
+    public List<Map<String, String>> namePhoneMaps() {
+        return service.getFirstNameAndPhone();
+    }
+
+    @Benchmark
+    public List<NamePhone> namePhoneRecords() {
+        return service.getNamePhones();
+    }
+
+    @Benchmark
+    public void namePhoneConsumer(Blackhole blackhole) {
+        service.forEachNamePhone((firstName, phoneNumber) -> {
+            blackhole.consume(firstName);
+            blackhole.consume(phoneNumber);
+        });
+    }
+
+    @Benchmark
+    public List<Map<String, String>> birthdayMaps() {
+        return service.getEmployeesWithBirthdayOn(QUERY_DATE);
+    }
+
+    @Benchmark
+    public List<NameEmail> birthdayRecords() {
+        return service.getBirthdayContacts(QUERY_DATE);
+    }
+
+    @Benchmark
+    public List<Map<String, String>> anniversaryMaps() {
+        return service.getEmployeesWithAnniversaryOn(QUERY_DATE);
+    }
+
+    @Benchmark
+    public List<NamePhone> anniversaryRecords() {
+        return service.getAnniversaryContacts(QUERY_DATE);
+    }
+}
@@ -0,0 +1,90 @@
+package com.employee.management.benchmark;
+
+import com.employee.management.model.Employee;
+import com.employee.management.query.Condition;
+import com.employee.management.query.EmployeeField;
+import com.employee.management.query.Query;
+import com.employee.management.repository.EmployeeRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Repository-planned queries against the old approach of copying every
+ * employee with findAll and filtering in the caller. Setup fails the run if
+ * the two disagree.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QueryBenchmark {
+
+    private static final LocalDate QUERY_DATE = LocalDate.of(2024, 6, 15);
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"memory", "indexed", "columnar"})
+    private String repository;
+
+    @Param({"nameAndSalary", "email", "salaryRange", "birthdayInDepartment", "department"})
+    private String shape;
+
+    private EmployeeRepository employees;
+
+    private Query query;
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.disableLogging();
+        var generator = new EmployeeGenerator();
+        employees = BenchmarkSupport.createRepository(repository, generator, size);
+
+        var sample = generator.employee(size / 2);
+        query = switch (shape) {
+            case "nameAndSalary" -> Query.where(
+                    Condition.atLeast(EmployeeField.SALARY, 50_000),
+                    Condition.equalTo(EmployeeField.FIRST_NAME, sample.firstName()));
+            case "email" -> Query.where(
+                    Condition.equalTo(EmployeeField.EMAIL, sample.email()));
+            case "salaryRange" -> Query.where(
+                    Condition.between(EmployeeField.SALARY, sample.salary(), sample.salary() + 100));
+            case "birthdayInDepartment" -> Query.where(
+                    Condition.equalTo(EmployeeField.DEPARTMENT, sample.department()),
+                    Condition.celebratedOn(EmployeeField.DATE_OF_BIRTH, QUERY_DATE));
+            case "department" -> Query.where(
+                    Condition.equalTo(EmployeeField.DEPARTMENT, sample.department()));
+            default -> throw new IllegalArgumentException("Unknown query shape: " + shape);
+        };
+
+        if (!find().equals(filterAll())) {
+            throw new IllegalStateException("find disagrees with findAll filtering for " + query);
+        }
+        System.out.println("\nPlan: " + employees.explain(query));
+    }
+
+    @Benchmark
+    public List<Employee> find() {
+        return employees.find(query);
+    }
+
+    @Benchmark
+    public List<Employee> filterAll() {
+        return employees.findAll().stream().filter(query::matches).toList();
+    }
+}
@@ -0,0 +1,104 @@
+package com.employee.management.benchmark;
+
+import com.employee.management.model.Employee;
+import com.employee.management.repository.EmployeeRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Read-only throughput of one shared repository at 1, 2, 4 and 8 threads.
+ * The synchronized memory mode is the baseline: its readers serialize, so
+ * its total throughput stays flat, while the indexed mode's read lock lets
+ * readers run in parallel and throughput should grow with the thread count
+ * up to the number of cores.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public abstract class ReadScalingBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"memory", "indexed", "columnar", "concurrent"})
+    private String repository;
+
+    private EmployeeRepository employees;
+
+    /**
+     * Per-thread source of lookup keys, seeded by thread so runs are reproducible
+     */
+    @State(Scope.Thread)
+    public static class Keys {
+
+        private static final AtomicInteger THREADS = new AtomicInteger();
+
+        private SplittableRandom random;
+
+        @Setup
+        public void setUp() {
+            random = new SplittableRandom(EmployeeGenerator.DEFAULT_SEED + THREADS.getAndIncrement());
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.disableLogging();
+        employees = BenchmarkSupport.createRepository(repository, new EmployeeGenerator(), size);
+    }
+
+    @Benchmark
+    public Optional<Employee> findByFirstName(Keys keys) {
+        return employees.findByFirstName(EmployeeGenerator.firstName(keys.random.nextInt(size)));
+    }
+
+    @Benchmark
+    public boolean existsByFirstName(Keys keys) {
+        return employees.existsByFirstName(EmployeeGenerator.firstName(keys.random.nextInt(size)));
+    }
+
+    @Benchmark
+    public long count() {
+        return employees.count();
+    }
+
+    @Benchmark
+    public List<Employee> findAll() {
+        return employees.findAll();
+    }
+
+    @Threads(1)
+    public static class Threads1 extends ReadScalingBenchmark {
+    }
+
+    @Threads(2)
+    public static class Threads2 extends ReadScalingBenchmark {
+    }
+
+    @Threads(4)
+    public static class Threads4 extends ReadScalingBenchmark {
+    }
+
+    @Threads(8)
+    public static class Threads8 extends ReadScalingBenchmark {
+    }
+}
@@ -0,0 +1,130 @@
+package com.employee.management.benchmark;
+
+import com.employee.management.model.Employee;
+import com.employee.management.model.Page;
+import com.employee.management.repository.EmployeeRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read paths of every repository implementation: lookups by first name (hit
+ * and miss), full listings and the copy-free scan surface.
+ * Run with -prof gc to compare allocation of findAll against forEach/stream.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositoryReadBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"memory", "indexed", "columnar", "concurrent"})
+    private String repository;
+
+    private EmployeeRepository employees;
+
+    /**
+     * Cursor to the middle of the store, to show page cost is independent of position
+     */
+    private String middleCursor;
+
+    /**
+     * Per-thread source of lookup keys, seeded for reproducible access patterns
+     */
+    @State(Scope.Thread)
+    public static class Keys {
+
+        private SplittableRandom random;
+
+        @Setup
+        public void setUp() {
+            random = new SplittableRandom(EmployeeGenerator.DEFAULT_SEED);
+        }
+
+        String existing(int size) {
+            return EmployeeGenerator.firstName(random.nextInt(size));
+        }
+
+        String missing(int size) {
+            return EmployeeGenerator.firstName(size + random.nextInt(size));
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.disableLogging();
+        employees = BenchmarkSupport.createRepository(repository, new EmployeeGenerator(), size);
+        middleCursor = employees.findPage(null, size / 2).nextCursor();
+    }
+
+    @Benchmark
+    public Optional<Employee> findByFirstNameHit(Keys keys) {
+        return employees.findByFirstName(keys.existing(size));
+    }
+
+    @Benchmark
+    public Optional<Employee> findByFirstNameMiss(Keys keys) {
+        return employees.findByFirstName(keys.missing(size));
+    }
+
+    @Benchmark
+    public List<Employee> findAllByFirstName(Keys keys) {
+        return employees.findAllByFirstName(keys.existing(size));
+    }
+
+    @Benchmark
+    public boolean existsByFirstNameMiss(Keys keys) {
+        return employees.existsByFirstName(keys.missing(size));
+    }
+
+    @Benchmark
+    public List<Employee> findAll() {
+        return employees.findAll();
+    }
+
+    @Benchmark
+    public void forEach(Blackhole blackhole) {
+        employees.forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public Page<Employee> findFirstPage() {
+        return employees.findPage(null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Page<Employee> findMiddlePage() {
+        return employees.findPage(middleCursor, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public long streamCount() {
+        return employees.stream(stream -> stream.filter(employee -> employee.salary() > 100_000).count());
+    }
+
+    @Benchmark
+    public long count() {
+        return employees.count();
+    }
+}
@@ -0,0 +1,85 @@
+package com.employee.management.benchmark;
+
+import com.employee.management.model.Employee;
+import com.employee.management.repository.EmployeeRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mutations of every repository implementation. Each measured iteration
+ * starts from a freshly loaded repository and performs BATCH operations, so
+ * the data set stays at its nominal size instead of growing or draining over
+ * a time-based run. Scores are the time for the whole batch.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, batchSize = RepositoryWriteBenchmark.BATCH)
+@Measurement(iterations = 5, batchSize = RepositoryWriteBenchmark.BATCH)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositoryWriteBenchmark {
+
+    static final int BATCH = 1_000;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"memory", "indexed", "indexed-unique", "columnar", "concurrent"})
+    private String repository;
+
+    private List<Employee> data;
+
+    private List<Employee> additions;
+
+    private EmployeeRepository employees;
+
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        BenchmarkSupport.disableLogging();
+        var generator = new EmployeeGenerator();
+        data = generator.employees(size);
+        additions = generator.employees(size, BATCH);
+    }
+
+    @Setup(Level.Iteration)
+    public void load() {
+        employees = BenchmarkSupport.createRepository(repository, data);
+        cursor = 0;
+    }
+
+    @Benchmark
+    public void save() {
+        employees.save(additions.get(cursor++));
+    }
+
+    @Benchmark
+    public boolean updateEmailAndPhone() {
+        var index = (int) ((cursor++ * 0x9E3779B1L) % size);
+        // Below the generated range, so updated phone numbers never collide
+        return employees.updateEmailAndPhone(
+                EmployeeGenerator.firstName(index), "updated" + index + "@example.com",
+                Long.toString(5_000_000_000L + index));
+    }
+
+    @Benchmark
+    public boolean deleteByFirstName() {
+        // Spread deletes over the data set rather than always removing the oldest row
+        var index = (int) ((cursor++ * 0x9E3779B1L) % size);
+        return employees.deleteByFirstName(EmployeeGenerator.firstName(index));
+    }
+}
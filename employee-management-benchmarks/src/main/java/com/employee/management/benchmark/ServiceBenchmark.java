@@ -0,0 +1,105 @@
+package com.employee.management.benchmark;
+
+import com.employee.management.model.DepartmentStats;
+import com.employee.management.model.Employee;
+import com.employee.management.service.EmployeeService;
+import com.employee.management.service.EmployeeServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Every EmployeeService query over each repository implementation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServiceBenchmark {
+
+    private static final LocalDate QUERY_DATE = LocalDate.of(2024, 6, 15);
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"memory", "indexed", "columnar"})
+    private String repository;
+
+    private EmployeeService service;
+
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.disableLogging();
+        service = new EmployeeServiceImpl(
+                BenchmarkSupport.createRepository(repository, new EmployeeGenerator(), size));
+        random = new SplittableRandom(EmployeeGenerator.DEFAULT_SEED);
+    }
+
+    @Benchmark
+    public List<Employee> getEmployeesByFirstName() {
+        return service.getEmployeesByFirstName(EmployeeGenerator.firstName(random.nextInt(size)));
+    }
+
+    @Benchmark
+    public List<Map<String, String>> getFirstNameAndPhone() {
+        return service.getFirstNameAndPhone();
+    }
+
+    @Benchmark
+    public List<Map<String, String>> getEmployeesWithBirthdayOn() {
+        return service.getEmployeesWithBirthdayOn(QUERY_DATE);
+    }
+
+    @Benchmark
+    public List<Map<String, String>> getEmployeesWithAnniversaryOn() {
+        return service.getEmployeesWithAnniversaryOn(QUERY_DATE);
+    }
+
+    @Benchmark
+    public long getEmployeeCount() {
+        return service.getEmployeeCount();
+    }
+
+    @Benchmark
+    public Map<String, Double> getAverageSalaryByDepartment() {
+        return service.getAverageSalaryByDepartment();
+    }
+
+    @Benchmark
+    public Map<String, DepartmentStats> getDepartmentStats() {
+        return service.getDepartmentStats();
+    }
+
+    @Benchmark
+    public List<Employee> getTopThreeHighestPaid() {
+        return service.getTopThreeHighestPaid();
+    }
+
+    @Benchmark
+    public List<Employee> getTopNHighestPaid() {
+        return service.getTopNHighestPaid(100);
+    }
+
+    @Benchmark
+    public List<Employee> getBottomNLowestPaid() {
+        return service.getBottomNLowestPaid(100);
+    }
+}
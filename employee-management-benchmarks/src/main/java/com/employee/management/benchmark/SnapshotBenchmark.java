@@ -0,0 +1,88 @@
+package com.employee.management.benchmark;
+
+import com.employee.management.model.Employee;
+import com.employee.management.repository.EmployeeRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Writer latency while long analytics scans run alongside. One thread
+ * updates random employees and reports its latency distribution (read the
+ * {@code analytics:update} percentiles); another thread repeatedly totals
+ * salaries by department over the whole store, either through
+ * {@code stream} or over an {@code openSnapshot} view. Scans that hold the
+ * repository's read lock stall the writer for their full length; scans of
+ * a snapshot do not.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Group)
+public class SnapshotBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int size;
+
+    @Param({"memory", "indexed", "columnar", "concurrent"})
+    private String repository;
+
+    @Param({"stream", "snapshot"})
+    private String reader;
+
+    private EmployeeRepository employees;
+
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.disableLogging();
+        employees = BenchmarkSupport.createRepository(repository, new EmployeeGenerator(), size);
+        random = new SplittableRandom(EmployeeGenerator.DEFAULT_SEED);
+    }
+
+    @Benchmark
+    @Group("analytics")
+    @GroupThreads(1)
+    public boolean update() {
+        var index = random.nextInt(size);
+        return employees.updateEmailAndPhone(EmployeeGenerator.firstName(index),
+                "snapshot" + index + "@example.com", "9988776655");
+    }
+
+    @Benchmark
+    @Group("analytics")
+    @GroupThreads(1)
+    public Map<String, Double> scan() {
+        if (reader.equals("stream")) {
+            return employees.stream(SnapshotBenchmark::salaryByDepartment);
+        }
+        try (var snapshot = employees.openSnapshot()) {
+            return salaryByDepartment(snapshot.stream());
+        }
+    }
+
+    private static Map<String, Double> salaryByDepartment(Stream<Employee> employees) {
+        return employees.collect(Collectors.groupingBy(Employee::department, HashMap::new,
+                Collectors.summingDouble(Employee::salary)));
+    }
+}
@@ -0,0 +1,168 @@
+package com.employee.management.benchmark;
+
+import com.employee.management.util.FastInputValidator;
+import com.employee.management.util.InputValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Regex/DateTimeFormatter validation against FastInputValidator, on valid
+ * and invalid input. Setup first runs a differential check over a large
+ * generated corpus and fails the run if the two paths disagree on any input.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    private static final int CORPUS_SIZE = 1 << 12;
+
+    private static final int DIFFERENTIAL_SIZE = 500_000;
+
+    private static final String EMAIL_ALPHABET = "aZ09+_.-@";
+
+    private static final String DATE_ALPHABET = "0123456789-+ /";
+
+    @Param({"valid", "invalid"})
+    private String input;
+
+    private String[] emails;
+
+    private String[] phones;
+
+    private String[] dates;
+
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        var random = new SplittableRandom(EmployeeGenerator.DEFAULT_SEED);
+        verifyEquivalence(random);
+
+        var valid = input.equals("valid");
+        var generator = new EmployeeGenerator();
+        emails = new String[CORPUS_SIZE];
+        phones = new String[CORPUS_SIZE];
+        dates = new String[CORPUS_SIZE];
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            var employee = generator.employee(i);
+            var date = InputValidator.formatDate(employee.dateOfBirth());
+            emails[i] = valid ? employee.email() : employee.email().replace('.', '_');
+            phones[i] = valid ? employee.phoneNumber() : employee.phoneNumber().substring(1) + "x";
+            dates[i] = valid ? date : date.substring(0, 6) + "2O" + date.substring(8);
+        }
+    }
+
+    @Benchmark
+    public boolean regexEmail() {
+        return InputValidator.isValidEmail(emails[next()]);
+    }
+
+    @Benchmark
+    public boolean fastEmail() {
+        return FastInputValidator.isValidEmail(emails[next()]);
+    }
+
+    @Benchmark
+    public boolean regexPhone() {
+        return InputValidator.isValidPhone(phones[next()]);
+    }
+
+    @Benchmark
+    public boolean fastPhone() {
+        return FastInputValidator.isValidPhone(phones[next()]);
+    }
+
+    @Benchmark
+    public Object formatterDate() {
+        try {
+            return InputValidator.parseDate(dates[next()]);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public long fastDate() {
+        return FastInputValidator.parseDate(dates[next()]);
+    }
+
+    private int next() {
+        return cursor++ & (CORPUS_SIZE - 1);
+    }
+
+    /**
+     * Compares both paths on random strings, mutated near-valid values and
+     * edge cases; any disagreement aborts the benchmark
+     */
+    private static void verifyEquivalence(SplittableRandom random) {
+        var inputs = new ArrayList<>(List.of(
+                "", " ", "a@b.co", "a@b.c", "a@.co", "@b.co", "a@b..co", "a@b.co\n", "a@b@c.de", "a@b.co.",
+                "1234567890", "123456789", "12345678901", "29-02-2024", "29-02-2023", "31-04-2020", "00-01-2020",
+                "01-13-2020", "01-01-0000", "01-01-12345", "01-01-+12345", "01-01--123", " 01-01-2020", "2020-01-01"));
+        for (int i = 0; i < DIFFERENTIAL_SIZE; i++) {
+            inputs.add(switch (i % 4) {
+                case 0 -> randomString(random, EMAIL_ALPHABET, random.nextInt(12));
+                case 1 -> randomString(random, DATE_ALPHABET, random.nextInt(13));
+                case 2 -> String.format("%02d-%02d-%04d", random.nextInt(34), random.nextInt(14), random.nextInt(10_000));
+                default -> mutate(random, randomString(random, "aZ9+_.-", 1 + random.nextInt(4)) + "@"
+                        + randomString(random, "a9.-", random.nextInt(5)) + "." + randomString(random, "aZ9.", random.nextInt(5)));
+            });
+        }
+
+        for (var value : inputs) {
+            if (InputValidator.isValidEmail(value) != FastInputValidator.isValidEmail(value)) {
+                throw new IllegalStateException("Email validators disagree on '" + value + "'");
+            }
+            if (InputValidator.isValidPhone(value) != FastInputValidator.isValidPhone(value)) {
+                throw new IllegalStateException("Phone validators disagree on '" + value + "'");
+            }
+            LocalDate expected;
+            try {
+                expected = InputValidator.parseDate(value);
+            } catch (RuntimeException e) {
+                expected = null;
+            }
+            var packed = FastInputValidator.parseDate(value);
+            var actual = FastInputValidator.isError(packed) ? null : FastInputValidator.toLocalDate(packed);
+            if (expected == null ? actual != null : !expected.equals(actual)) {
+                throw new IllegalStateException("Date parsers disagree on '" + value + "'");
+            }
+        }
+    }
+
+    private static String randomString(SplittableRandom random, String alphabet, int length) {
+        var builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+
+    private static String mutate(SplittableRandom random, String value) {
+        if (random.nextInt(4) != 0) {
+            return value;
+        }
+        var builder = new StringBuilder(value);
+        builder.setCharAt(random.nextInt(builder.length()), EMAIL_ALPHABET.charAt(random.nextInt(EMAIL_ALPHABET.length())));
+        return builder.toString();
+    }
+}
@@ -1,19 +1,63 @@
 package com.employee.management;
 
+import com.employee.management.batch.BatchResult;
+import com.employee.management.batch.BatchRunner;
+import com.employee.management.batch.OutputFormat;
+import com.employee.management.cache.CacheConfig;
+import com.employee.management.cache.CachingEmployeeService;
 import com.employee.management.exception.DuplicateEmployeeException;
 import com.employee.management.exception.EmployeeNotFoundException;
 import com.employee.management.exception.InvalidInputException;
+import com.employee.management.exception.PersistenceException;
+import com.employee.management.io.CsvCodec;
+import com.employee.management.io.CsvEmployeeImporter;
+import com.employee.management.io.EmployeeExporter;
+import com.employee.management.metrics.InstrumentedEmployeeRepository;
+import com.employee.management.metrics.InstrumentedEmployeeService;
+import com.employee.management.metrics.MetricsRegistry;
 import com.employee.management.model.Employee;
+import com.employee.management.persistence.DurableEmployeeRepository;
+import com.employee.management.persistence.FsyncPolicy;
+import com.employee.management.persistence.PersistenceConfig;
+import com.employee.management.query.Condition;
+import com.employee.management.query.EmployeeField;
+import com.employee.management.query.Query;
+import com.employee.management.repository.ColumnarEmployeeRepository;
+import com.employee.management.repository.ConcurrentEmployeeRepository;
 import com.employee.management.repository.EmployeeRepository;
 import com.employee.management.repository.InMemoryEmployeeRepository;
+import com.employee.management.repository.IndexedEmployeeRepository;
+import com.employee.management.repository.UniqueConstraints;
+import com.employee.management.server.EmployeeHttpServer;
+import com.employee.management.server.ServerConfig;
 import com.employee.management.service.EmployeeService;
 import com.employee.management.service.EmployeeServiceImpl;
+import com.employee.management.service.ParallelQueryConfig;
 import com.employee.management.util.InputValidator;
 import com.employee.management.util.LoggerUtil;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
 import java.util.Scanner;
+import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 /**
  * Main console application for Employee Management System.
@@ -21,18 +65,79 @@ import java.util.logging.Logger;
 public class Main {
 
     private static final Logger LOGGER = LoggerUtil.getLogger(Main.class);
+    private static final String REPOSITORY_PROPERTY = "ems.repository";
+    private static final String DATA_DIR_PROPERTY = "ems.data.dir";
+    private static final String FSYNC_PROPERTY = "ems.fsync";
+    private static final String FSYNC_INTERVAL_PROPERTY = "ems.fsync.interval.ms";
+    private static final String SNAPSHOT_INTERVAL_PROPERTY = "ems.snapshot.interval.s";
+    private static final String PARALLEL_THRESHOLD_PROPERTY = "ems.parallel.threshold";
+    private static final String PARALLELISM_PROPERTY = "ems.parallelism";
+    private static final String METRICS_PROPERTY = "ems.metrics";
+    private static final String UNIQUE_PROPERTY = "ems.unique";
+    private static final String CACHE_SIZE_PROPERTY = "ems.cache.size";
+    private static final String CACHE_TTL_PROPERTY = "ems.cache.ttl.s";
+    private static final String SERVER_PORT_PROPERTY = "ems.server.port";
+    private static final String SERVER_THREADS_PROPERTY = "ems.server.threads";
+    private static final int DEFAULT_SERVER_THREADS = 64;
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+    private static final String BATCH_PROPERTY = "ems.batch";
+    private static final String BATCH_FORMAT_PROPERTY = "ems.batch.format";
+    private static final String BATCH_OUTPUT_PROPERTY = "ems.batch.output";
+    private static final String BATCH_VERBOSE_PROPERTY = "ems.batch.verbose";
+    private static final int BATCH_BUFFER_SIZE = 64 * 1024;
+    // Held so the level set for batch mode is not lost to garbage collection
+    private static final Logger APPLICATION_LOGGER = Logger.getLogger("com.employee.management");
+    private static final int LISTING_PAGE_SIZE = 20;
     private static final Scanner scanner = new Scanner(System.in);
+    private static EmployeeRepository repository;
     private static EmployeeService employeeService;
+    private static DurableEmployeeRepository durableRepository;
+    private static CachingEmployeeService cachingService;
 
     public static void main(String[] args) {
+        var batchScript = System.getProperty(BATCH_PROPERTY);
+        if (batchScript != null && !Boolean.getBoolean(BATCH_VERBOSE_PROPERTY)) {
+            // Failed commands are already reported in the batch output; per-operation
+            // records would cost more than the operations themselves
+            APPLICATION_LOGGER.setLevel(Level.SEVERE);
+        }
         LOGGER.info("Starting Employee Management System");
 
         // Initialize repository and service
-        EmployeeRepository repository = new InMemoryEmployeeRepository();
-        employeeService = new EmployeeServiceImpl(repository);
+        var metricsEnabled = Boolean.getBoolean(METRICS_PROPERTY);
+        repository = createRepository();
+        if (metricsEnabled) {
+            repository = instrument(repository);
+        }
+        employeeService = createService(repository);
+        if (Integer.getInteger(CACHE_SIZE_PROPERTY) != null) {
+            employeeService = cache(employeeService);
+        }
+        if (metricsEnabled) {
+            employeeService = instrument(employeeService);
+        }
 
-        // Pre-populate with sample data
-        initializeSampleData();
+        if (batchScript != null) {
+            var failed = runBatch(batchScript);
+            if (durableRepository != null) {
+                durableRepository.close();
+            }
+            if (failed) {
+                System.exit(1);
+            }
+            return;
+        }
+
+        // Pre-populate with sample data unless state was recovered from disk
+        if (repository.count() == 0) {
+            initializeSampleData();
+        }
+
+        var serverPort = Integer.getInteger(SERVER_PORT_PROPERTY);
+        if (serverPort != null) {
+            serve(serverPort);
+            return;
+        }
 
         // Display welcome message
         displayWelcome();
@@ -53,10 +158,171 @@ public class Main {
         }
 
         scanner.close();
+        if (cachingService != null) {
+            LOGGER.info(() -> "Result cache: " + cachingService.cache().stats());
+        }
+        if (durableRepository != null) {
+            durableRepository.close();
+        }
         LOGGER.info("Employee Management System terminated");
         System.out.println("\nThank you for using Employee Management System!");
     }
 
+    /**
+     * Serves the service over HTTP instead of the console menu; the server
+     * runs until the JVM shuts down
+     */
+    private static void serve(int port) {
+        // Must be set before the first HTTP server is created; see EmployeeHttpServer
+        if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+            System.setProperty(NO_DELAY_PROPERTY, "true");
+        }
+        var config = new ServerConfig(port, Integer.getInteger(SERVER_THREADS_PROPERTY, DEFAULT_SERVER_THREADS));
+        var server = new EmployeeHttpServer(employeeService, config);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close, "server-shutdown"));
+        server.start();
+        System.out.println("Employee Management System serving on http://localhost:" + server.port() + "/employees");
+    }
+
+    /**
+     * Runs the command script named by the ems.batch system property ("-" for
+     * standard input) against the service instead of the console menu, with
+     * all results rendered through one buffered writer. Returns whether any
+     * command failed.
+     */
+    private static boolean runBatch(String script) {
+        var format = OutputFormat.valueOf(System.getProperty(BATCH_FORMAT_PROPERTY, "text").toUpperCase(Locale.ROOT));
+        var runner = new BatchRunner(employeeService, format);
+        var outputFile = System.getProperty(BATCH_OUTPUT_PROPERTY);
+
+        try (var reader = openBatchScript(script)) {
+            BatchResult result;
+            if (outputFile == null) {
+                // Standard output is flushed by the runner but left open
+                var out = new BufferedWriter(new OutputStreamWriter(
+                        new FileOutputStream(FileDescriptor.out), StandardCharsets.UTF_8), BATCH_BUFFER_SIZE);
+                result = runner.run(reader, out);
+            } else {
+                try (Writer out = Files.newBufferedWriter(Path.of(outputFile), StandardCharsets.UTF_8)) {
+                    result = runner.run(reader, out);
+                }
+            }
+            System.err.printf("Batch: %d commands, %d failed in %d ms (%.0f commands/sec)%n",
+                    result.commands(), result.failures(), result.elapsed().toMillis(), result.commandsPerSecond());
+            return result.failures() > 0;
+        } catch (IOException | InvalidPathException e) {
+            System.err.println("✗ Batch failed: " + e.getMessage());
+            return true;
+        }
+    }
+
+    private static BufferedReader openBatchScript(String script) throws IOException {
+        if (script.equals("-")) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8), BATCH_BUFFER_SIZE);
+        }
+        return Files.newBufferedReader(Path.of(script), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Selects the repository implementation from the ems.repository system property
+     */
+    private static EmployeeRepository createRepository() {
+        var mode = System.getProperty(REPOSITORY_PROPERTY, "memory");
+        LOGGER.info("Using repository mode: " + mode);
+
+        var repository = createInMemoryRepository(mode);
+
+        var dataDir = System.getProperty(DATA_DIR_PROPERTY);
+        if (dataDir == null || dataDir.isBlank()) {
+            return repository;
+        }
+
+        var config = new PersistenceConfig(
+                Path.of(dataDir),
+                FsyncPolicy.valueOf(System.getProperty(FSYNC_PROPERTY, "always").toUpperCase(Locale.ROOT)),
+                Duration.ofMillis(Long.getLong(FSYNC_INTERVAL_PROPERTY, 10)),
+                Duration.ofSeconds(Long.getLong(SNAPSHOT_INTERVAL_PROPERTY, 300)));
+        durableRepository = new DurableEmployeeRepository(repository, config);
+        Runtime.getRuntime().addShutdownHook(new Thread(durableRepository::close, "repository-shutdown"));
+        return durableRepository;
+    }
+
+    /**
+     * Wraps the repository with latency metrics and registers them as MBeans
+     */
+    private static EmployeeRepository instrument(EmployeeRepository repository) {
+        var metrics = new MetricsRegistry("Repository");
+        var instrumented = new InstrumentedEmployeeRepository(repository, metrics);
+        metrics.registerMBeans(ManagementFactory.getPlatformMBeanServer());
+        return instrumented;
+    }
+
+    /**
+     * Wraps the service with latency metrics and registers them as MBeans
+     */
+    private static EmployeeService instrument(EmployeeService service) {
+        var metrics = new MetricsRegistry("Service");
+        var instrumented = new InstrumentedEmployeeService(service, metrics);
+        metrics.registerMBeans(ManagementFactory.getPlatformMBeanServer());
+        return instrumented;
+    }
+
+    /**
+     * Caches service results, sized by the ems.cache.size system property,
+     * and registers the cache counters as an MBean
+     */
+    private static EmployeeService cache(EmployeeService service) {
+        var config = new CacheConfig(
+                Integer.getInteger(CACHE_SIZE_PROPERTY),
+                Duration.ofSeconds(Long.getLong(CACHE_TTL_PROPERTY, 60)));
+        cachingService = new CachingEmployeeService(service, config);
+        cachingService.cache().registerMBean(ManagementFactory.getPlatformMBeanServer());
+        return cachingService;
+    }
+
+    /**
+     * Enables parallel analytics when the ems.parallel.threshold system property is set
+     */
+    private static EmployeeService createService(EmployeeRepository repository) {
+        var threshold = Integer.getInteger(PARALLEL_THRESHOLD_PROPERTY);
+        if (threshold == null) {
+            return new EmployeeServiceImpl(repository);
+        }
+
+        var parallelism = Integer.getInteger(PARALLELISM_PROPERTY, Runtime.getRuntime().availableProcessors());
+        return new EmployeeServiceImpl(repository, new ParallelQueryConfig(threshold, parallelism));
+    }
+
+    /**
+     * Reads uniqueness constraints from the ems.unique system property,
+     * a comma-separated list of "email" and "phone"
+     */
+    private static UniqueConstraints uniqueConstraints() {
+        var fields = Arrays.stream(System.getProperty(UNIQUE_PROPERTY, "").split(","))
+                .map(field -> field.trim().toLowerCase(Locale.ROOT))
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toCollection(HashSet::new));
+        var email = fields.remove("email");
+        var phoneNumber = fields.remove("phone");
+        if (!fields.isEmpty()) {
+            LOGGER.warning("Ignoring unknown unique fields: " + fields);
+        }
+        return new UniqueConstraints(email, phoneNumber);
+    }
+
+    private static EmployeeRepository createInMemoryRepository(String mode) {
+        return switch (mode) {
+            case "indexed" -> new IndexedEmployeeRepository(uniqueConstraints());
+            case "columnar" -> new ColumnarEmployeeRepository();
+            case "concurrent" -> new ConcurrentEmployeeRepository();
+            case "memory" -> new InMemoryEmployeeRepository();
+            default -> {
+                LOGGER.warning("Unknown repository mode '" + mode + "', falling back to memory");
+                yield new InMemoryEmployeeRepository();
+            }
+        };
+    }
+
     private static void displayWelcome() {
         System.out.println("""
                 ╔════════════════════════════════════════════════════════╗
@@ -80,7 +346,12 @@ public class Main {
                 │  8.  Get Employee Count                           │
                 │  9.  Get Average Salary by Department             │
                 │  10. Get Top 3 Highest Paid Employees             │
-                │  11. Exit                                         │
+                │  11. Import Employees from CSV                    │
+                │  12. Export Employees to File                     │
+                │  13. Search by Department & Salary Range          │
+                │  14. Get Employees by Department                  │
+                │  15. Find Employee by Email or Phone              │
+                │  16. Exit                                         │
                 └───────────────────────────────────────────────────┘
                 """);
     }
@@ -130,11 +401,31 @@ public class Main {
                 yield true;
             }
             case 11 -> {
+                importEmployees();
+                yield true;
+            }
+            case 12 -> {
+                exportEmployees();
+                yield true;
+            }
+            case 13 -> {
+                searchEmployees();
+                yield true;
+            }
+            case 14 -> {
+                getEmployeesByDepartment();
+                yield true;
+            }
+            case 15 -> {
+                findEmployeeByContact();
+                yield true;
+            }
+            case 16 -> {
                 System.out.println("Exiting...");
                 yield false;
             }
             default -> {
-                System.out.println("Invalid choice! Please enter a number between 1 and 11.");
+                System.out.println("Invalid choice! Please enter a number between 1 and 16.");
                 yield true;
             }
         };
@@ -189,17 +480,28 @@ public class Main {
     private static void getFirstNameAndPhone() {
         System.out.println("═══ All Employees (First Name & Phone) ═══\n");
 
-        var list = employeeService.getFirstNameAndPhone();
+        var page = employeeService.getNamePhonesPage(null, LISTING_PAGE_SIZE);
 
-        if (list.isEmpty()) {
+        if (page.items().isEmpty()) {
             System.out.println("No employees found.");
-        } else {
-            System.out.printf("%-20s %-15s%n", "First Name", "Phone Number");
-            System.out.println("─".repeat(35));
-            list.forEach(emp -> System.out.printf("%-20s %-15s%n",
-                    emp.get("firstName"), emp.get("phoneNumber")));
-            System.out.println("\nTotal: " + list.size() + " employee(s)");
+            return;
         }
+
+        System.out.printf("%-20s %-15s%n", "First Name", "Phone Number");
+        System.out.println("─".repeat(35));
+        long shown = 0;
+        while (true) {
+            for (var emp : page.items()) {
+                System.out.printf("%-20s %-15s%n", emp.firstName(), emp.phoneNumber());
+            }
+            shown += page.items().size();
+            if (!page.hasNext()
+                    || readString("-- Press Enter for more, or q to stop: ").equalsIgnoreCase("q")) {
+                break;
+            }
+            page = employeeService.getNamePhonesPage(page.nextCursor(), LISTING_PAGE_SIZE);
+        }
+        System.out.println("\nShown: " + shown + " of " + employeeService.getEmployeeCount() + " employee(s)");
     }
 
     private static void updateEmailAndPhone() {
@@ -213,7 +515,7 @@ public class Main {
             employeeService.updateEmailAndPhone(firstName, email, phoneNumber);
             System.out.println("\n✓ Employee updated successfully!");
 
-        } catch (EmployeeNotFoundException | InvalidInputException e) {
+        } catch (EmployeeNotFoundException | InvalidInputException | DuplicateEmployeeException e) {
             System.err.println("✗ Error: " + e.getMessage());
         }
     }
@@ -244,7 +546,7 @@ public class Main {
             var dateStr = readString("Enter Date (dd-MM-yyyy): ");
             var date = InputValidator.parseDate(dateStr);
 
-            var list = employeeService.getEmployeesWithBirthdayOn(date);
+            var list = employeeService.getBirthdayContacts(date);
 
             if (list.isEmpty()) {
                 System.out.println("\nNo employees found with birthday on " + dateStr);
@@ -253,7 +555,7 @@ public class Main {
                 System.out.printf("%-20s %-30s%n", "First Name", "Email");
                 System.out.println("─".repeat(50));
                 list.forEach(emp -> System.out.printf("%-20s %-30s%n",
-                        emp.get("firstName"), emp.get("email")));
+                        emp.firstName(), emp.email()));
                 System.out.println("\nTotal: " + list.size() + " employee(s)");
             }
 
@@ -269,7 +571,7 @@ public class Main {
             var dateStr = readString("Enter Date (dd-MM-yyyy): ");
             var date = InputValidator.parseDate(dateStr);
 
-            var list = employeeService.getEmployeesWithAnniversaryOn(date);
+            var list = employeeService.getAnniversaryContacts(date);
 
             if (list.isEmpty()) {
                 System.out.println("\nNo employees found with anniversary on " + dateStr);
@@ -278,7 +580,7 @@ public class Main {
                 System.out.printf("%-20s %-15s%n", "First Name", "Phone Number");
                 System.out.println("─".repeat(35));
                 list.forEach(emp -> System.out.printf("%-20s %-15s%n",
-                        emp.get("firstName"), emp.get("phoneNumber")));
+                        emp.firstName(), emp.phoneNumber()));
                 System.out.println("\nTotal: " + list.size() + " employee(s)");
             }
 
@@ -308,6 +610,84 @@ public class Main {
         }
     }
 
+    private static void searchEmployees() {
+        System.out.println("═══ Search by Department & Salary Range ═══\n");
+
+        try {
+            var query = Query.where();
+            var department = readString("Department [Press Enter for any]: ");
+            if (!department.isEmpty()) {
+                query = query.and(Condition.equalTo(EmployeeField.DEPARTMENT, department));
+            }
+            var minSalary = readString("Minimum Salary [Press Enter for none]: ");
+            if (!minSalary.isEmpty()) {
+                query = query.and(Condition.atLeast(EmployeeField.SALARY, parseSalary(minSalary)));
+            }
+            var maxSalary = readString("Maximum Salary [Press Enter for none]: ");
+            if (!maxSalary.isEmpty()) {
+                query = query.and(Condition.atMost(EmployeeField.SALARY, parseSalary(maxSalary)));
+            }
+
+            var list = employeeService.findEmployees(query);
+
+            if (list.isEmpty()) {
+                System.out.println("\nNo matching employees found.");
+            } else {
+                System.out.printf("%n%-25s %-20s %-15s%n", "Name", "Department", "Salary");
+                System.out.println("─".repeat(60));
+                list.forEach(emp -> System.out.printf("%-25s %-20s ₹%-14.2f%n",
+                        emp.getFullName(), emp.department(), emp.salary()));
+                System.out.println("\nTotal: " + list.size() + " employee(s)");
+            }
+            System.out.println("Plan: " + employeeService.explain(query));
+
+        } catch (InvalidInputException e) {
+            System.err.println("✗ Error: " + e.getMessage());
+        }
+    }
+
+    private static double parseSalary(String input) {
+        try {
+            return Double.parseDouble(input);
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException("Invalid salary: " + input, e);
+        }
+    }
+
+    private static void getEmployeesByDepartment() {
+        System.out.println("═══ Get Employees by Department ═══\n");
+
+        try {
+            var department = readString("Enter Department: ");
+            var list = employeeService.getEmployeesByDepartment(department);
+
+            System.out.printf("%n%-25s %-30s %-15s%n", "Name", "Email", "Phone Number");
+            System.out.println("─".repeat(70));
+            list.forEach(emp -> System.out.printf("%-25s %-30s %-15s%n",
+                    emp.getFullName(), emp.email(), emp.phoneNumber()));
+            System.out.println("\nTotal: " + list.size() + " employee(s)");
+
+        } catch (EmployeeNotFoundException | InvalidInputException e) {
+            System.err.println("✗ Error: " + e.getMessage());
+        }
+    }
+
+    private static void findEmployeeByContact() {
+        System.out.println("═══ Find Employee by Email or Phone ═══\n");
+
+        try {
+            var contact = readString("Enter Email or Phone Number: ");
+            var list = contact.contains("@")
+                    ? employeeService.getEmployeesByEmail(contact)
+                    : employeeService.getEmployeesByPhoneNumber(contact);
+
+            list.forEach(emp -> System.out.println(emp.toFormattedString()));
+
+        } catch (EmployeeNotFoundException | InvalidInputException e) {
+            System.err.println("✗ Error: " + e.getMessage());
+        }
+    }
+
     private static void getTopThreeHighestPaid() {
         System.out.println("═══ Top 3 Highest Paid Employees ═══\n");
 
@@ -328,6 +708,55 @@ public class Main {
         }
     }
 
+    private static void importEmployees() {
+        System.out.println("═══ Import Employees from CSV ═══\n");
+        System.out.println("Columns: " + String.join(",", CsvCodec.HEADER) + "\n");
+
+        try (var importer = new CsvEmployeeImporter(repository)) {
+            var file = readString("CSV File Path: ");
+            var result = importer.importFile(Path.of(file));
+
+            System.out.printf("%n✓ Imported %d employee(s), rejected %d row(s) in %.2f s (%.0f rows/sec)%n",
+                    result.accepted(), result.rejected(),
+                    result.elapsed().toMillis() / 1000.0, result.rowsPerSecond());
+            result.errors().forEach(error -> System.out.printf("  line %-8d %s%n",
+                    error.lineNumber(), error.message()));
+            if (result.rejected() > result.errors().size()) {
+                System.out.println("  ... " + (result.rejected() - result.errors().size()) + " more rejected row(s)");
+            }
+
+        } catch (PersistenceException | InvalidPathException e) {
+            System.err.println("✗ Error: " + e.getMessage());
+        } finally {
+            // The import writes to the repository directly, bypassing cache invalidation
+            if (cachingService != null) {
+                cachingService.invalidateAll();
+            }
+        }
+    }
+
+    private static void exportEmployees() {
+        System.out.println("═══ Export Employees to File ═══\n");
+
+        try {
+            var file = readString("Output File Path: ");
+            var formatStr = readString("Format (csv/binary) [csv]: ");
+            var format = formatStr.isBlank()
+                    ? EmployeeExporter.Format.CSV
+                    : EmployeeExporter.Format.valueOf(formatStr.toUpperCase(Locale.ROOT));
+
+            var start = System.nanoTime();
+            var exported = new EmployeeExporter(repository).export(Path.of(file), format);
+            System.out.printf("%n✓ Exported %d employee(s) in %.2f s%n",
+                    exported, (System.nanoTime() - start) / 1_000_000_000.0);
+
+        } catch (PersistenceException | InvalidPathException e) {
+            System.err.println("✗ Error: " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            System.err.println("✗ Error: Unknown format, expected csv or binary");
+        }
+    }
+
     private static void initializeSampleData() {
         LOGGER.info("Initializing sample data");
 
@@ -408,7 +837,11 @@ public class Main {
             try {
                 System.out.print(prompt);
                 var input = scanner.nextLine().trim();
-                return Double.parseDouble(input);
+                var value = Double.parseDouble(input);
+                if (Double.isFinite(value)) {
+                    return value;
+                }
+                System.out.println("Invalid input! Please enter a valid number.");
             } catch (NumberFormatException e) {
                 System.out.println("Invalid input! Please enter a valid number.");
             }
@@ -0,0 +1,17 @@
+package com.employee.management.batch;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a batch run.
+ */
+public record BatchResult(long commands, long failures, Duration elapsed) {
+
+    /**
+     * Returns the number of commands executed per second
+     */
+    public double commandsPerSecond() {
+        var seconds = elapsed.toNanos() / 1_000_000_000.0;
+        return seconds == 0 ? 0.0 : commands / seconds;
+    }
+}
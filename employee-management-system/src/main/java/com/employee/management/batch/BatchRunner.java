@@ -0,0 +1,186 @@
+package com.employee.management.batch;
+
+import com.employee.management.exception.InvalidInputException;
+import com.employee.management.io.CsvCodec;
+import com.employee.management.model.Employee;
+import com.employee.management.model.Page;
+import com.employee.management.service.EmployeeService;
+import com.employee.management.util.LoggerUtil;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.logging.Logger;
+
+/**
+ * Runs a script of service commands back to back, without prompts.
+ * Each line is one command followed by its arguments, comma-separated with
+ * the quoting rules of the CSV import; blank lines and lines starting with
+ * '#' are skipped. Dates are dd-MM-yyyy.
+ *
+ * <pre>
+ * add,firstName,lastName,department,address,email,phoneNumber,dateOfBirth,weddingDate,salary
+ * update,firstName,email,phoneNumber
+ * delete,firstName
+ * get,firstName            department,name        email,address       phone,number
+ * list                     contacts               count
+ * average-salary           department-stats       top-paid[,n]        lowest-paid[,n]
+ * birthdays,date           anniversaries,date
+ * </pre>
+ *
+ * A failing command is reported in the output and the run continues.
+ */
+public class BatchRunner {
+
+    private static final Logger LOGGER = LoggerUtil.getLogger(BatchRunner.class);
+
+    /**
+     * Employees fetched per page by the list command
+     */
+    private static final int LIST_PAGE_SIZE = 10_000;
+
+    private static final int DEFAULT_RANK_SIZE = 3;
+
+    private final EmployeeService service;
+
+    private final OutputFormat format;
+
+    public BatchRunner(EmployeeService service, OutputFormat format) {
+        this.service = service;
+        this.format = format;
+    }
+
+    /**
+     * Executes every command of the script and writes the results. The
+     * writer is flushed at the end but not closed.
+     */
+    public BatchResult run(BufferedReader script, Writer out) throws IOException {
+        var start = System.nanoTime();
+        var writer = new BatchWriter(out, format);
+        long lineNumber = 0;
+        long commands = 0;
+        long failures = 0;
+
+        String line;
+        while ((line = script.readLine()) != null) {
+            lineNumber++;
+            var source = line.strip();
+            if (source.isEmpty() || source.startsWith("#")) {
+                continue;
+            }
+
+            commands++;
+            var command = "";
+            try {
+                var fields = CsvCodec.parseLine(source);
+                command = fields.get(0).trim().toLowerCase(Locale.ROOT);
+                writer.result(lineNumber, command, source, execute(command, fields.subList(1, fields.size())));
+            } catch (RuntimeException e) {
+                failures++;
+                writer.error(lineNumber, command, source, e.getMessage());
+            }
+        }
+        out.flush();
+
+        var result = new BatchResult(commands, failures, Duration.ofNanos(System.nanoTime() - start));
+        LOGGER.info(() -> String.format("Batch finished: %d commands, %d failed, %.0f commands/sec",
+                result.commands(), result.failures(), result.commandsPerSecond()));
+        return result;
+    }
+
+    private Object execute(String command, List<String> arguments) {
+        return switch (command) {
+            case "add" -> {
+                service.addEmployee(CsvCodec.parseEmployee(arguments));
+                yield null;
+            }
+            case "update" -> {
+                expectArguments(command, arguments, 3);
+                service.updateEmailAndPhone(argument(arguments, 0), argument(arguments, 1), argument(arguments, 2));
+                yield null;
+            }
+            case "delete" -> {
+                expectArguments(command, arguments, 1);
+                service.deleteByFirstName(argument(arguments, 0));
+                yield null;
+            }
+            case "get" -> service.getEmployeesByFirstName(single(command, arguments));
+            case "department" -> service.getEmployeesByDepartment(single(command, arguments));
+            case "email" -> service.getEmployeesByEmail(single(command, arguments));
+            case "phone" -> service.getEmployeesByPhoneNumber(single(command, arguments));
+            case "list" -> allEmployees();
+            case "contacts" -> service.getNamePhones();
+            case "count" -> service.getEmployeeCount();
+            case "average-salary" -> service.getAverageSalaryByDepartment();
+            case "department-stats" -> service.getDepartmentStats();
+            case "top-paid" -> service.getTopNHighestPaid(rankSize(command, arguments));
+            case "lowest-paid" -> service.getBottomNLowestPaid(rankSize(command, arguments));
+            case "birthdays" -> service.getBirthdayContacts(CsvCodec.parseDate(single(command, arguments)));
+            case "anniversaries" -> service.getAnniversaryContacts(CsvCodec.parseDate(single(command, arguments)));
+            default -> throw new InvalidInputException("Unknown command: " + command);
+        };
+    }
+
+    /**
+     * Every employee in insertion order, fetched a page at a time while the
+     * output is written
+     */
+    private Iterable<Employee> allEmployees() {
+        return () -> new Iterator<>() {
+
+            private Page<Employee> page = service.getEmployeesPage(null, LIST_PAGE_SIZE);
+
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                while (index == page.items().size() && page.hasNext()) {
+                    page = service.getEmployeesPage(page.nextCursor(), LIST_PAGE_SIZE);
+                    index = 0;
+                }
+                return index < page.items().size();
+            }
+
+            @Override
+            public Employee next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return page.items().get(index++);
+            }
+        };
+    }
+
+    private static int rankSize(String command, List<String> arguments) {
+        if (arguments.isEmpty()) {
+            return DEFAULT_RANK_SIZE;
+        }
+        var value = single(command, arguments);
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException("Expected a number of employees for " + command + ": " + value, e);
+        }
+    }
+
+    private static String single(String command, List<String> arguments) {
+        expectArguments(command, arguments, 1);
+        return argument(arguments, 0);
+    }
+
+    private static String argument(List<String> arguments, int index) {
+        return arguments.get(index).trim();
+    }
+
+    private static void expectArguments(String command, List<String> arguments, int count) {
+        if (arguments.size() != count) {
+            throw new InvalidInputException("Command '" + command + "' takes " + count
+                    + " argument(s) but got " + arguments.size());
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.employee.management.batch;
+
+import com.employee.management.io.JsonCodec;
+import com.employee.management.model.DepartmentStats;
+import com.employee.management.model.Employee;
+import com.employee.management.model.NameEmail;
+import com.employee.management.model.NamePhone;
+import com.employee.management.util.InputValidator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders command results in one {@link OutputFormat}. Rows are written
+ * straight to the writer without intermediate strings per row, so a
+ * buffered writer only flushes when its buffer fills.
+ */
+final class BatchWriter {
+
+    private final Writer out;
+
+    private final OutputFormat format;
+
+    private final String separator;
+
+    BatchWriter(Writer out, OutputFormat format) {
+        this.out = out;
+        this.format = format;
+        this.separator = format == OutputFormat.TSV ? "\t" : " | ";
+    }
+
+    /**
+     * Writes the result of a command; null for commands without one
+     */
+    void result(long lineNumber, String command, String source, Object result) throws IOException {
+        switch (format) {
+            case TEXT -> {
+                header(lineNumber, source);
+                if (result == null) {
+                    out.write("  ok\n");
+                    return;
+                }
+                var empty = true;
+                for (var row : rows(result)) {
+                    empty = false;
+                    out.write("  ");
+                    fields(row);
+                    out.write('\n');
+                }
+                if (empty) {
+                    out.write("  (none)\n");
+                }
+            }
+            case TSV -> {
+                var empty = true;
+                if (result != null) {
+                    for (var row : rows(result)) {
+                        empty = false;
+                        prefix(lineNumber, command, "ok");
+                        out.write('\t');
+                        fields(row);
+                        out.write('\n');
+                    }
+                }
+                if (empty) {
+                    prefix(lineNumber, command, "ok");
+                    out.write('\n');
+                }
+            }
+            case JSON -> {
+                jsonPrefix(lineNumber, command, "ok");
+                if (result != null) {
+                    out.write(",\"result\":");
+                    json(result);
+                }
+                out.write("}\n");
+            }
+        }
+    }
+
+    /**
+     * Writes the failure of a command
+     */
+    void error(long lineNumber, String command, String source, String message) throws IOException {
+        var text = message == null ? "Unknown error" : message;
+        switch (format) {
+            case TEXT -> {
+                header(lineNumber, source);
+                out.write("  error: ");
+                out.write(text);
+                out.write('\n');
+            }
+            case TSV -> {
+                prefix(lineNumber, command, "error");
+                out.write('\t');
+                field(text);
+                out.write('\n');
+            }
+            case JSON -> {
+                jsonPrefix(lineNumber, command, "error");
+                out.write(",\"error\":");
+                out.write(JsonCodec.toJson(text));
+                out.write("}\n");
+            }
+        }
+    }
+
+    private void header(long lineNumber, String source) throws IOException {
+        out.write('[');
+        out.write(Long.toString(lineNumber));
+        out.write("] ");
+        out.write(source);
+        out.write('\n');
+    }
+
+    private void prefix(long lineNumber, String command, String status) throws IOException {
+        out.write(Long.toString(lineNumber));
+        out.write('\t');
+        field(command);
+        out.write('\t');
+        out.write(status);
+    }
+
+    private void jsonPrefix(long lineNumber, String command, String status) throws IOException {
+        out.write("{\"line\":");
+        out.write(Long.toString(lineNumber));
+        out.write(",\"command\":");
+        out.write(JsonCodec.toJson(command));
+        out.write(",\"status\":\"");
+        out.write(status);
+        out.write('"');
+    }
+
+    /**
+     * Streams iterables item by item, so paged listings never sit in memory whole
+     */
+    private void json(Object result) throws IOException {
+        if (!(result instanceof Iterable<?> items)) {
+            out.write(JsonCodec.toJson(result));
+            return;
+        }
+        out.write('[');
+        var first = true;
+        for (var item : items) {
+            if (!first) {
+                out.write(',');
+            }
+            first = false;
+            out.write(JsonCodec.toJson(item));
+        }
+        out.write(']');
+    }
+
+    private static Iterable<?> rows(Object result) {
+        if (result instanceof Map<?, ?> map) {
+            return map.entrySet();
+        }
+        if (result instanceof Iterable<?> items) {
+            return items;
+        }
+        return List.of(result);
+    }
+
+    private void fields(Object row) throws IOException {
+        if (row instanceof Employee employee) {
+            field(employee.firstName());
+            separator();
+            field(employee.lastName());
+            separator();
+            field(employee.department());
+            separator();
+            field(employee.address() == null ? "" : employee.address());
+            separator();
+            field(employee.email());
+            separator();
+            field(employee.phoneNumber());
+            separator();
+            field(InputValidator.formatDate(employee.dateOfBirth()));
+            separator();
+            field(InputValidator.formatDate(employee.weddingDate()));
+            separator();
+            out.write(Double.toString(employee.salary()));
+        } else if (row instanceof NamePhone contact) {
+            field(contact.firstName());
+            separator();
+            field(contact.phoneNumber());
+        } else if (row instanceof NameEmail contact) {
+            field(contact.firstName());
+            separator();
+            field(contact.email());
+        } else if (row instanceof DepartmentStats stats) {
+            field(stats.department());
+            separator();
+            out.write(Long.toString(stats.employeeCount()));
+            separator();
+            out.write(Double.toString(stats.totalSalary()));
+            separator();
+            out.write(Double.toString(stats.minSalary()));
+            separator();
+            out.write(Double.toString(stats.maxSalary()));
+            separator();
+            out.write(Double.toString(stats.averageSalary()));
+        } else if (row instanceof Map.Entry<?, ?> entry) {
+            if (entry.getValue() instanceof DepartmentStats) {
+                // Statistics already lead with their department
+                fields(entry.getValue());
+                return;
+            }
+            field(String.valueOf(entry.getKey()));
+            separator();
+            fields(entry.getValue());
+        } else {
+            field(String.valueOf(row));
+        }
+    }
+
+    private void separator() throws IOException {
+        out.write(separator);
+    }
+
+    private void field(String value) throws IOException {
+        if (format != OutputFormat.TSV || !needsEscaping(value)) {
+            out.write(value);
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            switch (c) {
+                case '\t' -> out.write("\\t");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\\' -> out.write("\\\\");
+                default -> out.write(c);
+            }
+        }
+    }
+
+    private static boolean needsEscaping(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            if (c == '\t' || c == '\n' || c == '\r' || c == '\\') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,25 @@
+package com.employee.management.batch;
+
+/**
+ * Rendering of batch command results.
+ */
+public enum OutputFormat {
+
+    /**
+     * Each command line echoed, followed by its result rows with fields separated by " | "
+     */
+    TEXT,
+
+    /**
+     * One tab-separated row per result item: line number, command, status,
+     * then the item's fields. Tabs, newlines and backslashes in values are
+     * backslash-escaped.
+     */
+    TSV,
+
+    /**
+     * One JSON object per command (JSON Lines) with line, command, status
+     * and result or error
+     */
+    JSON
+}
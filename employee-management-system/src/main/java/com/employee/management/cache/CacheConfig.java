@@ -0,0 +1,23 @@
+package com.employee.management.cache;
+
+import java.time.Duration;
+
+/**
+ * Immutable configuration of the service result cache: the maximum number
+ * of cached results (least recently used are evicted first) and how long a
+ * result may be served before it is recomputed.
+ */
+public record CacheConfig(int maxEntries, Duration ttl) {
+
+    /**
+     * Compact constructor for validation
+     */
+    public CacheConfig {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Cache size must be at least 1");
+        }
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            throw new IllegalArgumentException("Cache TTL must be positive");
+        }
+    }
+}
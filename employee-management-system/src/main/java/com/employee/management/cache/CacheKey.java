@@ -0,0 +1,119 @@
+package com.employee.management.cache;
+
+import com.employee.management.model.Employee;
+import com.employee.management.model.NamePhone;
+import com.employee.management.query.Query;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Identifies a cached service result and decides which mutations can
+ * change it, so invalidation drops only the results a write affects.
+ */
+sealed interface CacheKey {
+
+    /**
+     * Whether the change can alter the cached value. The value is null while
+     * its load is still in flight.
+     */
+    boolean isAffectedBy(Change change, Object value);
+
+    /**
+     * The employee count; only inserts and deletes change it
+     */
+    record EmployeeCount() implements CacheKey {
+
+        @Override
+        public boolean isAffectedBy(Change change, Object value) {
+            return change.isStructural();
+        }
+    }
+
+    /**
+     * Per-department salary aggregates. Updates only touch email and phone
+     * number, so only inserts and deletes change them.
+     */
+    record DepartmentSalaries(String view) implements CacheKey {
+
+        @Override
+        public boolean isAffectedBy(Change change, Object value) {
+            return change.isStructural();
+        }
+    }
+
+    /**
+     * The firstName and phoneNumber of every employee
+     */
+    record NamePhones() implements CacheKey {
+
+        @Override
+        public boolean isAffectedBy(Change change, Object value) {
+            return !namePhones(change.before()).equals(namePhones(change.after()));
+        }
+
+        private static List<NamePhone> namePhones(List<Employee> employees) {
+            return employees.stream()
+                    .map(employee -> new NamePhone(employee.firstName(), employee.phoneNumber()))
+                    .toList();
+        }
+    }
+
+    /**
+     * The employees matching a query, under the name of the service
+     * operation that produced them
+     */
+    record Lookup(String operation, Query query) implements CacheKey {
+
+        @Override
+        public boolean isAffectedBy(Change change, Object value) {
+            return change.touches(query::matches);
+        }
+    }
+
+    /**
+     * Contacts of employees whose birthday falls on the date
+     */
+    record BirthdayContacts(LocalDate date) implements CacheKey {
+
+        @Override
+        public boolean isAffectedBy(Change change, Object value) {
+            return change.touches(employee -> employee.hasBirthdayOn(date));
+        }
+    }
+
+    /**
+     * Contacts of employees whose wedding anniversary falls on the date
+     */
+    record AnniversaryContacts(LocalDate date) implements CacheKey {
+
+        @Override
+        public boolean isAffectedBy(Change change, Object value) {
+            return change.touches(employee -> employee.hasAnniversaryOn(date));
+        }
+    }
+
+    /**
+     * The n highest or lowest paid employees. A change matters only if it
+     * touches a ranked employee or brings in one paid at least as well
+     * (or as badly) as the last ranked one.
+     */
+    record Ranking(int n, boolean highest) implements CacheKey {
+
+        @Override
+        public boolean isAffectedBy(Change change, Object value) {
+            if (n == 0) {
+                return false;
+            }
+            if (!(value instanceof List<?> ranked) || ranked.size() < n) {
+                return true;
+            }
+            if (change.before().stream().anyMatch(ranked::contains)) {
+                return true;
+            }
+            var cutoff = ((Employee) ranked.get(ranked.size() - 1)).salary();
+            return change.after().stream()
+                    .anyMatch(employee -> highest ? employee.salary() >= cutoff : employee.salary() <= cutoff);
+        }
+    }
+}
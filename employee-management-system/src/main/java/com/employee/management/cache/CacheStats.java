@@ -0,0 +1,21 @@
+package com.employee.management.cache;
+
+/**
+ * Point-in-time counters of a {@link ResultCache}.
+ */
+public record CacheStats(long hits, long misses, long evictions, long invalidations, int size) {
+
+    /**
+     * Gets the fraction of lookups served from the cache, or 0 before the first lookup
+     */
+    public double hitRate() {
+        var lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d hits, %d misses (%.1f%% hit rate), %d evictions, %d invalidations, %d entries",
+                hits, misses, hitRate() * 100, evictions, invalidations, size);
+    }
+}
@@ -0,0 +1,252 @@
+package com.employee.management.cache;
+
+import com.employee.management.exception.DuplicateEmployeeException;
+import com.employee.management.exception.EmployeeNotFoundException;
+import com.employee.management.exception.InvalidInputException;
+import com.employee.management.model.DepartmentStats;
+import com.employee.management.model.Employee;
+import com.employee.management.model.NameEmail;
+import com.employee.management.model.NamePhone;
+import com.employee.management.model.Page;
+import com.employee.management.query.Condition;
+import com.employee.management.query.EmployeeField;
+import com.employee.management.query.Query;
+import com.employee.management.query.QueryPlan;
+import com.employee.management.service.EmployeeService;
+import com.employee.management.util.LoggerUtil;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Decorator that caches query results in a {@link ResultCache}.
+ * Mutations passing through addEmployee, updateEmailAndPhone and
+ * deleteByFirstName are serialized; the rows named in an update or delete
+ * are read before it, and only the results the change could alter are
+ * dropped (an email update leaves counts and salary aggregates cached,
+ * for example).
+ * Writes that bypass the service, such as CSV imports into the repository,
+ * must be followed by {@link #invalidateAll()}; the TTL bounds staleness
+ * otherwise. Pages, the streaming consumer and query plans are not cached.
+ */
+public class CachingEmployeeService implements EmployeeService {
+
+    private static final Logger LOGGER = LoggerUtil.getLogger(CachingEmployeeService.class);
+
+    private static final CacheKey EMPLOYEE_COUNT = new CacheKey.EmployeeCount();
+
+    private static final CacheKey AVERAGE_SALARY_BY_DEPARTMENT = new CacheKey.DepartmentSalaries("average");
+
+    private static final CacheKey DEPARTMENT_STATS = new CacheKey.DepartmentSalaries("stats");
+
+    private static final CacheKey NAME_PHONES = new CacheKey.NamePhones();
+
+    private static final CacheKey TOP_THREE_HIGHEST_PAID = new CacheKey.Ranking(3, true);
+
+    private final EmployeeService delegate;
+
+    private final ResultCache cache;
+
+    private final Object mutationLock;
+
+    public CachingEmployeeService(EmployeeService delegate, CacheConfig config) {
+        this.delegate = delegate;
+        this.cache = new ResultCache(config);
+        this.mutationLock = new Object();
+        LOGGER.info("CachingEmployeeService initialized with " + config.maxEntries()
+                + " entries and a TTL of " + config.ttl());
+    }
+
+    /**
+     * Gets the underlying cache, for its counters
+     */
+    public ResultCache cache() {
+        return cache;
+    }
+
+    /**
+     * Drops every cached result, after writes that did not go through this service
+     */
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    @Override
+    public void addEmployee(Employee employee) {
+        synchronized (mutationLock) {
+            apply(() -> delegate.addEmployee(employee));
+            // The service rejects duplicate first names, so the new row is the only one with its name
+            cache.invalidate(new Change(List.of(), List.of(employee)));
+        }
+    }
+
+    @Override
+    public List<Employee> getEmployeesByFirstName(String firstName) {
+        return lookup("firstName", EmployeeField.FIRST_NAME, firstName, () -> delegate.getEmployeesByFirstName(firstName));
+    }
+
+    @Override
+    public List<Employee> getEmployeesByDepartment(String department) {
+        return lookup("department", EmployeeField.DEPARTMENT, department, () -> delegate.getEmployeesByDepartment(department));
+    }
+
+    @Override
+    public List<Employee> getEmployeesByEmail(String email) {
+        return lookup("email", EmployeeField.EMAIL, email, () -> delegate.getEmployeesByEmail(email));
+    }
+
+    @Override
+    public List<Employee> getEmployeesByPhoneNumber(String phoneNumber) {
+        return lookup("phoneNumber", EmployeeField.PHONE_NUMBER, phoneNumber, () -> delegate.getEmployeesByPhoneNumber(phoneNumber));
+    }
+
+    @Override
+    public List<NamePhone> getNamePhones() {
+        return cache.get(NAME_PHONES, () -> Collections.unmodifiableList(delegate.getNamePhones()));
+    }
+
+    @Override
+    public void forEachNamePhone(BiConsumer<? super String, ? super String> action) {
+        delegate.forEachNamePhone(action);
+    }
+
+    @Override
+    public Page<Employee> getEmployeesPage(String cursor, int pageSize) {
+        return delegate.getEmployeesPage(cursor, pageSize);
+    }
+
+    @Override
+    public Page<NamePhone> getNamePhonesPage(String cursor, int pageSize) {
+        return delegate.getNamePhonesPage(cursor, pageSize);
+    }
+
+    @Override
+    public List<Employee> findEmployees(Query query) {
+        return cache.get(new CacheKey.Lookup("find", query),
+                () -> Collections.unmodifiableList(delegate.findEmployees(query)));
+    }
+
+    @Override
+    public QueryPlan explain(Query query) {
+        return delegate.explain(query);
+    }
+
+    @Override
+    public void updateEmailAndPhone(String firstName, String email, String phoneNumber) {
+        synchronized (mutationLock) {
+            var before = rowsNamed(firstName);
+            apply(() -> delegate.updateEmailAndPhone(firstName, email, phoneNumber));
+            // Giving every named row the new details covers whichever of them the repository updated
+            var after = before.stream()
+                    .map(employee -> withContact(employee, email, phoneNumber))
+                    .toList();
+            cache.invalidate(new Change(before, after));
+        }
+    }
+
+    @Override
+    public void deleteByFirstName(String firstName) {
+        synchronized (mutationLock) {
+            var before = rowsNamed(firstName);
+            apply(() -> delegate.deleteByFirstName(firstName));
+            cache.invalidate(new Change(before, List.of()));
+        }
+    }
+
+    @Override
+    public List<NameEmail> getBirthdayContacts(LocalDate date) {
+        return cache.get(new CacheKey.BirthdayContacts(date),
+                () -> Collections.unmodifiableList(delegate.getBirthdayContacts(date)));
+    }
+
+    @Override
+    public List<NamePhone> getAnniversaryContacts(LocalDate date) {
+        return cache.get(new CacheKey.AnniversaryContacts(date),
+                () -> Collections.unmodifiableList(delegate.getAnniversaryContacts(date)));
+    }
+
+    @Override
+    public long getEmployeeCount() {
+        return cache.get(EMPLOYEE_COUNT, delegate::getEmployeeCount);
+    }
+
+    @Override
+    public Map<String, Double> getAverageSalaryByDepartment() {
+        return cache.get(AVERAGE_SALARY_BY_DEPARTMENT,
+                () -> Collections.unmodifiableMap(delegate.getAverageSalaryByDepartment()));
+    }
+
+    @Override
+    public Map<String, DepartmentStats> getDepartmentStats() {
+        return cache.get(DEPARTMENT_STATS, () -> Collections.unmodifiableMap(delegate.getDepartmentStats()));
+    }
+
+    @Override
+    public List<Employee> getTopThreeHighestPaid() {
+        return cache.get(TOP_THREE_HIGHEST_PAID,
+                () -> Collections.unmodifiableList(delegate.getTopThreeHighestPaid()));
+    }
+
+    @Override
+    public List<Employee> getTopNHighestPaid(int n) {
+        return cache.get(new CacheKey.Ranking(n, true),
+                () -> Collections.unmodifiableList(delegate.getTopNHighestPaid(n)));
+    }
+
+    @Override
+    public List<Employee> getBottomNLowestPaid(int n) {
+        return cache.get(new CacheKey.Ranking(n, false),
+                () -> Collections.unmodifiableList(delegate.getBottomNLowestPaid(n)));
+    }
+
+    /**
+     * Runs a mutation. Rejected input leaves the repository unchanged; any
+     * other failure may come after a change, so it drops every result.
+     */
+    private void apply(Runnable mutation) {
+        try {
+            mutation.run();
+        } catch (InvalidInputException | DuplicateEmployeeException | EmployeeNotFoundException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            cache.clear();
+            throw e;
+        }
+    }
+
+    private List<Employee> rowsNamed(String firstName) {
+        try {
+            return delegate.getEmployeesByFirstName(firstName);
+        } catch (EmployeeNotFoundException e) {
+            return List.of();
+        }
+    }
+
+    private static Employee withContact(Employee employee, String email, String phoneNumber) {
+        return new Employee(
+                employee.firstName(),
+                employee.lastName(),
+                employee.department(),
+                employee.address(),
+                email,
+                phoneNumber,
+                employee.dateOfBirth(),
+                employee.weddingDate(),
+                employee.salary());
+    }
+
+    private List<Employee> lookup(String operation, EmployeeField field, String value,
+                                 Supplier<List<Employee>> loader) {
+        if (value == null) {
+            // Not a valid key; let the delegate report the invalid argument
+            return loader.get();
+        }
+        var key = new CacheKey.Lookup(operation, Query.where(Condition.equalTo(field, value)));
+        return cache.get(key, () -> Collections.unmodifiableList(loader.get()));
+    }
+}
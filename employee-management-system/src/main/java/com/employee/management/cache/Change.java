@@ -0,0 +1,27 @@
+package com.employee.management.cache;
+
+import com.employee.management.model.Employee;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * The rows touched by one mutation, as read before and after it: an insert
+ * has no before image, a delete no after image.
+ */
+record Change(List<Employee> before, List<Employee> after) {
+
+    /**
+     * Whether the mutation added or removed rows, rather than updating them
+     */
+    boolean isStructural() {
+        return before.size() != after.size();
+    }
+
+    /**
+     * Whether any before or after image matches
+     */
+    boolean touches(Predicate<Employee> predicate) {
+        return before.stream().anyMatch(predicate) || after.stream().anyMatch(predicate);
+    }
+}
@@ -0,0 +1,202 @@
+package com.employee.management.cache;
+
+import com.employee.management.util.LoggerUtil;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Bounded, least-recently-used cache of service results with a time to live.
+ * Each entry holds the future of its result, so concurrent misses on the same
+ * key wait for a single computation instead of repeating it. Results are
+ * computed outside the cache lock; failures are passed to every waiting
+ * caller and not cached.
+ */
+public final class ResultCache implements ResultCacheMXBean {
+
+    private static final Logger LOGGER = LoggerUtil.getLogger(ResultCache.class);
+
+    private static final String OBJECT_NAME = "com.employee.management:type=Cache,name=Service";
+
+    private final int maxEntries;
+
+    private final long ttlNanos;
+
+    /**
+     * Access ordered, so iteration starts at the least recently used entry; guarded by this
+     */
+    private final LinkedHashMap<CacheKey, Entry> entries;
+
+    private final LongAdder hits;
+
+    private final LongAdder misses;
+
+    private final LongAdder evictions;
+
+    private final LongAdder invalidations;
+
+    /**
+     * A result and when it expires; the time to live starts once the result
+     * is computed, and a load in flight never expires
+     */
+    private record Entry(CompletableFuture<Object> result, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return result.isDone() && now - expiresAt >= 0;
+        }
+    }
+
+    public ResultCache(CacheConfig config) {
+        this.maxEntries = config.maxEntries();
+        this.ttlNanos = config.ttl().toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+        this.invalidations = new LongAdder();
+    }
+
+    /**
+     * Gets the cached result for the key, computing it with the loader on a
+     * miss or once the cached result has expired
+     */
+    @SuppressWarnings("unchecked")
+    <V> V get(CacheKey key, Supplier<V> loader) {
+        Entry entry;
+        var loading = false;
+        synchronized (this) {
+            var now = System.nanoTime();
+            entry = entries.get(key);
+            if (entry == null || entry.isExpired(now)) {
+                entry = new Entry(new CompletableFuture<>(), now + ttlNanos);
+                entries.put(key, entry);
+                evictOverflow();
+                loading = true;
+            }
+        }
+
+        if (!loading) {
+            hits.increment();
+            return (V) join(entry.result());
+        }
+        misses.increment();
+        try {
+            var value = loader.get();
+            entry.result().complete(value);
+            synchronized (this) {
+                entries.replace(key, entry, new Entry(entry.result(), System.nanoTime() + ttlNanos));
+            }
+            return value;
+        } catch (RuntimeException | Error e) {
+            entry.result().completeExceptionally(e);
+            synchronized (this) {
+                entries.remove(key, entry);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Drops every result the change can affect. A load still in flight may
+     * have read the state before the change, so it is dropped whenever its
+     * key could be affected; its waiting callers still receive it.
+     */
+    synchronized void invalidate(Change change) {
+        var iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+            var result = entry.getValue().result();
+            var value = result.isDone() && !result.isCompletedExceptionally() ? result.join() : null;
+            if (entry.getKey().isAffectedBy(change, value)) {
+                iterator.remove();
+                invalidations.increment();
+            }
+        }
+    }
+
+    /**
+     * Gets a snapshot of the counters
+     */
+    public synchronized CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), invalidations.sum(), entries.size());
+    }
+
+    /**
+     * Registers the counters with the given MBean server as
+     * com.employee.management:type=Cache,name=Service
+     */
+    public void registerMBean(MBeanServer server) {
+        try {
+            server.registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to register cache metrics", e);
+        }
+        LOGGER.info("Registered result cache MBean");
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public double getHitRate() {
+        return stats().hitRate();
+    }
+
+    @Override
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    @Override
+    public synchronized int getSize() {
+        return entries.size();
+    }
+
+    @Override
+    public synchronized void clear() {
+        invalidations.add(entries.size());
+        entries.clear();
+    }
+
+    private void evictOverflow() {
+        var iterator = entries.keySet().iterator();
+        while (entries.size() > maxEntries) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private static Object join(CompletableFuture<Object> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.employee.management.cache;
+
+/**
+ * JMX view of the counters of a {@link ResultCache}.
+ */
+public interface ResultCacheMXBean {
+
+    /**
+     * Gets the number of lookups served from the cache, including callers
+     * that waited for a load already in flight
+     */
+    long getHits();
+
+    /**
+     * Gets the number of lookups that had to compute their result
+     */
+    long getMisses();
+
+    double getHitRate();
+
+    /**
+     * Gets the number of results dropped to stay within the size bound
+     */
+    long getEvictions();
+
+    /**
+     * Gets the number of results dropped because a mutation affected them
+     */
+    long getInvalidations();
+
+    /**
+     * Gets the number of cached results
+     */
+    int getSize();
+
+    /**
+     * Drops every cached result
+     */
+    void clear();
+}
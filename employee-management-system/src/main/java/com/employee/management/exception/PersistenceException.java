@@ -0,0 +1,15 @@
+package com.employee.management.exception;
+
+/**
+ * Exception thrown when employee data cannot be written to or recovered from disk.
+ */
+public class PersistenceException extends RuntimeException {
+
+    public PersistenceException(String message) {
+        super(message);
+    }
+
+    public PersistenceException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
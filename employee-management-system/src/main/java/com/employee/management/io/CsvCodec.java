@@ -0,0 +1,171 @@
+package com.employee.management.io;
+
+import com.employee.management.exception.InvalidInputException;
+import com.employee.management.model.Employee;
+import com.employee.management.util.FastInputValidator;
+import com.employee.management.util.InputValidator;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utility class for the employee CSV layout.
+ * Fields may be wrapped in double quotes; a quote inside a quoted field is
+ * written as two quotes. A quoted field may contain line breaks, so a record
+ * can span several lines; {@link CsvRecordReader} reads such records whole.
+ */
+public class CsvCodec {
+
+    /**
+     * Column order shared by import and export
+     */
+    public static final List<String> HEADER = List.of(
+            "firstName", "lastName", "department", "address", "email",
+            "phoneNumber", "dateOfBirth", "weddingDate", "salary");
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private CsvCodec() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Splits a CSV record into its fields
+     */
+    public static List<String> parseLine(String line) {
+        var fields = new ArrayList<String>(HEADER.size());
+        var field = new StringBuilder();
+        var quoted = false;
+        var position = 0;
+
+        while (position < line.length()) {
+            var c = line.charAt(position++);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (position < line.length() && line.charAt(position) == '"') {
+                    field.append('"');
+                    position++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else {
+                field.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new InvalidInputException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Creates an employee from the fields of one record, in {@link #HEADER}
+     * order. Dates are dd-MM-yyyy; a blank or N/A wedding date means none.
+     */
+    public static Employee parseEmployee(List<String> fields) {
+        if (fields.size() != HEADER.size()) {
+            throw new InvalidInputException("Expected " + HEADER.size()
+                    + " fields but found " + fields.size());
+        }
+
+        var email = fields.get(4).trim();
+        if (!FastInputValidator.isValidEmail(email)) {
+            throw new InvalidInputException("Invalid email format: " + email);
+        }
+        var phoneNumber = fields.get(5).trim();
+        if (!FastInputValidator.isValidPhone(phoneNumber)) {
+            throw new InvalidInputException("Invalid phone number format: " + phoneNumber);
+        }
+
+        var salaryField = fields.get(8).trim();
+        double salary;
+        try {
+            salary = Double.parseDouble(salaryField);
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException("Invalid salary: " + salaryField, e);
+        }
+
+        return new Employee(
+                fields.get(0).trim(),
+                fields.get(1).trim(),
+                fields.get(2).trim(),
+                fields.get(3).trim(),
+                email,
+                phoneNumber,
+                parseDate(fields.get(6).trim()),
+                parseOptionalDate(fields.get(7).trim()),
+                salary);
+    }
+
+    /**
+     * Same contract as InputValidator.parseDate, without exceptions on the parse path
+     */
+    public static LocalDate parseDate(String field) {
+        var packed = FastInputValidator.parseDate(field);
+        if (FastInputValidator.isError(packed)) {
+            throw new InvalidInputException(FastInputValidator.errorMessage(packed));
+        }
+        return FastInputValidator.toLocalDate(packed);
+    }
+
+    private static LocalDate parseOptionalDate(String field) {
+        if (field.isBlank() || field.equalsIgnoreCase("N/A")) {
+            return null;
+        }
+        return parseDate(field);
+    }
+
+    /**
+     * Returns the header line, including the line terminator
+     */
+    public static String headerLine() {
+        return String.join(",", HEADER) + "\n";
+    }
+
+    /**
+     * Appends the employee as one CSV record, including the line terminator.
+     * Fields containing line breaks are quoted and keep them verbatim.
+     */
+    public static void appendLine(StringBuilder out, Employee employee) {
+        appendField(out, employee.firstName()).append(',');
+        appendField(out, employee.lastName()).append(',');
+        appendField(out, employee.department()).append(',');
+        appendField(out, employee.address() == null ? "" : employee.address()).append(',');
+        appendField(out, employee.email()).append(',');
+        appendField(out, employee.phoneNumber()).append(',');
+        out.append(InputValidator.formatDate(employee.dateOfBirth())).append(',');
+        out.append(InputValidator.formatDate(employee.weddingDate())).append(',');
+        out.append(employee.salary()).append('\n');
+    }
+
+    private static StringBuilder appendField(StringBuilder out, String value) {
+        var needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            var c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            return out.append(value);
+        }
+
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+            out.append(c);
+        }
+        return out.append('"');
+    }
+}
@@ -0,0 +1,241 @@
+package com.employee.management.io;
+
+import com.employee.management.exception.DuplicateEmployeeException;
+import com.employee.management.exception.InvalidInputException;
+import com.employee.management.exception.PersistenceException;
+import com.employee.management.model.Employee;
+import com.employee.management.repository.EmployeeRepository;
+import com.employee.management.util.LoggerUtil;
+import com.employee.management.util.NameNormalizer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+/**
+ * Streaming bulk importer for employee CSV files.
+ * The file is read sequentially in chunks of records, where a quoted field may
+ * carry line breaks across physical lines; chunks are parsed and validated in
+ * parallel and committed in file order through
+ * {@link EmployeeRepository#saveAll}, one lock acquisition per chunk. Invalid
+ * and duplicate rows are rejected individually without aborting the load.
+ */
+public class CsvEmployeeImporter implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerUtil.getLogger(CsvEmployeeImporter.class);
+
+    private static final int DEFAULT_CHUNK_SIZE = 10_000;
+
+    private static final int MAX_REPORTED_ERRORS = 1_000;
+
+    private final EmployeeRepository repository;
+
+    private final ExecutorService parsers;
+
+    private final int chunkSize;
+
+    private final int maxChunksInFlight;
+
+    /**
+     * A run of raw records, each with the 1-based line number it starts on
+     */
+    private record Chunk(long[] lineNumbers, List<String> records) {
+    }
+
+    private record ParsedRow(long lineNumber, Employee employee) {
+    }
+
+    private record ParsedChunk(List<ParsedRow> rows, List<ImportResult.RowError> errors) {
+    }
+
+    public CsvEmployeeImporter(EmployeeRepository repository) {
+        this(repository, Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public CsvEmployeeImporter(EmployeeRepository repository, int parallelism, int chunkSize) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be at least 1");
+        }
+        this.repository = repository;
+        this.chunkSize = chunkSize;
+        // Bound read-ahead so memory stays proportional to chunk size, not file size
+        this.maxChunksInFlight = parallelism * 2;
+        this.parsers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            var thread = new Thread(runnable, "csv-parser");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Imports every row of the CSV file
+     */
+    public ImportResult importFile(Path file) {
+        try (var reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            LOGGER.info("Importing employees from: " + file);
+            return importFrom(reader);
+        } catch (IOException e) {
+            throw new PersistenceException("Failed to read import file " + file, e);
+        }
+    }
+
+    /**
+     * Imports every row read from the reader. A leading header row is skipped.
+     */
+    public ImportResult importFrom(BufferedReader reader) throws IOException {
+        var start = System.nanoTime();
+        var tally = new Tally();
+        var inFlight = new ArrayDeque<Future<ParsedChunk>>();
+
+        var source = new CsvRecordReader(reader);
+        var lineNumbers = new long[chunkSize];
+        var records = new ArrayList<String>(chunkSize);
+        String record;
+        while ((record = source.next()) != null) {
+            if (source.lineNumber() == 1 && isHeader(record)) {
+                continue;
+            }
+            lineNumbers[records.size()] = source.lineNumber();
+            records.add(record);
+            if (records.size() == chunkSize) {
+                submit(inFlight, new Chunk(lineNumbers, records), tally);
+                lineNumbers = new long[chunkSize];
+                records = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!records.isEmpty()) {
+            submit(inFlight, new Chunk(lineNumbers, records), tally);
+        }
+        while (!inFlight.isEmpty()) {
+            commit(await(inFlight.poll()), tally);
+        }
+
+        var result = new ImportResult(tally.accepted, tally.rejected, List.copyOf(tally.errors),
+                Duration.ofNanos(System.nanoTime() - start));
+        LOGGER.info(String.format("Import finished: %d accepted, %d rejected, %.0f rows/sec",
+                result.accepted(), result.rejected(), result.rowsPerSecond()));
+        return result;
+    }
+
+    @Override
+    public void close() {
+        parsers.shutdownNow();
+    }
+
+    private void submit(ArrayDeque<Future<ParsedChunk>> inFlight, Chunk chunk, Tally tally) {
+        inFlight.add(parsers.submit(() -> parse(chunk)));
+        // Commit in file order once the read-ahead window is full
+        while (inFlight.size() > maxChunksInFlight) {
+            commit(await(inFlight.poll()), tally);
+        }
+    }
+
+    private static ParsedChunk parse(Chunk chunk) {
+        var rows = new ArrayList<ParsedRow>(chunk.records().size());
+        var errors = new ArrayList<ImportResult.RowError>();
+        for (int i = 0; i < chunk.records().size(); i++) {
+            var lineNumber = chunk.lineNumbers()[i];
+            try {
+                var fields = CsvCodec.parseLine(chunk.records().get(i));
+                rows.add(new ParsedRow(lineNumber, CsvCodec.parseEmployee(fields)));
+            } catch (InvalidInputException | IllegalArgumentException e) {
+                errors.add(new ImportResult.RowError(lineNumber, e.getMessage()));
+            }
+        }
+        return new ParsedChunk(rows, errors);
+    }
+
+    /**
+     * Rejects duplicates (against the repository and within the chunk) and
+     * saves the rest of the chunk in one batch. The repository is asked about
+     * the whole chunk's names in one call, so a chunk costs one lookup rather
+     * than one per row. Rows the repository itself refuses, such as those
+     * violating a uniqueness constraint, are rejected individually.
+     */
+    private void commit(ParsedChunk chunk, Tally tally) {
+        chunk.errors().forEach(tally::reject);
+        if (chunk.rows().isEmpty()) {
+            return;
+        }
+
+        var firstNames = new HashSet<String>();
+        chunk.rows().forEach(row -> firstNames.add(row.employee().firstName()));
+        var existing = repository.findAllByFirstNames(firstNames).keySet();
+
+        var batch = new ArrayList<ParsedRow>(chunk.rows().size());
+        var namesInChunk = new HashSet<String>();
+        for (var row : chunk.rows()) {
+            var firstName = row.employee().firstName();
+            if (!namesInChunk.add(NameNormalizer.fold(firstName)) || existing.contains(firstName)) {
+                tally.reject(new ImportResult.RowError(row.lineNumber(),
+                        "Employee with firstName '" + firstName + "' already exists"));
+            } else {
+                batch.add(row);
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            repository.saveAll(batch.stream().map(ParsedRow::employee).toList());
+            tally.accepted += batch.size();
+        } catch (DuplicateEmployeeException | IllegalArgumentException e) {
+            // The repository rejected the batch as a whole; save row by row to find the culprits
+            for (var row : batch) {
+                try {
+                    repository.save(row.employee());
+                    tally.accepted++;
+                } catch (DuplicateEmployeeException | IllegalArgumentException rowError) {
+                    tally.reject(new ImportResult.RowError(row.lineNumber(), rowError.getMessage()));
+                }
+            }
+        }
+    }
+
+    private static ParsedChunk await(Future<ParsedChunk> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PersistenceException("Import interrupted", e);
+        } catch (ExecutionException e) {
+            throw new PersistenceException("Failed to parse import chunk", e.getCause());
+        }
+    }
+
+    private static boolean isHeader(String record) {
+        return record.trim().regionMatches(true, 0, CsvCodec.HEADER.get(0), 0, CsvCodec.HEADER.get(0).length());
+    }
+
+    /**
+     * Mutable running totals, only touched by the importing thread
+     */
+    private static final class Tally {
+        private long accepted;
+        private long rejected;
+        private final List<ImportResult.RowError> errors = new ArrayList<>();
+
+        private void reject(ImportResult.RowError error) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(error);
+            }
+        }
+    }
+}
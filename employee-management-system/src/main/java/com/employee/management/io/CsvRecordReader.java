@@ -0,0 +1,151 @@
+package com.employee.management.io;
+
+import com.employee.management.exception.InvalidInputException;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads CSV records from a character stream.
+ * A line break inside a quoted field belongs to the field, so one record may
+ * span several physical lines. Quotes are recognised exactly as
+ * {@link CsvCodec#parseLine} does, and records are returned raw for it to split.
+ */
+final class CsvRecordReader {
+
+    /**
+     * Upper bound on one record, so an unterminated quote cannot pull the
+     * rest of a large file into memory
+     */
+    static final int MAX_RECORD_LENGTH = 1 << 20;
+
+    private final Reader reader;
+
+    private final char[] buffer = new char[8192];
+
+    private int position;
+
+    private int limit;
+
+    /**
+     * A record ended on '\r'; a '\n' right after it is part of the same terminator
+     */
+    private boolean skipLineFeed;
+
+    private long linesRead;
+
+    private long lineNumber;
+
+    CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the 1-based line number on which the last record started
+     */
+    long lineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Returns the next record without its line terminator, or null at the
+     * end of the input. A blank line is returned as an empty record.
+     */
+    String next() throws IOException {
+        var record = new StringBuilder();
+        var started = false;
+        var quoted = false;
+        var closing = false;
+        var fieldStart = true;
+        var previous = '\0';
+        lineNumber = linesRead + 1;
+
+        while (position < limit || fill()) {
+            var c = buffer[position++];
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (c == '\n') {
+                    continue;
+                }
+            }
+            started = true;
+            if (record.length() > MAX_RECORD_LENGTH) {
+                throw new InvalidInputException("Record starting at line " + lineNumber + " exceeds "
+                        + MAX_RECORD_LENGTH + " characters; check for an unterminated quote");
+            }
+
+            if (closing) {
+                // A quote inside a quoted field either escapes this one or closes the field
+                closing = false;
+                if (c == '"') {
+                    record.append(c);
+                    previous = c;
+                    continue;
+                }
+                quoted = false;
+                fieldStart = false;
+            }
+
+            if (quoted) {
+                if (c != '"' && c != '\n' && c != '\r') {
+                    position = appendRun(record, position - 1, true);
+                    previous = buffer[position - 1];
+                    continue;
+                }
+                if (c == '"') {
+                    closing = true;
+                } else if (c == '\r' || (c == '\n' && previous != '\r')) {
+                    linesRead++;
+                }
+                record.append(c);
+            } else if (c == '\n' || c == '\r') {
+                skipLineFeed = c == '\r';
+                linesRead++;
+                return record.toString();
+            } else if (c != '"' && c != ',') {
+                position = appendRun(record, position - 1, false);
+                fieldStart = false;
+            } else {
+                if (c == '"' && fieldStart) {
+                    quoted = true;
+                }
+                fieldStart = c == ',';
+                record.append(c);
+            }
+            previous = c;
+        }
+
+        if (!started) {
+            return null;
+        }
+        linesRead++;
+        return record.toString();
+    }
+
+    /**
+     * Appends the run of characters from {@code start} that need no state
+     * change, and returns the position after it
+     */
+    private int appendRun(StringBuilder record, int start, boolean quoted) {
+        var end = start + 1;
+        while (end < limit) {
+            var c = buffer[end];
+            if (c == '"' || c == '\n' || c == '\r' || (!quoted && c == ',')) {
+                break;
+            }
+            end++;
+        }
+        record.append(buffer, start, end - start);
+        return end;
+    }
+
+    private boolean fill() throws IOException {
+        var read = reader.read(buffer, 0, buffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+}
@@ -0,0 +1,133 @@
+package com.employee.management.io;
+
+import com.employee.management.exception.PersistenceException;
+import com.employee.management.persistence.EmployeeCodec;
+import com.employee.management.repository.EmployeeRepository;
+import com.employee.management.util.LoggerUtil;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+
+/**
+ * Streaming exporter that writes every employee to a file through a buffered
+ * NIO channel. The repository is walked with
+ * {@link EmployeeRepository#forEachBatch}, so memory use is bounded by the
+ * batch size and writers are only blocked while each batch is copied.
+ */
+public class EmployeeExporter {
+
+    private static final Logger LOGGER = LoggerUtil.getLogger(EmployeeExporter.class);
+
+    private static final int DEFAULT_BATCH_SIZE = 1_000;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Leading bytes of the binary export format
+     */
+    private static final int BINARY_MAGIC = 0x454D5345;
+
+    private static final int BINARY_VERSION = 1;
+
+    /**
+     * Supported export formats
+     */
+    public enum Format {
+        /**
+         * Same column layout as the CSV import
+         */
+        CSV,
+        /**
+         * Length-free record stream encoded with EmployeeCodec; each record is
+         * preceded by a true flag and the stream ends with a false flag
+         */
+        BINARY
+    }
+
+    private final EmployeeRepository repository;
+
+    private final int batchSize;
+
+    public EmployeeExporter(EmployeeRepository repository) {
+        this(repository, DEFAULT_BATCH_SIZE);
+    }
+
+    public EmployeeExporter(EmployeeRepository repository, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        this.repository = repository;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Writes all employees to the file, replacing it, and returns the number written
+     */
+    public long export(Path file, Format format) {
+        LOGGER.info("Exporting employees as " + format + " to: " + file);
+        var start = System.nanoTime();
+
+        long exported;
+        try (var out = new ChannelOutputStream(FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING), BUFFER_SIZE)) {
+            exported = format == Format.CSV ? writeCsv(out) : writeBinary(out);
+        } catch (IOException e) {
+            throw new PersistenceException("Failed to export employees to " + file, e);
+        } catch (UncheckedIOException e) {
+            throw new PersistenceException("Failed to export employees to " + file, e.getCause());
+        }
+
+        LOGGER.info(String.format("Export finished: %d employee(s) in %d ms",
+                exported, (System.nanoTime() - start) / 1_000_000));
+        return exported;
+    }
+
+    private long writeCsv(ChannelOutputStream out) throws IOException {
+        var writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        writer.write(CsvCodec.headerLine());
+
+        var lines = new StringBuilder();
+        var count = new long[1];
+        repository.forEachBatch(batchSize, batch -> {
+            lines.setLength(0);
+            batch.forEach(employee -> CsvCodec.appendLine(lines, employee));
+            try {
+                writer.append(lines);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            count[0] += batch.size();
+        });
+        writer.flush();
+        return count[0];
+    }
+
+    private long writeBinary(ChannelOutputStream out) throws IOException {
+        var data = new DataOutputStream(out);
+        data.writeInt(BINARY_MAGIC);
+        data.writeInt(BINARY_VERSION);
+
+        var count = new long[1];
+        repository.forEachBatch(batchSize, batch -> {
+            try {
+                for (var employee : batch) {
+                    data.writeBoolean(true);
+                    EmployeeCodec.write(data, employee);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            count[0] += batch.size();
+        });
+        data.writeBoolean(false);
+        data.flush();
+        return count[0];
+    }
+}
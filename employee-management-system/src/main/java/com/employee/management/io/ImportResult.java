@@ -0,0 +1,29 @@
+package com.employee.management.io;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Immutable summary of a bulk import.
+ * Only the first rejected rows are kept in detail; {@code rejected} counts all of them.
+ */
+public record ImportResult(
+        long accepted,
+        long rejected,
+        List<RowError> errors,
+        Duration elapsed) {
+
+    /**
+     * A row that was rejected, identified by its 1-based line number
+     */
+    public record RowError(long lineNumber, String message) {
+    }
+
+    /**
+     * Returns the number of rows processed per second
+     */
+    public double rowsPerSecond() {
+        var seconds = elapsed.toNanos() / 1_000_000_000.0;
+        return seconds == 0 ? 0.0 : (accepted + rejected) / seconds;
+    }
+}
@@ -0,0 +1,372 @@
+package com.employee.management.io;
+
+import com.employee.management.exception.InvalidInputException;
+import com.employee.management.model.DepartmentStats;
+import com.employee.management.model.Employee;
+import com.employee.management.model.NameEmail;
+import com.employee.management.model.NamePhone;
+import com.employee.management.model.Page;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Utility class for the JSON bodies of the HTTP API and batch output.
+ * Writes employees, projections, statistics, pages, maps and collections;
+ * reads flat objects whose values are strings, numbers, booleans or null.
+ * Dates are ISO-8601 strings (yyyy-MM-dd).
+ */
+public class JsonCodec {
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private JsonCodec() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Converts a response value to JSON
+     */
+    public static String toJson(Object value) {
+        var out = new StringBuilder(256);
+        appendValue(out, value);
+        return out.toString();
+    }
+
+    /**
+     * Parses a flat JSON object into its fields, in document order
+     */
+    public static Map<String, Object> parseObject(String json) {
+        return new Parser(json).object();
+    }
+
+    /**
+     * Creates an employee from the fields of a parsed JSON object
+     */
+    public static Employee toEmployee(Map<String, Object> fields) {
+        return new Employee(
+                string(fields, "firstName"),
+                string(fields, "lastName"),
+                string(fields, "department"),
+                optionalString(fields, "address"),
+                string(fields, "email"),
+                string(fields, "phoneNumber"),
+                date(fields, "dateOfBirth"),
+                optionalDate(fields, "weddingDate"),
+                number(fields, "salary"));
+    }
+
+    /**
+     * Gets a required string field
+     */
+    public static String string(Map<String, Object> fields, String name) {
+        var value = fields.get(name);
+        if (!(value instanceof String text)) {
+            throw new InvalidInputException("Field '" + name + "' must be a string");
+        }
+        return text;
+    }
+
+    /**
+     * Parses an ISO-8601 date
+     */
+    public static LocalDate parseDate(String name, String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new InvalidInputException("Field '" + name + "' must be a date (yyyy-MM-dd): " + value, e);
+        }
+    }
+
+    private static String optionalString(Map<String, Object> fields, String name) {
+        return fields.get(name) == null ? null : string(fields, name);
+    }
+
+    private static LocalDate date(Map<String, Object> fields, String name) {
+        return parseDate(name, string(fields, name));
+    }
+
+    private static LocalDate optionalDate(Map<String, Object> fields, String name) {
+        return fields.get(name) == null ? null : date(fields, name);
+    }
+
+    private static double number(Map<String, Object> fields, String name) {
+        if (!(fields.get(name) instanceof Double value)) {
+            throw new InvalidInputException("Field '" + name + "' must be a number");
+        }
+        return value;
+    }
+
+    private static void appendValue(StringBuilder out, Object value) {
+        if (value == null) {
+            out.append("null");
+        } else if (value instanceof String text) {
+            appendString(out, text);
+        } else if (value instanceof Double number) {
+            appendNumber(out, number);
+        } else if (value instanceof Number || value instanceof Boolean) {
+            out.append(value);
+        } else if (value instanceof LocalDate date) {
+            appendString(out, date.toString());
+        } else if (value instanceof Employee employee) {
+            appendEmployee(out, employee);
+        } else if (value instanceof NamePhone contact) {
+            out.append("{\"firstName\":");
+            appendString(out, contact.firstName());
+            out.append(",\"phoneNumber\":");
+            appendString(out, contact.phoneNumber());
+            out.append('}');
+        } else if (value instanceof NameEmail contact) {
+            out.append("{\"firstName\":");
+            appendString(out, contact.firstName());
+            out.append(",\"email\":");
+            appendString(out, contact.email());
+            out.append('}');
+        } else if (value instanceof DepartmentStats stats) {
+            out.append("{\"department\":");
+            appendString(out, stats.department());
+            out.append(",\"employeeCount\":").append(stats.employeeCount());
+            out.append(",\"totalSalary\":");
+            appendNumber(out, stats.totalSalary());
+            out.append(",\"minSalary\":");
+            appendNumber(out, stats.minSalary());
+            out.append(",\"maxSalary\":");
+            appendNumber(out, stats.maxSalary());
+            out.append(",\"averageSalary\":");
+            appendNumber(out, stats.averageSalary());
+            out.append('}');
+        } else if (value instanceof Page<?> page) {
+            out.append("{\"items\":");
+            appendValue(out, page.items());
+            out.append(",\"nextCursor\":");
+            appendValue(out, page.nextCursor());
+            out.append('}');
+        } else if (value instanceof Map<?, ?> map) {
+            out.append('{');
+            var first = true;
+            for (var entry : map.entrySet()) {
+                if (!first) {
+                    out.append(',');
+                }
+                first = false;
+                appendString(out, String.valueOf(entry.getKey()));
+                out.append(':');
+                appendValue(out, entry.getValue());
+            }
+            out.append('}');
+        } else if (value instanceof Collection<?> items) {
+            out.append('[');
+            var first = true;
+            for (var item : items) {
+                if (!first) {
+                    out.append(',');
+                }
+                first = false;
+                appendValue(out, item);
+            }
+            out.append(']');
+        } else {
+            throw new IllegalArgumentException("Cannot convert to JSON: " + value.getClass().getName());
+        }
+    }
+
+    private static void appendEmployee(StringBuilder out, Employee employee) {
+        out.append("{\"firstName\":");
+        appendString(out, employee.firstName());
+        out.append(",\"lastName\":");
+        appendString(out, employee.lastName());
+        out.append(",\"department\":");
+        appendString(out, employee.department());
+        out.append(",\"address\":");
+        appendValue(out, employee.address());
+        out.append(",\"email\":");
+        appendString(out, employee.email());
+        out.append(",\"phoneNumber\":");
+        appendString(out, employee.phoneNumber());
+        out.append(",\"dateOfBirth\":");
+        appendValue(out, employee.dateOfBirth());
+        out.append(",\"weddingDate\":");
+        appendValue(out, employee.weddingDate());
+        out.append(",\"salary\":");
+        appendNumber(out, employee.salary());
+        out.append('}');
+    }
+
+    private static void appendNumber(StringBuilder out, double number) {
+        if (Double.isNaN(number) || Double.isInfinite(number)) {
+            // JSON has no representation for these; statistics of an empty group are the only source
+            out.append("null");
+        } else {
+            out.append(number);
+        }
+    }
+
+    private static void appendString(StringBuilder out, String text) {
+        out.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            var c = text.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+
+    /**
+     * Recursive-descent reader for a single flat object
+     */
+    private static final class Parser {
+
+        private final String json;
+
+        private int position;
+
+        private Parser(String json) {
+            this.json = json;
+        }
+
+        private Map<String, Object> object() {
+            var fields = new LinkedHashMap<String, Object>();
+            skipWhitespace();
+            expect('{');
+            skipWhitespace();
+            if (peek() == '}') {
+                position++;
+            } else {
+                while (true) {
+                    skipWhitespace();
+                    var name = string();
+                    skipWhitespace();
+                    expect(':');
+                    skipWhitespace();
+                    fields.put(name, value());
+                    skipWhitespace();
+                    if (peek() == ',') {
+                        position++;
+                    } else {
+                        expect('}');
+                        break;
+                    }
+                }
+            }
+            skipWhitespace();
+            if (position < json.length()) {
+                throw error("Unexpected content after the object");
+            }
+            return fields;
+        }
+
+        private Object value() {
+            var c = peek();
+            if (c == '"') {
+                return string();
+            }
+            if (c == '{' || c == '[') {
+                throw error("Nested objects and arrays are not supported");
+            }
+            if (json.startsWith("null", position)) {
+                position += 4;
+                return null;
+            }
+            if (json.startsWith("true", position)) {
+                position += 4;
+                return Boolean.TRUE;
+            }
+            if (json.startsWith("false", position)) {
+                position += 5;
+                return Boolean.FALSE;
+            }
+            return number();
+        }
+
+        private Double number() {
+            var start = position;
+            while (position < json.length() && "+-.eE0123456789".indexOf(json.charAt(position)) >= 0) {
+                position++;
+            }
+            try {
+                return Double.valueOf(json.substring(start, position));
+            } catch (NumberFormatException e) {
+                throw error("Invalid value");
+            }
+        }
+
+        private String string() {
+            expect('"');
+            var out = new StringBuilder();
+            while (true) {
+                if (position >= json.length()) {
+                    throw error("Unterminated string");
+                }
+                var c = json.charAt(position++);
+                if (c == '"') {
+                    return out.toString();
+                }
+                if (c != '\\') {
+                    out.append(c);
+                    continue;
+                }
+                if (position >= json.length()) {
+                    throw error("Unterminated string");
+                }
+                var escaped = json.charAt(position++);
+                switch (escaped) {
+                    case '"', '\\', '/' -> out.append(escaped);
+                    case 'b' -> out.append('\b');
+                    case 'f' -> out.append('\f');
+                    case 'n' -> out.append('\n');
+                    case 'r' -> out.append('\r');
+                    case 't' -> out.append('\t');
+                    case 'u' -> {
+                        if (position + 4 > json.length()) {
+                            throw error("Invalid unicode escape");
+                        }
+                        try {
+                            out.append((char) Integer.parseInt(json.substring(position, position + 4), 16));
+                        } catch (NumberFormatException e) {
+                            throw error("Invalid unicode escape");
+                        }
+                        position += 4;
+                    }
+                    default -> throw error("Invalid escape '\\" + escaped + "'");
+                }
+            }
+        }
+
+        private void expect(char expected) {
+            if (peek() != expected) {
+                throw error("Expected '" + expected + "'");
+            }
+            position++;
+        }
+
+        private char peek() {
+            return position < json.length() ? json.charAt(position) : '\0';
+        }
+
+        private void skipWhitespace() {
+            while (position < json.length() && Character.isWhitespace(json.charAt(position))) {
+                position++;
+            }
+        }
+
+        private InvalidInputException error(String message) {
+            return new InvalidInputException("Malformed JSON at offset " + position + ": " + message);
+        }
+    }
+}
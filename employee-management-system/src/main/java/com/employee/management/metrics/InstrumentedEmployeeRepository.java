@@ -0,0 +1,480 @@
+package com.employee.management.metrics;
+
+import com.employee.management.model.DepartmentStats;
+import com.employee.management.model.Employee;
+import com.employee.management.model.Page;
+import com.employee.management.model.VersionedEmployee;
+import com.employee.management.query.AccessPath;
+import com.employee.management.query.Query;
+import com.employee.management.query.QueryPlan;
+import com.employee.management.repository.EmployeeRepository;
+import com.employee.management.repository.Snapshot;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Decorator that records call counts, error counts and latency histograms
+ * for every repository operation. Each operation's metrics are resolved once
+ * at construction, so a call adds two System.nanoTime() reads and a few
+ * atomic increments without locking or allocating.
+ */
+public class InstrumentedEmployeeRepository implements EmployeeRepository {
+
+    private final EmployeeRepository delegate;
+
+    private final MetricsRegistry metrics;
+
+    private final OperationMetrics saveMetrics;
+
+    private final OperationMetrics saveAllMetrics;
+
+    private final OperationMetrics findByFirstNameMetrics;
+
+    private final OperationMetrics findAllByFirstNameMetrics;
+
+    private final OperationMetrics findAllByFirstNamesMetrics;
+
+    private final OperationMetrics findAllMetrics;
+
+    private final OperationMetrics forEachMetrics;
+
+    private final OperationMetrics forEachNamePhoneMetrics;
+
+    private final OperationMetrics scanMetrics;
+
+    private final OperationMetrics streamMetrics;
+
+    private final OperationMetrics forEachBatchMetrics;
+
+    private final OperationMetrics findPageMetrics;
+
+    private final OperationMetrics openSnapshotMetrics;
+
+    private final OperationMetrics findMetrics;
+
+    private final OperationMetrics explainMetrics;
+
+    private final OperationMetrics indexesMetrics;
+
+    private final OperationMetrics findAllWithBirthdayOnMetrics;
+
+    private final OperationMetrics findAllWithAnniversaryOnMetrics;
+
+    private final OperationMetrics departmentStatsMetrics;
+
+    private final OperationMetrics findTopBySalaryMetrics;
+
+    private final OperationMetrics findBottomBySalaryMetrics;
+
+    private final OperationMetrics updateEmailAndPhoneMetrics;
+
+    private final OperationMetrics findVersionedByFirstNameMetrics;
+
+    private final OperationMetrics updateIfVersionMetrics;
+
+    private final OperationMetrics deleteByFirstNameMetrics;
+
+    private final OperationMetrics existsByFirstNameMetrics;
+
+    private final OperationMetrics countMetrics;
+
+    public InstrumentedEmployeeRepository(EmployeeRepository delegate, MetricsRegistry metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+        this.saveMetrics = metrics.operation("save");
+        this.saveAllMetrics = metrics.operation("saveAll");
+        this.findByFirstNameMetrics = metrics.operation("findByFirstName");
+        this.findAllByFirstNameMetrics = metrics.operation("findAllByFirstName");
+        this.findAllByFirstNamesMetrics = metrics.operation("findAllByFirstNames");
+        this.findAllMetrics = metrics.operation("findAll");
+        this.forEachMetrics = metrics.operation("forEach");
+        this.forEachNamePhoneMetrics = metrics.operation("forEachNamePhone");
+        this.scanMetrics = metrics.operation("scan");
+        this.streamMetrics = metrics.operation("stream");
+        this.forEachBatchMetrics = metrics.operation("forEachBatch");
+        this.findPageMetrics = metrics.operation("findPage");
+        this.openSnapshotMetrics = metrics.operation("openSnapshot");
+        this.findMetrics = metrics.operation("find");
+        this.explainMetrics = metrics.operation("explain");
+        this.indexesMetrics = metrics.operation("indexes");
+        this.findAllWithBirthdayOnMetrics = metrics.operation("findAllWithBirthdayOn");
+        this.findAllWithAnniversaryOnMetrics = metrics.operation("findAllWithAnniversaryOn");
+        this.departmentStatsMetrics = metrics.operation("departmentStats");
+        this.findTopBySalaryMetrics = metrics.operation("findTopBySalary");
+        this.findBottomBySalaryMetrics = metrics.operation("findBottomBySalary");
+        this.updateEmailAndPhoneMetrics = metrics.operation("updateEmailAndPhone");
+        this.findVersionedByFirstNameMetrics = metrics.operation("findVersionedByFirstName");
+        this.updateIfVersionMetrics = metrics.operation("updateIfVersion");
+        this.deleteByFirstNameMetrics = metrics.operation("deleteByFirstName");
+        this.existsByFirstNameMetrics = metrics.operation("existsByFirstName");
+        this.countMetrics = metrics.operation("count");
+    }
+
+    /**
+     * Gets the registry holding this component's metrics
+     */
+    public MetricsRegistry metrics() {
+        return metrics;
+    }
+
+    @Override
+    public void save(Employee employee) {
+        var start = System.nanoTime();
+        try {
+            delegate.save(employee);
+        } catch (RuntimeException e) {
+            saveMetrics.recordError();
+            throw e;
+        } finally {
+            saveMetrics.record(start);
+        }
+    }
+
+    @Override
+    public void saveAll(Collection<Employee> employees) {
+        var start = System.nanoTime();
+        try {
+            delegate.saveAll(employees);
+        } catch (RuntimeException e) {
+            saveAllMetrics.recordError();
+            throw e;
+        } finally {
+            saveAllMetrics.record(start);
+        }
+    }
+
+    @Override
+    public Optional<Employee> findByFirstName(String firstName) {
+        var start = System.nanoTime();
+        try {
+            return delegate.findByFirstName(firstName);
+        } catch (RuntimeException e) {
+            findByFirstNameMetrics.recordError();
+            throw e;
+        } finally {
+            findByFirstNameMetrics.record(start);
+        }
+    }
+
+    @Override
+    public List<Employee> findAllByFirstName(String firstName) {
+        var start = System.nanoTime();
+        try {
+            return delegate.findAllByFirstName(firstName);
+        } catch (RuntimeException e) {
+            findAllByFirstNameMetrics.recordError();
+            throw e;
+        } finally {
+            findAllByFirstNameMetrics.record(start);
+        }
+    }
+
+    @Override
+    public Map<String, List<Employee>> findAllByFirstNames(Collection<String> firstNames) {
+        var start = System.nanoTime();
+        try {
+            return delegate.findAllByFirstNames(firstNames);
+        } catch (RuntimeException e) {
+            findAllByFirstNamesMetrics.recordError();
+            throw e;
+        } finally {
+            findAllByFirstNamesMetrics.record(start);
+        }
+    }
+
+    @Override
+    public List<Employee> findAll() {
+        var start = System.nanoTime();
+        try {
+            return delegate.findAll();
+        } catch (RuntimeException e) {
+            findAllMetrics.recordError();
+            throw e;
+        } finally {
+            findAllMetrics.record(start);
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<? super Employee> action) {
+        var start = System.nanoTime();
+        try {
+            delegate.forEach(action);
+        } catch (RuntimeException e) {
+            forEachMetrics.recordError();
+            throw e;
+        } finally {
+            forEachMetrics.record(start);
+        }
+    }
+
+    @Override
+    public void forEachNamePhone(BiConsumer<? super String, ? super String> action) {
+        var start = System.nanoTime();
+        try {
+            delegate.forEachNamePhone(action);
+        } catch (RuntimeException e) {
+            forEachNamePhoneMetrics.recordError();
+            throw e;
+        } finally {
+            forEachNamePhoneMetrics.record(start);
+        }
+    }
+
+    @Override
+    public void scan(Predicate<? super Employee> filter, Consumer<? super Employee> action) {
+        var start = System.nanoTime();
+        try {
+            delegate.scan(filter, action);
+        } catch (RuntimeException e) {
+            scanMetrics.recordError();
+            throw e;
+        } finally {
+            scanMetrics.record(start);
+        }
+    }
+
+    @Override
+    public <R> R stream(Function<? super Stream<Employee>, ? extends R> query) {
+        var start = System.nanoTime();
+        try {
+            return delegate.stream(query);
+        } catch (RuntimeException e) {
+            streamMetrics.recordError();
+            throw e;
+        } finally {
+            streamMetrics.record(start);
+        }
+    }
+
+    @Override
+    public void forEachBatch(int batchSize, Consumer<List<Employee>> action) {
+        var start = System.nanoTime();
+        try {
+            delegate.forEachBatch(batchSize, action);
+        } catch (RuntimeException e) {
+            forEachBatchMetrics.recordError();
+            throw e;
+        } finally {
+            forEachBatchMetrics.record(start);
+        }
+    }
+
+    @Override
+    public Page<Employee> findPage(String cursor, int pageSize) {
+        var start = System.nanoTime();
+        try {
+            return delegate.findPage(cursor, pageSize);
+        } catch (RuntimeException e) {
+            findPageMetrics.recordError();
+            throw e;
+        } finally {
+            findPageMetrics.record(start);
+        }
+    }
+
+    @Override
+    public Snapshot openSnapshot() {
+        var start = System.nanoTime();
+        try {
+            return delegate.openSnapshot();
+        } catch (RuntimeException e) {
+            openSnapshotMetrics.recordError();
+            throw e;
+        } finally {
+            openSnapshotMetrics.record(start);
+        }
+    }
+
+    @Override
+    public List<Employee> find(Query query) {
+        var start = System.nanoTime();
+        try {
+            return delegate.find(query);
+        } catch (RuntimeException e) {
+            findMetrics.recordError();
+            throw e;
+        } finally {
+            findMetrics.record(start);
+        }
+    }
+
+    @Override
+    public QueryPlan explain(Query query) {
+        var start = System.nanoTime();
+        try {
+            return delegate.explain(query);
+        } catch (RuntimeException e) {
+            explainMetrics.recordError();
+            throw e;
+        } finally {
+            explainMetrics.record(start);
+        }
+    }
+
+    @Override
+    public Set<AccessPath> indexes() {
+        var start = System.nanoTime();
+        try {
+            return delegate.indexes();
+        } catch (RuntimeException e) {
+            indexesMetrics.recordError();
+            throw e;
+        } finally {
+            indexesMetrics.record(start);
+        }
+    }
+
+    @Override
+    public List<Employee> findAllWithBirthdayOn(LocalDate date) {
+        var start = System.nanoTime();
+        try {
+            return delegate.findAllWithBirthdayOn(date);
+        } catch (RuntimeException e) {
+            findAllWithBirthdayOnMetrics.recordError();
+            throw e;
+        } finally {
+            findAllWithBirthdayOnMetrics.record(start);
+        }
+    }
+
+    @Override
+    public List<Employee> findAllWithAnniversaryOn(LocalDate date) {
+        var start = System.nanoTime();
+        try {
+            return delegate.findAllWithAnniversaryOn(date);
+        } catch (RuntimeException e) {
+            findAllWithAnniversaryOnMetrics.recordError();
+            throw e;
+        } finally {
+            findAllWithAnniversaryOnMetrics.record(start);
+        }
+    }
+
+    @Override
+    public Map<String, DepartmentStats> departmentStats() {
+        var start = System.nanoTime();
+        try {
+            return delegate.departmentStats();
+        } catch (RuntimeException e) {
+            departmentStatsMetrics.recordError();
+            throw e;
+        } finally {
+            departmentStatsMetrics.record(start);
+        }
+    }
+
+    @Override
+    public List<Employee> findTopBySalary(int limit) {
+        var start = System.nanoTime();
+        try {
+            return delegate.findTopBySalary(limit);
+        } catch (RuntimeException e) {
+            findTopBySalaryMetrics.recordError();
+            throw e;
+        } finally {
+            findTopBySalaryMetrics.record(start);
+        }
+    }
+
+    @Override
+    public List<Employee> findBottomBySalary(int limit) {
+        var start = System.nanoTime();
+        try {
+            return delegate.findBottomBySalary(limit);
+        } catch (RuntimeException e) {
+            findBottomBySalaryMetrics.recordError();
+            throw e;
+        } finally {
+            findBottomBySalaryMetrics.record(start);
+        }
+    }
+
+    @Override
+    public boolean updateEmailAndPhone(String firstName, String email, String phoneNumber) {
+        var start = System.nanoTime();
+        try {
+            return delegate.updateEmailAndPhone(firstName, email, phoneNumber);
+        } catch (RuntimeException e) {
+            updateEmailAndPhoneMetrics.recordError();
+            throw e;
+        } finally {
+            updateEmailAndPhoneMetrics.record(start);
+        }
+    }
+
+    @Override
+    public Optional<VersionedEmployee> findVersionedByFirstName(String firstName) {
+        var start = System.nanoTime();
+        try {
+            return delegate.findVersionedByFirstName(firstName);
+        } catch (RuntimeException e) {
+            findVersionedByFirstNameMetrics.recordError();
+            throw e;
+        } finally {
+            findVersionedByFirstNameMetrics.record(start);
+        }
+    }
+
+    @Override
+    public boolean updateIfVersion(String firstName, long expectedVersion, String email, String phoneNumber) {
+        var start = System.nanoTime();
+        try {
+            return delegate.updateIfVersion(firstName, expectedVersion, email, phoneNumber);
+        } catch (RuntimeException e) {
+            updateIfVersionMetrics.recordError();
+            throw e;
+        } finally {
+            updateIfVersionMetrics.record(start);
+        }
+    }
+
+    @Override
+    public boolean deleteByFirstName(String firstName) {
+        var start = System.nanoTime();
+        try {
+            return delegate.deleteByFirstName(firstName);
+        } catch (RuntimeException e) {
+            deleteByFirstNameMetrics.recordError();
+            throw e;
+        } finally {
+            deleteByFirstNameMetrics.record(start);
+        }
+    }
+
+    @Override
+    public boolean existsByFirstName(String firstName) {
+        var start = System.nanoTime();
+        try {
+            return delegate.existsByFirstName(firstName);
+        } catch (RuntimeException e) {
+            existsByFirstNameMetrics.recordError();
+            throw e;
+        } finally {
+            existsByFirstNameMetrics.record(start);
+        }
+    }
+
+    @Override
+    public long count() {
+        var start = System.nanoTime();
+        try {
+            return delegate.count();
+        } catch (RuntimeException e) {
+            countMetrics.recordError();
+            throw e;
+        } finally {
+            countMetrics.record(start);
+        }
+    }
+}
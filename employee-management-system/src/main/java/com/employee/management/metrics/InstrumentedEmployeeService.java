@@ -0,0 +1,440 @@
+package com.employee.management.metrics;
+
+import com.employee.management.model.DepartmentStats;
+import com.employee.management.model.Employee;
+import com.employee.management.model.NameEmail;
+import com.employee.management.model.NamePhone;
+import com.employee.management.model.Page;
+import com.employee.management.query.Query;
+import com.employee.management.query.QueryPlan;
+import com.employee.management.service.EmployeeService;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Decorator that records call counts, error counts and latency histograms
+ * for every service operation. Business failures such as
+ * EmployeeNotFoundException count as errors.
+ */
+public class InstrumentedEmployeeService implements EmployeeService {
+
+    private final EmployeeService delegate;
+
+    private final MetricsRegistry metrics;
+
+    private final OperationMetrics addEmployeeMetrics;
+
+    private final OperationMetrics getEmployeesByFirstNameMetrics;
+
+    private final OperationMetrics getEmployeesByFirstNamesMetrics;
+
+    private final OperationMetrics getEmployeesByDepartmentMetrics;
+
+    private final OperationMetrics getEmployeesByEmailMetrics;
+
+    private final OperationMetrics getEmployeesByPhoneNumberMetrics;
+
+    private final OperationMetrics getFirstNameAndPhoneMetrics;
+
+    private final OperationMetrics getNamePhonesMetrics;
+
+    private final OperationMetrics forEachNamePhoneMetrics;
+
+    private final OperationMetrics getEmployeesPageMetrics;
+
+    private final OperationMetrics getNamePhonesPageMetrics;
+
+    private final OperationMetrics findEmployeesMetrics;
+
+    private final OperationMetrics explainMetrics;
+
+    private final OperationMetrics updateEmailAndPhoneMetrics;
+
+    private final OperationMetrics deleteByFirstNameMetrics;
+
+    private final OperationMetrics getEmployeesWithBirthdayOnMetrics;
+
+    private final OperationMetrics getBirthdayContactsMetrics;
+
+    private final OperationMetrics getEmployeesWithAnniversaryOnMetrics;
+
+    private final OperationMetrics getAnniversaryContactsMetrics;
+
+    private final OperationMetrics getEmployeeCountMetrics;
+
+    private final OperationMetrics getAverageSalaryByDepartmentMetrics;
+
+    private final OperationMetrics getDepartmentStatsMetrics;
+
+    private final OperationMetrics getTopThreeHighestPaidMetrics;
+
+    private final OperationMetrics getTopNHighestPaidMetrics;
+
+    private final OperationMetrics getBottomNLowestPaidMetrics;
+
+    public InstrumentedEmployeeService(EmployeeService delegate, MetricsRegistry metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+        this.addEmployeeMetrics = metrics.operation("addEmployee");
+        this.getEmployeesByFirstNameMetrics = metrics.operation("getEmployeesByFirstName");
+        this.getEmployeesByFirstNamesMetrics = metrics.operation("getEmployeesByFirstNames");
+        this.getEmployeesByDepartmentMetrics = metrics.operation("getEmployeesByDepartment");
+        this.getEmployeesByEmailMetrics = metrics.operation("getEmployeesByEmail");
+        this.getEmployeesByPhoneNumberMetrics = metrics.operation("getEmployeesByPhoneNumber");
+        this.getFirstNameAndPhoneMetrics = metrics.operation("getFirstNameAndPhone");
+        this.getNamePhonesMetrics = metrics.operation("getNamePhones");
+        this.forEachNamePhoneMetrics = metrics.operation("forEachNamePhone");
+        this.getEmployeesPageMetrics = metrics.operation("getEmployeesPage");
+        this.getNamePhonesPageMetrics = metrics.operation("getNamePhonesPage");
+        this.findEmployeesMetrics = metrics.operation("findEmployees");
+        this.explainMetrics = metrics.operation("explain");
+        this.updateEmailAndPhoneMetrics = metrics.operation("updateEmailAndPhone");
+        this.deleteByFirstNameMetrics = metrics.operation("deleteByFirstName");
+        this.getEmployeesWithBirthdayOnMetrics = metrics.operation("getEmployeesWithBirthdayOn");
+        this.getBirthdayContactsMetrics = metrics.operation("getBirthdayContacts");
+        this.getEmployeesWithAnniversaryOnMetrics = metrics.operation("getEmployeesWithAnniversaryOn");
+        this.getAnniversaryContactsMetrics = metrics.operation("getAnniversaryContacts");
+        this.getEmployeeCountMetrics = metrics.operation("getEmployeeCount");
+        this.getAverageSalaryByDepartmentMetrics = metrics.operation("getAverageSalaryByDepartment");
+        this.getDepartmentStatsMetrics = metrics.operation("getDepartmentStats");
+        this.getTopThreeHighestPaidMetrics = metrics.operation("getTopThreeHighestPaid");
+        this.getTopNHighestPaidMetrics = metrics.operation("getTopNHighestPaid");
+        this.getBottomNLowestPaidMetrics = metrics.operation("getBottomNLowestPaid");
+    }
+
+    /**
+     * Gets the registry holding this component's metrics
+     */
+    public MetricsRegistry metrics() {
+        return metrics;
+    }
+
+    @Override
+    public void addEmployee(Employee employee) {
+        var start = System.nanoTime();
+        try {
+            delegate.addEmployee(employee);
+        } catch (RuntimeException e) {
+            addEmployeeMetrics.recordError();
+            throw e;
+        } finally {
+            addEmployeeMetrics.record(start);
+        }
+    }
+
+    @Override
+    public List<Employee> getEmployeesByFirstName(String firstName) {
+        var start = System.nanoTime();
+        try {
+            return delegate.getEmployeesByFirstName(firstName);
+        } catch (RuntimeException e) {
+            getEmployeesByFirstNameMetrics.recordError();
+            throw e;
+        } finally {
+            getEmployeesByFirstNameMetrics.record(start);
+        }
+    }
+
+    @Override
+    public Map<String, List<Employee>> getEmployeesByFirstNames(Collection<String> firstNames) {
+        var start = System.nanoTime();
+        try {
+            return delegate.getEmployeesByFirstNames(firstNames);
+        } catch (RuntimeException e) {
+            getEmployeesByFirstNamesMetrics.recordError();
+            throw e;
+        } finally {
+            getEmployeesByFirstNamesMetrics.record(start);
+        }
+    }
+
+    @Override
+    public List<Employee> getEmployeesByDepartment(String department) {
+        var start = System.nanoTime();
+        try {
+            return delegate.getEmployeesByDepartment(department);
+        } catch (RuntimeException e) {
+            getEmployeesByDepartmentMetrics.recordError();
+            throw e;
+        } finally {
+            getEmployeesByDepartmentMetrics.record(start);
+        }
+    }
+
+    @Override
+    public List<Employee> getEmployeesByEmail(String email) {
+        var start = System.nanoTime();
+        try {
+            return delegate.getEmployeesByEmail(email);
+        } catch (RuntimeException e) {
+            getEmployeesByEmailMetrics.recordError();
+            throw e;
+        } finally {
+            getEmployeesByEmailMetrics.record(start);
+        }
+    }
+
+    @Override
+    public List<Employee> getEmployeesByPhoneNumber(String phoneNumber) {
+        var start = System.nanoTime();
+        try {
+            return delegate.getEmployeesByPhoneNumber(phoneNumber);
+        } catch (RuntimeException e) {
+            getEmployeesByPhoneNumberMetrics.recordError();
+            throw e;
+        } finally {
+            getEmployeesByPhoneNumberMetrics.record(start);
+        }
+    }
+
+    @Override
+    public List<Map<String, String>> getFirstNameAndPhone() {
+        var start = System.nanoTime();
+        try {
+            return delegate.getFirstNameAndPhone();
+        } catch (RuntimeException e) {
+            getFirstNameAndPhoneMetrics.recordError();
+            throw e;
+        } finally {
+            getFirstNameAndPhoneMetrics.record(start);
+        }
+    }
+
+    @Override
+    public List<NamePhone> getNamePhones() {
+        var start = System.nanoTime();
+        try {
+            return delegate.getNamePhones();
+        } catch (RuntimeException e) {
+            getNamePhonesMetrics.recordError();
+            throw e;
+        } finally {
+            getNamePhonesMetrics.record(start);
+        }
+    }
+
+    @Override
+    public void forEachNamePhone(BiConsumer<? super String, ? super String> action) {
+        var start = System.nanoTime();
+        try {
+            delegate.forEachNamePhone(action);
+        } catch (RuntimeException e) {
+            forEachNamePhoneMetrics.recordError();
+            throw e;
+        } finally {
+            forEachNamePhoneMetrics.record(start);
+        }
+    }
+
+    @Override
+    public Page<Employee> getEmployeesPage(String cursor, int pageSize) {
+        var start = System.nanoTime();
+        try {
+            return delegate.getEmployeesPage(cursor, pageSize);
+        } catch (RuntimeException e) {
+            getEmployeesPageMetrics.recordError();
+            throw e;
+        } finally {
+            getEmployeesPageMetrics.record(start);
+        }
+    }
+
+    @Override
+    public Page<NamePhone> getNamePhonesPage(String cursor, int pageSize) {
+        var start = System.nanoTime();
+        try {
+            return delegate.getNamePhonesPage(cursor, pageSize);
+        } catch (RuntimeException e) {
+            getNamePhonesPageMetrics.recordError();
+            throw e;
+        } finally {
+            getNamePhonesPageMetrics.record(start);
+        }
+    }
+
+    @Override
+    public List<Employee> findEmployees(Query query) {
+        var start = System.nanoTime();
+        try {
+            return delegate.findEmployees(query);
+        } catch (RuntimeException e) {
+            findEmployeesMetrics.recordError();
+            throw e;
+        } finally {
+            findEmployeesMetrics.record(start);
+        }
+    }
+
+    @Override
+    public QueryPlan explain(Query query) {
+        var start = System.nanoTime();
+        try {
+            return delegate.explain(query);
+        } catch (RuntimeException e) {
+            explainMetrics.recordError();
+            throw e;
+        } finally {
+            explainMetrics.record(start);
+        }
+    }
+
+    @Override
+    public void updateEmailAndPhone(String firstName, String email, String phoneNumber) {
+        var start = System.nanoTime();
+        try {
+            delegate.updateEmailAndPhone(firstName, email, phoneNumber);
+        } catch (RuntimeException e) {
+            updateEmailAndPhoneMetrics.recordError();
+            throw e;
+        } finally {
+            updateEmailAndPhoneMetrics.record(start);
+        }
+    }
+
+    @Override
+    public void deleteByFirstName(String firstName) {
+        var start = System.nanoTime();
+        try {
+            delegate.deleteByFirstName(firstName);
+        } catch (RuntimeException e) {
+            deleteByFirstNameMetrics.recordError();
+            throw e;
+        } finally {
+            deleteByFirstNameMetrics.record(start);
+        }
+    }
+
+    @Override
+    public List<Map<String, String>> getEmployeesWithBirthdayOn(LocalDate date) {
+        var start = System.nanoTime();
+        try {
+            return delegate.getEmployeesWithBirthdayOn(date);
+        } catch (RuntimeException e) {
+            getEmployeesWithBirthdayOnMetrics.recordError();
+            throw e;
+        } finally {
+            getEmployeesWithBirthdayOnMetrics.record(start);
+        }
+    }
+
+    @Override
+    public List<NameEmail> getBirthdayContacts(LocalDate date) {
+        var start = System.nanoTime();
+        try {
+            return delegate.getBirthdayContacts(date);
+        } catch (RuntimeException e) {
+            getBirthdayContactsMetrics.recordError();
+            throw e;
+        } finally {
+            getBirthdayContactsMetrics.record(start);
+        }
+    }
+
+    @Override
+    public List<Map<String, String>> getEmployeesWithAnniversaryOn(LocalDate date) {
+        var start = System.nanoTime();
+        try {
+            return delegate.getEmployeesWithAnniversaryOn(date);
+        } catch (RuntimeException e) {
+            getEmployeesWithAnniversaryOnMetrics.recordError();
+            throw e;
+        } finally {
+            getEmployeesWithAnniversaryOnMetrics.record(start);
+        }
+    }
+
+    @Override
+    public List<NamePhone> getAnniversaryContacts(LocalDate date) {
+        var start = System.nanoTime();
+        try {
+            return delegate.getAnniversaryContacts(date);
+        } catch (RuntimeException e) {
+            getAnniversaryContactsMetrics.recordError();
+            throw e;
+        } finally {
+            getAnniversaryContactsMetrics.record(start);
+        }
+    }
+
+    @Override
+    public long getEmployeeCount() {
+        var start = System.nanoTime();
+        try {
+            return delegate.getEmployeeCount();
+        } catch (RuntimeException e) {
+            getEmployeeCountMetrics.recordError();
+            throw e;
+        } finally {
+            getEmployeeCountMetrics.record(start);
+        }
+    }
+
+    @Override
+    public Map<String, Double> getAverageSalaryByDepartment() {
+        var start = System.nanoTime();
+        try {
+            return delegate.getAverageSalaryByDepartment();
+        } catch (RuntimeException e) {
+            getAverageSalaryByDepartmentMetrics.recordError();
+            throw e;
+        } finally {
+            getAverageSalaryByDepartmentMetrics.record(start);
+        }
+    }
+
+    @Override
+    public Map<String, DepartmentStats> getDepartmentStats() {
+        var start = System.nanoTime();
+        try {
+            return delegate.getDepartmentStats();
+        } catch (RuntimeException e) {
+            getDepartmentStatsMetrics.recordError();
+            throw e;
+        } finally {
+            getDepartmentStatsMetrics.record(start);
+        }
+    }
+
+    @Override
+    public List<Employee> getTopThreeHighestPaid() {
+        var start = System.nanoTime();
+        try {
+            return delegate.getTopThreeHighestPaid();
+        } catch (RuntimeException e) {
+            getTopThreeHighestPaidMetrics.recordError();
+            throw e;
+        } finally {
+            getTopThreeHighestPaidMetrics.record(start);
+        }
+    }
+
+    @Override
+    public List<Employee> getTopNHighestPaid(int n) {
+        var start = System.nanoTime();
+        try {
+            return delegate.getTopNHighestPaid(n);
+        } catch (RuntimeException e) {
+            getTopNHighestPaidMetrics.recordError();
+            throw e;
+        } finally {
+            getTopNHighestPaidMetrics.record(start);
+        }
+    }
+
+    @Override
+    public List<Employee> getBottomNLowestPaid(int n) {
+        var start = System.nanoTime();
+        try {
+            return delegate.getBottomNLowestPaid(n);
+        } catch (RuntimeException e) {
+            getBottomNLowestPaidMetrics.recordError();
+            throw e;
+        } finally {
+            getBottomNLowestPaidMetrics.record(start);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.employee.management.metrics;
+
+import com.employee.management.util.LoggerUtil;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Operation metrics of one component (e.g. "Repository" or "Service").
+ * Each operation is exposed as an MXBean named
+ * com.employee.management:type=&lt;component&gt;,name=&lt;operation&gt;.
+ */
+public final class MetricsRegistry {
+
+    private static final Logger LOGGER = LoggerUtil.getLogger(MetricsRegistry.class);
+
+    private static final String DOMAIN = "com.employee.management";
+
+    private final String component;
+
+    private final Map<String, OperationMetrics> operations;
+
+    private final List<ObjectName> registered;
+
+    public MetricsRegistry(String component) {
+        this.component = component;
+        this.operations = new ConcurrentHashMap<>();
+        this.registered = new ArrayList<>();
+    }
+
+    /**
+     * Gets the component name
+     */
+    public String component() {
+        return component;
+    }
+
+    /**
+     * Gets the metrics of an operation, creating them on first use
+     */
+    public OperationMetrics operation(String name) {
+        return operations.computeIfAbsent(name, OperationMetrics::new);
+    }
+
+    /**
+     * Gets the metrics of all operations
+     */
+    public Collection<OperationMetrics> operations() {
+        return List.copyOf(operations.values());
+    }
+
+    /**
+     * Registers every operation created so far with the given MBean server
+     */
+    public synchronized void registerMBeans(MBeanServer server) {
+        for (var metrics : operations.values()) {
+            try {
+                var name = new ObjectName(DOMAIN + ":type=" + component + ",name=" + metrics.getOperation());
+                server.registerMBean(metrics, name);
+                registered.add(name);
+            } catch (JMException e) {
+                throw new IllegalStateException("Failed to register metrics for " + metrics.getOperation(), e);
+            }
+        }
+        LOGGER.info("Registered " + registered.size() + " " + component + " metrics MBeans");
+    }
+
+    /**
+     * Unregisters the MBeans registered by this registry
+     */
+    public synchronized void unregisterMBeans(MBeanServer server) {
+        for (var name : registered) {
+            try {
+                server.unregisterMBean(name);
+            } catch (JMException e) {
+                LOGGER.warning("Failed to unregister " + name + ": " + e.getMessage());
+            }
+        }
+        registered.clear();
+    }
+}
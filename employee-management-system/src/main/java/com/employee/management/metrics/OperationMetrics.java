@@ -0,0 +1,90 @@
+package com.employee.management.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Call count, error count and latency histogram of one operation.
+ */
+public final class OperationMetrics implements OperationMetricsMXBean {
+
+    private static final double NANOS_PER_MICRO = 1_000.0;
+
+    private final String operation;
+
+    private final LatencyHistogram latency;
+
+    private final LongAdder errors;
+
+    public OperationMetrics(String operation) {
+        this.operation = operation;
+        this.latency = new LatencyHistogram();
+        this.errors = new LongAdder();
+    }
+
+    /**
+     * Records a completed call that started at the given System.nanoTime()
+     */
+    public void record(long startNanos) {
+        latency.record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Records that a call threw an exception; its latency is recorded separately
+     */
+    public void recordError() {
+        errors.increment();
+    }
+
+    /**
+     * Gets the latency histogram
+     */
+    public LatencyHistogram latency() {
+        return latency;
+    }
+
+    @Override
+    public String getOperation() {
+        return operation;
+    }
+
+    @Override
+    public long getCount() {
+        return latency.count();
+    }
+
+    @Override
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    @Override
+    public double getMeanMicros() {
+        return latency.meanNanos() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP50Micros() {
+        return latency.percentileNanos(50) / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP99Micros() {
+        return latency.percentileNanos(99) / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP999Micros() {
+        return latency.percentileNanos(99.9) / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getMaxMicros() {
+        return latency.maxNanos() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public void reset() {
+        latency.reset();
+        errors.reset();
+    }
+}
@@ -0,0 +1,37 @@
+package com.employee.management.metrics;
+
+/**
+ * JMX view of the call statistics of one operation. Latencies are in microseconds.
+ */
+public interface OperationMetricsMXBean {
+
+    /**
+     * Gets the operation name
+     */
+    String getOperation();
+
+    /**
+     * Gets the number of completed calls, including failed ones
+     */
+    long getCount();
+
+    /**
+     * Gets the number of calls that threw an exception
+     */
+    long getErrorCount();
+
+    double getMeanMicros();
+
+    double getP50Micros();
+
+    double getP99Micros();
+
+    double getP999Micros();
+
+    double getMaxMicros();
+
+    /**
+     * Clears the statistics
+     */
+    void reset();
+}
@@ -0,0 +1,29 @@
+package com.employee.management.model;
+
+import com.employee.management.util.SalarySummary;
+
+/**
+ * Immutable salary statistics for a single department.
+ */
+public record DepartmentStats(
+        String department,
+        long employeeCount,
+        double totalSalary,
+        double minSalary,
+        double maxSalary) {
+
+    /**
+     * Creates department statistics from an exact salary summary
+     */
+    public static DepartmentStats of(String department, SalarySummary summary) {
+        return new DepartmentStats(department, summary.getCount(), summary.getSum(),
+                summary.getMin(), summary.getMax());
+    }
+
+    /**
+     * Returns the average salary of the department
+     */
+    public double averageSalary() {
+        return employeeCount == 0 ? 0.0 : totalSalary / employeeCount;
+    }
+}
@@ -1,5 +1,7 @@
 package com.employee.management.model;
 
+import com.employee.management.util.CalendarUtil;
+
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
@@ -39,6 +41,9 @@ public record Employee(
         if (dateOfBirth == null) {
             throw new IllegalArgumentException("Date of birth cannot be null");
         }
+        if (!Double.isFinite(salary)) {
+            throw new IllegalArgumentException("Salary must be a finite number");
+        }
         if (salary < 0) {
             throw new IllegalArgumentException("Salary cannot be negative");
         }
@@ -75,21 +80,21 @@ public record Employee(
     }
 
     /**
-     * Checks if birthday matches the given date (ignoring year)
+     * Checks if birthday matches the given date (ignoring year).
+     * Leap-day birthdays match 28 February in non-leap years.
      */
     public boolean hasBirthdayOn(LocalDate date) {
-        return dateOfBirth.getMonth() == date.getMonth()
-                && dateOfBirth.getDayOfMonth() == date.getDayOfMonth();
+        return CalendarUtil.isCelebratedOn(dateOfBirth, date);
     }
 
     /**
-     * Checks if wedding anniversary matches the given date (ignoring year)
+     * Checks if wedding anniversary matches the given date (ignoring year).
+     * Leap-day anniversaries match 28 February in non-leap years.
      */
     public boolean hasAnniversaryOn(LocalDate date) {
         if (weddingDate == null) {
             return false;
         }
-        return weddingDate.getMonth() == date.getMonth()
-                && weddingDate.getDayOfMonth() == date.getDayOfMonth();
+        return CalendarUtil.isCelebratedOn(weddingDate, date);
     }
 }
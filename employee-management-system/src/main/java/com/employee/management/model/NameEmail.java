@@ -0,0 +1,7 @@
+package com.employee.management.model;
+
+/**
+ * Projection of an employee onto first name and email address.
+ */
+public record NameEmail(String firstName, String email) {
+}
@@ -0,0 +1,7 @@
+package com.employee.management.model;
+
+/**
+ * Projection of an employee onto first name and phone number.
+ */
+public record NamePhone(String firstName, String phoneNumber) {
+}
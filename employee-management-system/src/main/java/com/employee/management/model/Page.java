@@ -0,0 +1,34 @@
+package com.employee.management.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * One page of a listing plus an opaque cursor for the next page.
+ * The cursor is null on the last page.
+ */
+public record Page<T>(List<T> items, String nextCursor) {
+
+    /**
+     * Compact constructor making the items read-only
+     */
+    public Page {
+        items = Collections.unmodifiableList(Objects.requireNonNull(items, "items"));
+    }
+
+    /**
+     * Returns whether another page follows this one
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Returns a page with every item transformed, keeping the cursor
+     */
+    public <R> Page<R> map(Function<? super T, ? extends R> mapper) {
+        return new Page<>(items.stream().<R>map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,11 @@
+package com.employee.management.model;
+
+/**
+ * An employee together with the version of its stored record. Versions are
+ * drawn from one counter per repository on every save and update, so they
+ * increase over time and are never reused within a run, not even by an
+ * employee deleted and saved again. A client can read, modify and write back
+ * through {@code EmployeeRepository.updateIfVersion} without holding a lock.
+ */
+public record VersionedEmployee(Employee employee, long version) {
+}
@@ -0,0 +1,40 @@
+package com.employee.management.persistence;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Forces directory entries to stable storage. Creating or renaming a file
+ * changes its directory, and forcing the file alone does not persist that
+ * change, so a crash could lose a new segment or a renamed snapshot.
+ */
+final class DirectorySync {
+
+    /**
+     * Windows cannot open a directory as a channel; NTFS journals directory
+     * changes itself
+     */
+    private static final boolean SUPPORTED = !System.getProperty("os.name", "").startsWith("Windows");
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private DirectorySync() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Forces the entries of the directory, such as files just created or
+     * renamed into it
+     */
+    static void force(Path directory) throws IOException {
+        if (!SUPPORTED) {
+            return;
+        }
+        try (var channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+}
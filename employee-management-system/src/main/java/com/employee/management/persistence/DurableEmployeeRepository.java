@@ -0,0 +1,453 @@
+package com.employee.management.persistence;
+
+import com.employee.management.exception.PersistenceException;
+import com.employee.management.model.DepartmentStats;
+import com.employee.management.model.Employee;
+import com.employee.management.model.Page;
+import com.employee.management.model.VersionedEmployee;
+import com.employee.management.query.AccessPath;
+import com.employee.management.query.Query;
+import com.employee.management.query.QueryPlan;
+import com.employee.management.repository.EmployeeRepository;
+import com.employee.management.repository.Snapshot;
+import com.employee.management.util.LoggerUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * EmployeeRepository decorator that makes an in-memory repository durable.
+ * Every mutation is encoded first, so a record that cannot be logged never
+ * reaches the delegate, then applied and, if effective, appended to a
+ * write-ahead log under one lock. Applying before appending lets the
+ * delegate reject a mutation (an unknown employee, a uniqueness violation)
+ * without logging it, so replay never meets a rejected record. If the
+ * append or the force fails, the delegate is ahead of the log: the
+ * repository is marked failed and rejects every later mutation with
+ * PersistenceException, and a restart recovers the logged state. Compact
+ * snapshots are taken periodically so the log stays short. On construction
+ * the latest snapshot is loaded and the log tail is replayed into the
+ * (empty) delegate.
+ */
+public class DurableEmployeeRepository implements EmployeeRepository, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerUtil.getLogger(DurableEmployeeRepository.class);
+
+    private static final byte SAVE = 1;
+
+    private static final byte UPDATE_EMAIL_AND_PHONE = 2;
+
+    private static final byte DELETE = 3;
+
+    private static final byte SAVE_ALL = 4;
+
+    private final EmployeeRepository delegate;
+
+    private final PersistenceConfig config;
+
+    private final SnapshotStore snapshots;
+
+    private final WriteAheadLog wal;
+
+    private final ScheduledExecutorService snapshotScheduler;
+
+    /**
+     * Orders mutations so the log matches the order they were applied in
+     */
+    private final Object mutationLock = new Object();
+
+    private final Object snapshotLock = new Object();
+
+    /**
+     * First log failure; once set, mutations are rejected
+     */
+    private volatile PersistenceException failure;
+
+    public DurableEmployeeRepository(EmployeeRepository delegate, PersistenceConfig config) {
+        this.delegate = delegate;
+        this.config = config;
+        this.snapshots = new SnapshotStore(config.dataDirectory());
+
+        try {
+            Files.createDirectories(config.dataDirectory());
+        } catch (IOException e) {
+            throw new PersistenceException("Failed to create data directory " + config.dataDirectory(), e);
+        }
+
+        var nextSegment = recover();
+        this.wal = new WriteAheadLog(config.dataDirectory(), config.fsyncPolicy(),
+                config.fsyncInterval(), nextSegment);
+
+        this.snapshotScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "snapshot-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        var intervalMillis = config.snapshotInterval().toMillis();
+        snapshotScheduler.scheduleWithFixedDelay(this::scheduledSnapshot,
+                intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+
+        LOGGER.info("DurableEmployeeRepository initialized in " + config.dataDirectory()
+                + " with " + delegate.count() + " recovered employee(s)");
+    }
+
+    @Override
+    public void save(Employee employee) {
+        var record = encode(out -> {
+            out.writeByte(SAVE);
+            EmployeeCodec.write(out, employee);
+        });
+        long sequence;
+        synchronized (mutationLock) {
+            ensureWritable();
+            delegate.save(employee);
+            sequence = append(record);
+        }
+        awaitDurable(sequence);
+    }
+
+    @Override
+    public void saveAll(Collection<Employee> employees) {
+        var record = encode(out -> {
+            out.writeByte(SAVE_ALL);
+            out.writeInt(employees.size());
+            for (var employee : employees) {
+                EmployeeCodec.write(out, employee);
+            }
+        });
+        long sequence;
+        synchronized (mutationLock) {
+            ensureWritable();
+            delegate.saveAll(employees);
+            sequence = append(record);
+        }
+        awaitDurable(sequence);
+    }
+
+    @Override
+    public Optional<Employee> findByFirstName(String firstName) {
+        return delegate.findByFirstName(firstName);
+    }
+
+    @Override
+    public List<Employee> findAllByFirstName(String firstName) {
+        return delegate.findAllByFirstName(firstName);
+    }
+
+    @Override
+    public Map<String, List<Employee>> findAllByFirstNames(Collection<String> firstNames) {
+        return delegate.findAllByFirstNames(firstNames);
+    }
+
+    @Override
+    public List<Employee> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public void forEach(Consumer<? super Employee> action) {
+        delegate.forEach(action);
+    }
+
+    @Override
+    public void forEachNamePhone(BiConsumer<? super String, ? super String> action) {
+        delegate.forEachNamePhone(action);
+    }
+
+    @Override
+    public void scan(Predicate<? super Employee> filter, Consumer<? super Employee> action) {
+        delegate.scan(filter, action);
+    }
+
+    @Override
+    public <R> R stream(Function<? super Stream<Employee>, ? extends R> query) {
+        return delegate.stream(query);
+    }
+
+    @Override
+    public void forEachBatch(int batchSize, Consumer<List<Employee>> action) {
+        delegate.forEachBatch(batchSize, action);
+    }
+
+    @Override
+    public Page<Employee> findPage(String cursor, int pageSize) {
+        return delegate.findPage(cursor, pageSize);
+    }
+
+    @Override
+    public Snapshot openSnapshot() {
+        return delegate.openSnapshot();
+    }
+
+    @Override
+    public List<Employee> find(Query query) {
+        return delegate.find(query);
+    }
+
+    @Override
+    public QueryPlan explain(Query query) {
+        return delegate.explain(query);
+    }
+
+    @Override
+    public Set<AccessPath> indexes() {
+        return delegate.indexes();
+    }
+
+    @Override
+    public List<Employee> findAllWithBirthdayOn(LocalDate date) {
+        return delegate.findAllWithBirthdayOn(date);
+    }
+
+    @Override
+    public List<Employee> findAllWithAnniversaryOn(LocalDate date) {
+        return delegate.findAllWithAnniversaryOn(date);
+    }
+
+    @Override
+    public Map<String, DepartmentStats> departmentStats() {
+        return delegate.departmentStats();
+    }
+
+    @Override
+    public List<Employee> findTopBySalary(int limit) {
+        return delegate.findTopBySalary(limit);
+    }
+
+    @Override
+    public List<Employee> findBottomBySalary(int limit) {
+        return delegate.findBottomBySalary(limit);
+    }
+
+    @Override
+    public boolean updateEmailAndPhone(String firstName, String email, String phoneNumber) {
+        var record = encodeUpdate(firstName, email, phoneNumber);
+        long sequence;
+        synchronized (mutationLock) {
+            ensureWritable();
+            if (!delegate.updateEmailAndPhone(firstName, email, phoneNumber)) {
+                return false;
+            }
+            sequence = append(record);
+        }
+        awaitDurable(sequence);
+        return true;
+    }
+
+    @Override
+    public Optional<VersionedEmployee> findVersionedByFirstName(String firstName) {
+        return delegate.findVersionedByFirstName(firstName);
+    }
+
+    /**
+     * Applies the conditional update under the mutation lock, so it reaches
+     * the log in the same order as every other write; replay applies it as
+     * a plain update
+     */
+    @Override
+    public boolean updateIfVersion(String firstName, long expectedVersion, String email, String phoneNumber) {
+        var record = encodeUpdate(firstName, email, phoneNumber);
+        long sequence;
+        synchronized (mutationLock) {
+            ensureWritable();
+            if (!delegate.updateIfVersion(firstName, expectedVersion, email, phoneNumber)) {
+                return false;
+            }
+            sequence = append(record);
+        }
+        awaitDurable(sequence);
+        return true;
+    }
+
+    @Override
+    public boolean deleteByFirstName(String firstName) {
+        var record = encode(out -> {
+            out.writeByte(DELETE);
+            out.writeUTF(firstName);
+        });
+        long sequence;
+        synchronized (mutationLock) {
+            ensureWritable();
+            if (!delegate.deleteByFirstName(firstName)) {
+                return false;
+            }
+            sequence = append(record);
+        }
+        awaitDurable(sequence);
+        return true;
+    }
+
+    @Override
+    public boolean existsByFirstName(String firstName) {
+        return delegate.existsByFirstName(firstName);
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    /**
+     * Writes a snapshot of the current state and discards the log segments it covers
+     */
+    public void snapshot() {
+        synchronized (snapshotLock) {
+            Snapshot state;
+            long segment;
+            // Capture state and rotate atomically so the snapshot lines up with a segment boundary
+            synchronized (mutationLock) {
+                ensureWritable();
+                state = delegate.openSnapshot();
+                try {
+                    segment = wal.rotate();
+                } catch (PersistenceException e) {
+                    state.close();
+                    markFailed(e);
+                    throw e;
+                }
+            }
+            try (state) {
+                snapshots.write(segment, state);
+            }
+            wal.deleteSegmentsBefore(segment);
+            snapshots.deleteSnapshotsBefore(segment);
+        }
+    }
+
+    @Override
+    public void close() {
+        snapshotScheduler.shutdownNow();
+        wal.close();
+        LOGGER.info("DurableEmployeeRepository closed");
+    }
+
+    private void scheduledSnapshot() {
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            LOGGER.severe("Scheduled snapshot failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Loads the latest snapshot, replays the log tail and returns the number
+     * of the segment new records should go to
+     */
+    private long recover() {
+        var firstUncovered = snapshots.loadLatest(delegate::save);
+        var nextSegment = Math.max(1, firstUncovered);
+        long replayed = 0;
+
+        for (var segment : WriteAheadLog.segments(config.dataDirectory())) {
+            var number = WriteAheadLog.segmentNumber(segment);
+            if (number >= firstUncovered) {
+                replayed += WriteAheadLog.replay(segment, this::apply);
+            }
+            nextSegment = Math.max(nextSegment, number + 1);
+        }
+
+        LOGGER.info("Recovery complete: replayed " + replayed + " log record(s)");
+        return nextSegment;
+    }
+
+    private void apply(DataInputStream in) {
+        try {
+            var type = in.readByte();
+            switch (type) {
+                case SAVE -> delegate.save(EmployeeCodec.read(in));
+                case UPDATE_EMAIL_AND_PHONE -> delegate.updateEmailAndPhone(in.readUTF(), in.readUTF(), in.readUTF());
+                case DELETE -> delegate.deleteByFirstName(in.readUTF());
+                case SAVE_ALL -> {
+                    var count = in.readInt();
+                    var employees = new ArrayList<Employee>(count);
+                    for (int i = 0; i < count; i++) {
+                        employees.add(EmployeeCodec.read(in));
+                    }
+                    delegate.saveAll(employees);
+                }
+                default -> throw new PersistenceException("Unknown log record type: " + type);
+            }
+        } catch (IOException e) {
+            throw new PersistenceException("Failed to decode log record", e);
+        }
+    }
+
+    private void ensureWritable() {
+        var cause = failure;
+        if (cause != null) {
+            throw new PersistenceException("Repository failed after a write-ahead log error; restart to recover", cause);
+        }
+    }
+
+    /**
+     * Appends an applied mutation; a failure leaves the delegate ahead of
+     * the log, so it fails the repository
+     */
+    private long append(byte[] record) {
+        try {
+            return wal.append(record);
+        } catch (PersistenceException e) {
+            markFailed(e);
+            throw e;
+        }
+    }
+
+    private void awaitDurable(long sequence) {
+        try {
+            wal.awaitDurable(sequence);
+        } catch (PersistenceException e) {
+            markFailed(e);
+            throw e;
+        }
+    }
+
+    private void markFailed(PersistenceException cause) {
+        if (failure == null) {
+            failure = cause;
+            LOGGER.severe("Rejecting further mutations after write-ahead log failure: " + cause.getMessage());
+        }
+    }
+
+    private static byte[] encodeUpdate(String firstName, String email, String phoneNumber) {
+        return encode(out -> {
+            out.writeByte(UPDATE_EMAIL_AND_PHONE);
+            out.writeUTF(firstName);
+            out.writeUTF(email);
+            out.writeUTF(phoneNumber);
+        });
+    }
+
+    private static byte[] encode(RecordWriter writer) {
+        var bytes = new ByteArrayOutputStream(128);
+        try (var out = new DataOutputStream(bytes)) {
+            writer.write(out);
+        } catch (IOException e) {
+            throw new PersistenceException("Failed to encode log record", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @FunctionalInterface
+    private interface RecordWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+}
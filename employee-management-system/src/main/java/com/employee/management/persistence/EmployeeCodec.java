@@ -0,0 +1,68 @@
+package com.employee.management.persistence;
+
+import com.employee.management.model.Employee;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Compact binary encoding of Employee records shared by the write-ahead log
+ * and snapshots. Dates are stored as epoch days.
+ */
+public class EmployeeCodec {
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private EmployeeCodec() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Writes the employee to the output
+     */
+    public static void write(DataOutput out, Employee employee) throws IOException {
+        out.writeUTF(employee.firstName());
+        out.writeUTF(employee.lastName());
+        out.writeUTF(employee.department());
+        writeNullable(out, employee.address());
+        out.writeUTF(employee.email());
+        out.writeUTF(employee.phoneNumber());
+        out.writeLong(employee.dateOfBirth().toEpochDay());
+        out.writeBoolean(employee.weddingDate() != null);
+        if (employee.weddingDate() != null) {
+            out.writeLong(employee.weddingDate().toEpochDay());
+        }
+        out.writeDouble(employee.salary());
+    }
+
+    /**
+     * Reads an employee written by {@link #write(DataOutput, Employee)}
+     */
+    public static Employee read(DataInput in) throws IOException {
+        var firstName = in.readUTF();
+        var lastName = in.readUTF();
+        var department = in.readUTF();
+        var address = readNullable(in);
+        var email = in.readUTF();
+        var phoneNumber = in.readUTF();
+        var dateOfBirth = LocalDate.ofEpochDay(in.readLong());
+        var weddingDate = in.readBoolean() ? LocalDate.ofEpochDay(in.readLong()) : null;
+        var salary = in.readDouble();
+        return new Employee(firstName, lastName, department, address,
+                email, phoneNumber, dateOfBirth, weddingDate, salary);
+    }
+
+    private static void writeNullable(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,25 @@
+package com.employee.management.persistence;
+
+/**
+ * Controls when write-ahead log records are forced to stable storage.
+ */
+public enum FsyncPolicy {
+
+    /**
+     * Every mutation waits until its record is forced to disk. Concurrent
+     * writers share a single force call (group commit).
+     */
+    ALWAYS,
+
+    /**
+     * A background thread forces the log at a fixed interval; writers never
+     * wait, and at most one interval of mutations can be lost on a crash.
+     */
+    INTERVAL,
+
+    /**
+     * The log is never forced explicitly; the operating system decides when
+     * dirty pages reach the disk.
+     */
+    OS
+}
@@ -0,0 +1,40 @@
+package com.employee.management.persistence;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Immutable configuration for the durable repository.
+ */
+public record PersistenceConfig(
+        Path dataDirectory,
+        FsyncPolicy fsyncPolicy,
+        Duration fsyncInterval,
+        Duration snapshotInterval) {
+
+    /**
+     * Compact constructor for validation
+     */
+    public PersistenceConfig {
+        if (dataDirectory == null) {
+            throw new IllegalArgumentException("Data directory cannot be null");
+        }
+        if (fsyncPolicy == null) {
+            throw new IllegalArgumentException("Fsync policy cannot be null");
+        }
+        if (fsyncInterval == null || fsyncInterval.isNegative() || fsyncInterval.isZero()) {
+            throw new IllegalArgumentException("Fsync interval must be positive");
+        }
+        if (snapshotInterval == null || snapshotInterval.isNegative() || snapshotInterval.isZero()) {
+            throw new IllegalArgumentException("Snapshot interval must be positive");
+        }
+    }
+
+    /**
+     * Returns a configuration with group commit on every write and a snapshot every five minutes
+     */
+    public static PersistenceConfig defaults(Path dataDirectory) {
+        return new PersistenceConfig(dataDirectory, FsyncPolicy.ALWAYS,
+                Duration.ofMillis(10), Duration.ofMinutes(5));
+    }
+}
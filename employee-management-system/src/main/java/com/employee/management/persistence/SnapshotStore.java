@@ -0,0 +1,154 @@
+package com.employee.management.persistence;
+
+import com.employee.management.exception.PersistenceException;
+import com.employee.management.model.Employee;
+import com.employee.management.repository.Snapshot;
+import com.employee.management.util.LoggerUtil;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Writes and loads compact point-in-time snapshots of the employee store.
+ * A snapshot named after segment N holds the state produced by every
+ * write-ahead log segment before N, so recovery replays segments N and later.
+ */
+public class SnapshotStore {
+
+    private static final Logger LOGGER = LoggerUtil.getLogger(SnapshotStore.class);
+
+    private static final int MAGIC = 0x454D5353;
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+
+    private final Path directory;
+
+    public SnapshotStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Atomically writes a snapshot covering all segments before the given one
+     */
+    public void write(long firstUncoveredSegment, Snapshot employees) {
+        var target = snapshotPath(firstUncoveredSegment);
+        var temporary = directory.resolve(target.getFileName() + ".tmp");
+
+        try {
+            var crc = new CRC32();
+            try (var file = new BufferedOutputStream(Files.newOutputStream(temporary), BUFFER_SIZE)) {
+                var out = new DataOutputStream(new CheckedOutputStream(file, crc));
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(firstUncoveredSegment);
+                out.writeInt(Math.toIntExact(employees.size()));
+                for (var employee : employees) {
+                    EmployeeCodec.write(out, employee);
+                }
+                out.flush();
+                // Checksum trailer goes straight to the file, outside the checked region
+                new DataOutputStream(file).writeLong(crc.getValue());
+            }
+            try (var channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            // Persist the rename before the caller deletes the segments it covers
+            DirectorySync.force(directory);
+            LOGGER.info("Snapshot written: " + target.getFileName() + " (" + employees.size() + " employees)");
+        } catch (IOException e) {
+            throw new PersistenceException("Failed to write snapshot " + target, e);
+        }
+    }
+
+    /**
+     * Loads the latest snapshot into the sink and returns the first segment it
+     * does not cover, or 0 when no snapshot exists
+     */
+    public long loadLatest(Consumer<Employee> sink) {
+        var snapshots = snapshots();
+        if (snapshots.isEmpty()) {
+            return 0;
+        }
+
+        var latest = snapshots.get(snapshots.size() - 1);
+        try (var file = new BufferedInputStream(Files.newInputStream(latest), BUFFER_SIZE)) {
+            var crc = new CRC32();
+            var in = new DataInputStream(new CheckedInputStream(file, crc));
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new PersistenceException("Unrecognized snapshot format: " + latest);
+            }
+            var firstUncoveredSegment = in.readLong();
+            var count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                sink.accept(EmployeeCodec.read(in));
+            }
+            if (new DataInputStream(file).readLong() != crc.getValue()) {
+                throw new PersistenceException("Snapshot checksum mismatch: " + latest);
+            }
+            LOGGER.info("Snapshot loaded: " + latest.getFileName() + " (" + count + " employees)");
+            return firstUncoveredSegment;
+        } catch (IOException e) {
+            throw new PersistenceException("Failed to load snapshot " + latest, e);
+        }
+    }
+
+    /**
+     * Deletes every snapshot older than the given one
+     */
+    public void deleteSnapshotsBefore(long firstUncoveredSegment) {
+        for (var path : snapshots()) {
+            if (snapshotNumber(path) < firstUncoveredSegment) {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    LOGGER.warning("Failed to delete snapshot " + path + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private List<Path> snapshots() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        var name = path.getFileName().toString();
+                        return name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX);
+                    })
+                    .sorted((a, b) -> Long.compare(snapshotNumber(a), snapshotNumber(b)))
+                    .toList();
+        } catch (IOException e) {
+            throw new PersistenceException("Failed to list snapshots in " + directory, e);
+        }
+    }
+
+    private Path snapshotPath(long firstUncoveredSegment) {
+        return directory.resolve(String.format("%s%020d%s", SNAPSHOT_PREFIX, firstUncoveredSegment, SNAPSHOT_SUFFIX));
+    }
+
+    private static long snapshotNumber(Path snapshot) {
+        var name = snapshot.getFileName().toString();
+        return Long.parseLong(name.substring(SNAPSHOT_PREFIX.length(), name.length() - SNAPSHOT_SUFFIX.length()));
+    }
+}
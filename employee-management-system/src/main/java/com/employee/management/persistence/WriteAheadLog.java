@@ -0,0 +1,388 @@
+package com.employee.management.persistence;
+
+import com.employee.management.exception.PersistenceException;
+import com.employee.management.util.LoggerUtil;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only, segmented write-ahead log.
+ * Each record is framed as [length][crc32][payload]. Depending on the
+ * {@link FsyncPolicy} a background thread forces the log either as soon as
+ * records are pending (group commit: one force covers every record appended
+ * before it) or at a fixed interval.
+ * <p>
+ * A failed write or force leaves the durable state unknown, so it fails the
+ * log: waiters are woken and every later call throws PersistenceException
+ * with the original cause.
+ */
+public class WriteAheadLog implements Closeable {
+
+    private static final Logger LOGGER = LoggerUtil.getLogger(WriteAheadLog.class);
+
+    private static final String SEGMENT_PREFIX = "wal-";
+
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+
+    private final Path directory;
+
+    private final FsyncPolicy policy;
+
+    private final Duration fsyncInterval;
+
+    private final ReentrantLock lock;
+
+    private final Condition pending;
+
+    private final Condition durable;
+
+    private final Thread flusher;
+
+    private FileChannel channel;
+
+    private long segment;
+
+    private long appendedSequence;
+
+    private long durableSequence;
+
+    private boolean closed;
+
+    private IOException failure;
+
+    public WriteAheadLog(Path directory, FsyncPolicy policy, Duration fsyncInterval, long segment) {
+        this.directory = directory;
+        this.policy = policy;
+        this.fsyncInterval = fsyncInterval;
+        this.lock = new ReentrantLock();
+        this.pending = lock.newCondition();
+        this.durable = lock.newCondition();
+        this.segment = segment;
+        this.channel = openSegment(segment);
+
+        if (policy == FsyncPolicy.OS) {
+            this.flusher = null;
+        } else {
+            this.flusher = new Thread(this::flushLoop, "wal-flusher");
+            this.flusher.setDaemon(true);
+            this.flusher.start();
+        }
+        LOGGER.info("Write-ahead log opened at segment " + segment + " with fsync policy " + policy);
+    }
+
+    /**
+     * Appends a record and returns its sequence number
+     */
+    public long append(byte[] payload) {
+        var crc = new CRC32();
+        crc.update(payload);
+        var header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(payload.length)
+                .putInt((int) crc.getValue())
+                .flip();
+        var body = ByteBuffer.wrap(payload);
+
+        lock.lock();
+        try {
+            ensureOpen();
+            while (header.hasRemaining() || body.hasRemaining()) {
+                channel.write(new ByteBuffer[]{header, body});
+            }
+            appendedSequence++;
+            if (policy == FsyncPolicy.ALWAYS) {
+                pending.signal();
+            }
+            return appendedSequence;
+        } catch (IOException e) {
+            // A partial record may be on disk; anything appended after it would be lost on replay
+            fail(e);
+            throw new PersistenceException("Failed to append to write-ahead log", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until the record with the given sequence number is on stable
+     * storage. Returns immediately unless the policy is {@link FsyncPolicy#ALWAYS}.
+     */
+    public void awaitDurable(long sequence) {
+        if (policy != FsyncPolicy.ALWAYS) {
+            return;
+        }
+        lock.lock();
+        try {
+            while (durableSequence < sequence) {
+                ensureOpen();
+                durable.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Forces and closes the current segment and starts the next one.
+     * Returns the number of the new segment.
+     */
+    public long rotate() {
+        lock.lock();
+        try {
+            ensureOpen();
+            closeChannel();
+            segment++;
+            channel = openSegment(segment);
+            return segment;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Deletes every segment older than the given segment number
+     */
+    public void deleteSegmentsBefore(long keepFrom) {
+        for (var path : segments(directory)) {
+            if (segmentNumber(path) < keepFrom) {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    LOGGER.warning("Failed to delete write-ahead log segment " + path + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (failure == null) {
+                closeChannel();
+            } else {
+                closeQuietly();
+            }
+            pending.signalAll();
+            durable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (flusher != null) {
+            try {
+                flusher.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        LOGGER.info("Write-ahead log closed");
+    }
+
+    /**
+     * Returns the existing segment files in the directory, oldest first
+     */
+    public static List<Path> segments(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        var name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted((a, b) -> Long.compare(segmentNumber(a), segmentNumber(b)))
+                    .toList();
+        } catch (IOException e) {
+            throw new PersistenceException("Failed to list write-ahead log segments in " + directory, e);
+        }
+    }
+
+    /**
+     * Returns the number encoded in a segment file name
+     */
+    public static long segmentNumber(Path segment) {
+        var name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /**
+     * Feeds every intact record of the segment to the consumer, stopping at
+     * the first torn or corrupt record. Returns the number of records read.
+     */
+    public static long replay(Path segment, Consumer<DataInputStream> consumer) {
+        long records = 0;
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(segment)))) {
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    return records;
+                }
+                var expectedCrc = in.readInt();
+                if (length < 0) {
+                    LOGGER.warning("Corrupt record length in " + segment + "; ignoring the rest of the segment");
+                    return records;
+                }
+                var payload = in.readNBytes(length);
+                var crc = new CRC32();
+                crc.update(payload);
+                if (payload.length != length || (int) crc.getValue() != expectedCrc) {
+                    LOGGER.warning("Torn record at the end of " + segment + "; ignoring the rest of the segment");
+                    return records;
+                }
+                consumer.accept(new DataInputStream(new ByteArrayInputStream(payload)));
+                records++;
+            }
+        } catch (EOFException e) {
+            LOGGER.warning("Truncated record header at the end of " + segment);
+            return records;
+        } catch (IOException e) {
+            throw new PersistenceException("Failed to replay write-ahead log segment " + segment, e);
+        }
+    }
+
+    private void flushLoop() {
+        while (true) {
+            FileChannel target;
+            long sequence;
+
+            lock.lock();
+            try {
+                if (policy == FsyncPolicy.ALWAYS) {
+                    while (!closed && durableSequence == appendedSequence) {
+                        pending.awaitUninterruptibly();
+                    }
+                } else {
+                    awaitInterval();
+                }
+                if (closed || failure != null) {
+                    return;
+                }
+                if (durableSequence == appendedSequence) {
+                    continue;
+                }
+                target = channel;
+                sequence = appendedSequence;
+            } finally {
+                lock.unlock();
+            }
+
+            // Force outside the lock so new appends can join the next batch
+            try {
+                target.force(false);
+            } catch (ClosedChannelException e) {
+                // Segment was rotated, which forces it before closing
+            } catch (IOException e) {
+                lock.lock();
+                try {
+                    fail(e);
+                } finally {
+                    lock.unlock();
+                }
+                return;
+            }
+
+            lock.lock();
+            try {
+                durableSequence = Math.max(durableSequence, sequence);
+                durable.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void awaitInterval() {
+        try {
+            pending.awaitNanos(fsyncInterval.toNanos());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Opens the segment for appending, creating it if needed. The directory
+     * is forced too, since forcing the segment alone would not persist a
+     * newly created file's entry.
+     */
+    private FileChannel openSegment(long number) {
+        var path = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+        try {
+            var opened = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            try {
+                DirectorySync.force(directory);
+            } catch (IOException e) {
+                opened.close();
+                throw e;
+            }
+            return opened;
+        } catch (IOException e) {
+            throw new PersistenceException("Failed to open write-ahead log segment " + path, e);
+        }
+    }
+
+    private void closeChannel() {
+        try {
+            channel.force(false);
+            channel.close();
+            durableSequence = appendedSequence;
+            durable.signalAll();
+        } catch (IOException e) {
+            fail(e);
+            throw new PersistenceException("Failed to close write-ahead log segment " + segment, e);
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.warning("Failed to close write-ahead log segment " + segment + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Marks the log failed and wakes every waiter; called with the lock held
+     */
+    private void fail(IOException cause) {
+        if (failure == null) {
+            failure = cause;
+            LOGGER.severe("Write-ahead log failed: " + cause.getMessage());
+        }
+        pending.signalAll();
+        durable.signalAll();
+    }
+
+    private void ensureOpen() {
+        if (failure != null) {
+            throw new PersistenceException("Write-ahead log failed", failure);
+        }
+        if (closed) {
+            throw new PersistenceException("Write-ahead log is closed");
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.employee.management.query;
+
+/**
+ * Ways a repository can produce candidate rows for a query. When two paths
+ * are estimated to yield the same number of rows, the earlier one wins.
+ */
+public enum AccessPath {
+
+    /**
+     * Hash lookup of a case-folded first name
+     */
+    NAME_INDEX,
+
+    /**
+     * Hash lookup of a case-folded email address
+     */
+    EMAIL_INDEX,
+
+    /**
+     * Hash lookup of a phone number
+     */
+    PHONE_INDEX,
+
+    /**
+     * Month-day bucket of dates of birth
+     */
+    BIRTHDAY_INDEX,
+
+    /**
+     * Month-day bucket of wedding dates
+     */
+    ANNIVERSARY_INDEX,
+
+    /**
+     * Salary-ordered index, for equality and ranges
+     */
+    SALARY_INDEX,
+
+    /**
+     * Hash lookup of a department
+     */
+    DEPARTMENT_INDEX,
+
+    /**
+     * Visit every employee
+     */
+    FULL_SCAN
+}
@@ -0,0 +1,15 @@
+package com.employee.management.query;
+
+/**
+ * Estimates how many candidate rows an index yields for a condition.
+ */
+@FunctionalInterface
+public interface CardinalityEstimator {
+
+    /**
+     * Returns the number of rows the index holds for the condition. May stop
+     * counting and return any value above {@code budget} once the count
+     * exceeds it, since such a path will not be chosen.
+     */
+    long estimate(AccessPath path, Condition condition, long budget);
+}
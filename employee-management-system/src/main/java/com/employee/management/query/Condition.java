@@ -0,0 +1,144 @@
+package com.employee.management.query;
+
+import com.employee.management.model.Employee;
+import com.employee.management.util.CalendarUtil;
+
+import java.time.LocalDate;
+
+/**
+ * A single filter on one employee field. Conditions never match an
+ * employee whose field is missing (a null wedding date).
+ */
+public sealed interface Condition permits Condition.Equals, Condition.Range, Condition.CelebratedOn {
+
+    /**
+     * Gets the field the condition filters on
+     */
+    EmployeeField field();
+
+    /**
+     * Checks if the employee satisfies the condition
+     */
+    boolean test(Employee employee);
+
+    /**
+     * Matches employees whose field equals the value. First names and email
+     * addresses compare case-insensitively.
+     */
+    static Condition equalTo(EmployeeField field, Object value) {
+        return new Equals(field, value);
+    }
+
+    /**
+     * Matches employees whose field lies between the bounds, both inclusive
+     */
+    static Condition between(EmployeeField field, Object from, Object to) {
+        return new Range(field, field.normalize(from), field.normalize(to));
+    }
+
+    /**
+     * Matches employees whose field is at least the given value
+     */
+    static Condition atLeast(EmployeeField field, Object min) {
+        return new Range(field, field.normalize(min), null);
+    }
+
+    /**
+     * Matches employees whose field is at most the given value
+     */
+    static Condition atMost(EmployeeField field, Object max) {
+        return new Range(field, null, field.normalize(max));
+    }
+
+    /**
+     * Matches employees whose date field recurs on the given date, ignoring
+     * the year. Leap-day dates match 28 February in non-leap years.
+     */
+    static Condition celebratedOn(EmployeeField field, LocalDate date) {
+        return new CelebratedOn(field, date);
+    }
+
+    /**
+     * Equality on a normalized value
+     */
+    record Equals(EmployeeField field, Object value) implements Condition {
+
+        public Equals {
+            value = field.normalize(value);
+        }
+
+        @Override
+        public boolean test(Employee employee) {
+            var actual = field.valueOf(employee);
+            if (actual == null) {
+                return false;
+            }
+            if (field == EmployeeField.FIRST_NAME || field == EmployeeField.EMAIL) {
+                return ((String) actual).equalsIgnoreCase((String) value);
+            }
+            return field.compare(actual, value) == 0;
+        }
+
+        @Override
+        public String toString() {
+            return field.fieldName() + " = " + value;
+        }
+    }
+
+    /**
+     * Inclusive range; a null bound is open
+     */
+    record Range(EmployeeField field, Object lower, Object upper) implements Condition {
+
+        public Range {
+            if (lower == null && upper == null) {
+                throw new IllegalArgumentException("Range on " + field.fieldName() + " needs at least one bound");
+            }
+            lower = lower == null ? null : field.normalize(lower);
+            upper = upper == null ? null : field.normalize(upper);
+        }
+
+        @Override
+        public boolean test(Employee employee) {
+            var actual = field.valueOf(employee);
+            return actual != null
+                    && (lower == null || field.compare(actual, lower) >= 0)
+                    && (upper == null || field.compare(actual, upper) <= 0);
+        }
+
+        @Override
+        public String toString() {
+            if (upper == null) {
+                return field.fieldName() + " >= " + lower;
+            }
+            if (lower == null) {
+                return field.fieldName() + " <= " + upper;
+            }
+            return field.fieldName() + " between " + lower + " and " + upper;
+        }
+    }
+
+    /**
+     * Yearly recurrence of a date field
+     */
+    record CelebratedOn(EmployeeField field, LocalDate date) implements Condition {
+
+        public CelebratedOn {
+            if (!field.isDate()) {
+                throw new IllegalArgumentException("Not a date field: " + field.fieldName());
+            }
+            field.normalize(date);
+        }
+
+        @Override
+        public boolean test(Employee employee) {
+            var actual = (LocalDate) field.valueOf(employee);
+            return actual != null && CalendarUtil.isCelebratedOn(actual, date);
+        }
+
+        @Override
+        public String toString() {
+            return field.fieldName() + " celebrated on " + date;
+        }
+    }
+}
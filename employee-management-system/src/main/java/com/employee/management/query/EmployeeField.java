@@ -0,0 +1,84 @@
+package com.employee.management.query;
+
+import com.employee.management.model.Employee;
+
+import java.time.LocalDate;
+import java.util.function.Function;
+
+/**
+ * Employee fields that queries can filter on.
+ */
+public enum EmployeeField {
+
+    FIRST_NAME("firstName", String.class, Employee::firstName),
+    LAST_NAME("lastName", String.class, Employee::lastName),
+    DEPARTMENT("department", String.class, Employee::department),
+    ADDRESS("address", String.class, Employee::address),
+    EMAIL("email", String.class, Employee::email),
+    PHONE_NUMBER("phoneNumber", String.class, Employee::phoneNumber),
+    DATE_OF_BIRTH("dateOfBirth", LocalDate.class, Employee::dateOfBirth),
+    WEDDING_DATE("weddingDate", LocalDate.class, Employee::weddingDate),
+    SALARY("salary", Double.class, Employee::salary);
+
+    private final String fieldName;
+
+    private final Class<?> type;
+
+    private final Function<Employee, Object> accessor;
+
+    EmployeeField(String fieldName, Class<?> type, Function<Employee, Object> accessor) {
+        this.fieldName = fieldName;
+        this.type = type;
+        this.accessor = accessor;
+    }
+
+    /**
+     * Gets the record component name of the field
+     */
+    public String fieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Gets the value of the field, or null for a missing wedding date
+     */
+    public Object valueOf(Employee employee) {
+        return accessor.apply(employee);
+    }
+
+    /**
+     * Checks if the field holds a date
+     */
+    public boolean isDate() {
+        return type == LocalDate.class;
+    }
+
+    /**
+     * Converts a query operand to the field's type; salaries accept any number
+     */
+    Object normalize(Object value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Query value for " + fieldName + " cannot be null");
+        }
+        if (type == Double.class && value instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (!type.isInstance(value)) {
+            throw new IllegalArgumentException("Query value for " + fieldName + " must be a "
+                    + type.getSimpleName() + ": " + value);
+        }
+        return value;
+    }
+
+    /**
+     * Compares two normalized values of this field. Salaries use
+     * Double.compare, the same order as the salary index.
+     */
+    @SuppressWarnings("unchecked")
+    int compare(Object left, Object right) {
+        if (type == Double.class) {
+            return Double.compare((Double) left, (Double) right);
+        }
+        return ((Comparable<Object>) left).compareTo(right);
+    }
+}
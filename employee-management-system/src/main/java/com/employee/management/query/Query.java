@@ -0,0 +1,56 @@
+package com.employee.management.query;
+
+import com.employee.management.model.Employee;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Conjunction of conditions on employee fields; an empty query matches
+ * every employee.
+ */
+public record Query(List<Condition> conditions) {
+
+    /**
+     * Compact constructor taking a read-only copy of the conditions
+     */
+    public Query {
+        conditions = List.copyOf(conditions);
+    }
+
+    /**
+     * Creates a query matching employees that satisfy every condition
+     */
+    public static Query where(Condition... conditions) {
+        return new Query(List.of(conditions));
+    }
+
+    /**
+     * Returns this query with one more condition
+     */
+    public Query and(Condition condition) {
+        var combined = new ArrayList<>(conditions);
+        combined.add(condition);
+        return new Query(combined);
+    }
+
+    /**
+     * Checks if the employee satisfies every condition
+     */
+    public boolean matches(Employee employee) {
+        for (var condition : conditions) {
+            if (!condition.test(employee)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return conditions.isEmpty()
+                ? "all employees"
+                : conditions.stream().map(Condition::toString).collect(Collectors.joining(" and "));
+    }
+}
@@ -0,0 +1,108 @@
+package com.employee.management.query;
+
+import com.employee.management.model.Employee;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * How a repository runs a query: the access path producing candidate rows,
+ * the condition answered by that path (null for a full scan), the remaining
+ * conditions checked on each candidate and the estimated number of
+ * candidates (-1 when unknown).
+ */
+public record QueryPlan(AccessPath access, Condition indexCondition, List<Condition> filters, long estimatedRows) {
+
+    /**
+     * Compact constructor taking a read-only copy of the filters
+     */
+    public QueryPlan {
+        filters = List.copyOf(filters);
+    }
+
+    /**
+     * Plans a query that checks every condition on every one of
+     * {@code rowCount} employees
+     */
+    public static QueryPlan fullScan(Query query, long rowCount) {
+        return new QueryPlan(AccessPath.FULL_SCAN, null, query.conditions(), rowCount);
+    }
+
+    /**
+     * Chooses the available access path estimated to yield the fewest
+     * candidate rows for one of the query's conditions, or a full scan of
+     * {@code rowCount} rows if no index does better
+     */
+    public static QueryPlan choose(Query query, Set<AccessPath> available, CardinalityEstimator estimator,
+                                   long rowCount) {
+        Condition best = null;
+        var bestPath = AccessPath.FULL_SCAN;
+        var bestRows = rowCount;
+        for (var condition : query.conditions()) {
+            var path = pathFor(condition);
+            if (!available.contains(path)) {
+                continue;
+            }
+            var rows = estimator.estimate(path, condition, bestRows);
+            if (rows < bestRows || (rows == bestRows && path.compareTo(bestPath) < 0)) {
+                best = condition;
+                bestPath = path;
+                bestRows = rows;
+            }
+        }
+        if (best == null) {
+            return fullScan(query, rowCount);
+        }
+
+        var filters = new ArrayList<Condition>(query.conditions().size() - 1);
+        for (var condition : query.conditions()) {
+            if (condition != best) {
+                filters.add(condition);
+            }
+        }
+        return new QueryPlan(bestPath, best, filters, bestRows);
+    }
+
+    /**
+     * Checks the conditions not answered by the access path
+     */
+    public boolean matchesFilters(Employee employee) {
+        for (var filter : filters) {
+            if (!filter.test(employee)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static AccessPath pathFor(Condition condition) {
+        var field = condition.field();
+        if (condition instanceof Condition.CelebratedOn) {
+            return field == EmployeeField.DATE_OF_BIRTH ? AccessPath.BIRTHDAY_INDEX : AccessPath.ANNIVERSARY_INDEX;
+        }
+        if (field == EmployeeField.SALARY) {
+            return AccessPath.SALARY_INDEX;
+        }
+        if (!(condition instanceof Condition.Equals)) {
+            return AccessPath.FULL_SCAN;
+        }
+        return switch (field) {
+            case FIRST_NAME -> AccessPath.NAME_INDEX;
+            case EMAIL -> AccessPath.EMAIL_INDEX;
+            case PHONE_NUMBER -> AccessPath.PHONE_INDEX;
+            case DEPARTMENT -> AccessPath.DEPARTMENT_INDEX;
+            default -> AccessPath.FULL_SCAN;
+        };
+    }
+
+    @Override
+    public String toString() {
+        var path = (indexCondition == null ? access.name() : access + "(" + indexCondition + ")")
+                + (estimatedRows < 0 ? "" : " ~" + estimatedRows + " rows");
+        return filters.isEmpty()
+                ? path
+                : path + " -> filter(" + filters.stream().map(Condition::toString).collect(Collectors.joining(" and ")) + ")";
+    }
+}
@@ -0,0 +1,635 @@
+package com.employee.management.repository;
+
+import com.employee.management.model.DepartmentStats;
+import com.employee.management.model.Employee;
+import com.employee.management.model.Page;
+import com.employee.management.model.VersionedEmployee;
+import com.employee.management.util.CalendarUtil;
+import com.employee.management.util.LoggerUtil;
+import com.employee.management.util.SalarySummary;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Column-oriented in-memory implementation of EmployeeRepository.
+ * Each field is held in its own array: salaries in a {@code double[]}, dates
+ * packed into {@code int}s and departments dictionary-encoded as {@code int}
+ * codes. Employee records are only built on demand, and aggregation and
+ * calendar queries run directly over the primitive columns.
+ */
+public class ColumnarEmployeeRepository implements EmployeeRepository {
+
+    private static final Logger LOGGER = LoggerUtil.getLogger(ColumnarEmployeeRepository.class);
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Packed date value used for a missing wedding date
+     */
+    private static final int NO_DATE = 0;
+
+    /**
+     * Years that fit the 23 bits left above month and day in a packed date
+     */
+    private static final int MIN_PACKED_YEAR = -(1 << 22);
+
+    private static final int MAX_PACKED_YEAR = (1 << 22) - 1;
+
+    /**
+     * Ascending row ids, used to resume page walks after rows shift
+     */
+    private long[] ids;
+    /**
+     * Record versions, from one counter per repository
+     */
+    private long[] versions;
+    private String[] firstNames;
+    private String[] lastNames;
+    private String[] addresses;
+    private String[] emails;
+    private String[] phoneNumbers;
+    private int[] departmentCodes;
+    private int[] birthDates;
+    private int[] weddingDates;
+    private double[] salaries;
+
+    private final List<String> departmentNames;
+
+    private final Map<String, Integer> departmentDictionary;
+
+    private final ReadWriteLock lock;
+
+    private int size;
+
+    private long nextId;
+
+    private long lastVersion;
+
+    public ColumnarEmployeeRepository() {
+        this.ids = new long[INITIAL_CAPACITY];
+        this.versions = new long[INITIAL_CAPACITY];
+        this.firstNames = new String[INITIAL_CAPACITY];
+        this.lastNames = new String[INITIAL_CAPACITY];
+        this.addresses = new String[INITIAL_CAPACITY];
+        this.emails = new String[INITIAL_CAPACITY];
+        this.phoneNumbers = new String[INITIAL_CAPACITY];
+        this.departmentCodes = new int[INITIAL_CAPACITY];
+        this.birthDates = new int[INITIAL_CAPACITY];
+        this.weddingDates = new int[INITIAL_CAPACITY];
+        this.salaries = new double[INITIAL_CAPACITY];
+        this.departmentNames = new ArrayList<>();
+        this.departmentDictionary = new HashMap<>();
+        this.lock = new ReentrantReadWriteLock();
+        LOGGER.info("ColumnarEmployeeRepository initialized");
+    }
+
+    @Override
+    public void save(Employee employee) {
+        requirePackableDates(employee);
+        lock.writeLock().lock();
+        try {
+            ensureCapacity(size + 1);
+            ids[size] = nextId++;
+            versions[size] = ++lastVersion;
+            write(size, employee);
+            size++;
+            LOGGER.info(() -> "Employee saved: " + employee.getFullName());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void saveAll(Collection<Employee> employees) {
+        // Check the whole batch first so a rejected row leaves nothing half-saved
+        employees.forEach(ColumnarEmployeeRepository::requirePackableDates);
+        lock.writeLock().lock();
+        try {
+            ensureCapacity(size + employees.size());
+            for (var employee : employees) {
+                ids[size] = nextId++;
+                versions[size] = ++lastVersion;
+                write(size, employee);
+                size++;
+            }
+            LOGGER.info(() -> "Employees saved in batch: " + employees.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Employee> findByFirstName(String firstName) {
+        lock.readLock().lock();
+        try {
+            LOGGER.info(() -> "Searching for employee with firstName: " + firstName);
+            var row = indexOfFirstName(firstName, 0);
+            return row < 0 ? Optional.empty() : Optional.of(employeeAt(row));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Employee> findAllByFirstName(String firstName) {
+        lock.readLock().lock();
+        try {
+            LOGGER.info(() -> "Searching for all employees with firstName: " + firstName);
+            var result = new ArrayList<Employee>();
+            for (int row = indexOfFirstName(firstName, 0); row >= 0; row = indexOfFirstName(firstName, row + 1)) {
+                result.add(employeeAt(row));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<String, List<Employee>> findAllByFirstNames(Collection<String> firstNames) {
+        lock.readLock().lock();
+        try {
+            LOGGER.info(() -> "Searching for all employees with " + firstNames.size() + " firstNames");
+            var batch = new FirstNameBatch(firstNames);
+            for (int row = 0; row < size; row++) {
+                var matches = batch.matchesFor(this.firstNames[row]);
+                if (matches != null) {
+                    matches.add(employeeAt(row));
+                }
+            }
+            return batch.result();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Employee> findAll() {
+        lock.readLock().lock();
+        try {
+            LOGGER.info(() -> "Retrieving all employees. Total count: " + size);
+            var result = new ArrayList<Employee>(size);
+            for (int row = 0; row < size; row++) {
+                result.add(employeeAt(row));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void forEach(Consumer<? super Employee> action) {
+        lock.readLock().lock();
+        try {
+            for (int row = 0; row < size; row++) {
+                action.accept(employeeAt(row));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void forEachNamePhone(BiConsumer<? super String, ? super String> action) {
+        lock.readLock().lock();
+        try {
+            for (int row = 0; row < size; row++) {
+                action.accept(firstNames[row], phoneNumbers[row]);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public <R> R stream(Function<? super Stream<Employee>, ? extends R> query) {
+        lock.readLock().lock();
+        try {
+            return query.apply(IntStream.range(0, size).mapToObj(this::employeeAt));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Page<Employee> findPage(String cursor, int pageSize) {
+        PageCursor.checkPageSize(pageSize);
+        var lastRowId = PageCursor.decode(cursor);
+
+        lock.readLock().lock();
+        try {
+            var start = firstRowAfter(lastRowId);
+            var end = Math.min(size, start + pageSize);
+            if (start >= end) {
+                return new Page<>(List.of(), null);
+            }
+            var items = new ArrayList<Employee>(end - start);
+            for (int row = start; row < end; row++) {
+                items.add(employeeAt(row));
+            }
+            return new Page<>(items, end < size ? PageCursor.encode(ids[end - 1]) : null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Employee> findAllWithBirthdayOn(LocalDate date) {
+        lock.readLock().lock();
+        try {
+            LOGGER.info(() -> "Searching for employees with birthday on: " + date);
+            return findCelebratedOn(birthDates, date);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Employee> findAllWithAnniversaryOn(LocalDate date) {
+        lock.readLock().lock();
+        try {
+            LOGGER.info(() -> "Searching for employees with anniversary on: " + date);
+            return findCelebratedOn(weddingDates, date);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<String, DepartmentStats> departmentStats() {
+        lock.readLock().lock();
+        try {
+            var summaries = new SalarySummary[departmentNames.size()];
+            for (int row = 0; row < size; row++) {
+                var code = departmentCodes[row];
+                if (summaries[code] == null) {
+                    summaries[code] = new SalarySummary();
+                }
+                summaries[code].accept(salaries[row]);
+            }
+
+            var result = new HashMap<String, DepartmentStats>();
+            for (int code = 0; code < summaries.length; code++) {
+                if (summaries[code] != null) {
+                    var department = departmentNames.get(code);
+                    result.put(department, DepartmentStats.of(department, summaries[code]));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Employee> findTopBySalary(int limit) {
+        lock.readLock().lock();
+        try {
+            return selectBySalary(limit, true);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Employee> findBottomBySalary(int limit) {
+        lock.readLock().lock();
+        try {
+            return selectBySalary(limit, false);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean updateEmailAndPhone(String firstName, String email, String phoneNumber) {
+        lock.writeLock().lock();
+        try {
+            LOGGER.info(() -> "Attempting to update email and phone for: " + firstName);
+
+            var row = indexOfFirstName(firstName, 0);
+            if (row < 0) {
+                LOGGER.warning("Employee not found for update: " + firstName);
+                return false;
+            }
+
+            updateContact(row, email, phoneNumber);
+            LOGGER.info(() -> "Employee updated successfully: " + firstName);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<VersionedEmployee> findVersionedByFirstName(String firstName) {
+        lock.readLock().lock();
+        try {
+            var row = indexOfFirstName(firstName, 0);
+            return row < 0 ? Optional.empty() : Optional.of(new VersionedEmployee(employeeAt(row), versions[row]));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean updateIfVersion(String firstName, long expectedVersion, String email, String phoneNumber) {
+        lock.writeLock().lock();
+        try {
+            LOGGER.info(() -> "Attempting to update email and phone for: " + firstName + " at version " + expectedVersion);
+
+            var row = indexOfFirstName(firstName, 0);
+            if (row < 0) {
+                LOGGER.warning("Employee not found for update: " + firstName);
+                return false;
+            }
+            if (versions[row] != expectedVersion) {
+                LOGGER.info(() -> "Version conflict for " + firstName + ": expected " + expectedVersion
+                        + " but found " + versions[row]);
+                return false;
+            }
+
+            updateContact(row, email, phoneNumber);
+            LOGGER.info(() -> "Employee updated successfully: " + firstName);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean deleteByFirstName(String firstName) {
+        lock.writeLock().lock();
+        try {
+            LOGGER.info(() -> "Attempting to delete employee: " + firstName);
+
+            // Compact surviving rows in place, preserving insertion order
+            var target = 0;
+            for (int row = 0; row < size; row++) {
+                if (!firstNames[row].equalsIgnoreCase(firstName)) {
+                    if (target != row) {
+                        moveRow(row, target);
+                    }
+                    target++;
+                }
+            }
+
+            var result = target < size;
+            clearRows(target, size);
+            size = target;
+
+            if (result) {
+                LOGGER.info(() -> "Employee deleted successfully: " + firstName);
+            } else {
+                LOGGER.warning("Employee not found for deletion: " + firstName);
+            }
+            return result;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean existsByFirstName(String firstName) {
+        lock.readLock().lock();
+        try {
+            return indexOfFirstName(firstName, 0) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long count() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the first row with an id greater than the given one
+     */
+    private int firstRowAfter(long id) {
+        var position = Arrays.binarySearch(ids, 0, size, id);
+        return position >= 0 ? position + 1 : -position - 1;
+    }
+
+    private int indexOfFirstName(String firstName, int from) {
+        for (int row = from; row < size; row++) {
+            if (firstNames[row].equalsIgnoreCase(firstName)) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    private List<Employee> findCelebratedOn(int[] dates, LocalDate date) {
+        var slots = CalendarUtil.slotsCelebratedOn(date);
+        var result = new ArrayList<Employee>();
+        for (int row = 0; row < size; row++) {
+            var packed = dates[row];
+            if (packed == NO_DATE) {
+                continue;
+            }
+            var slot = CalendarUtil.monthDaySlot(monthOf(packed), dayOf(packed));
+            for (var wanted : slots) {
+                if (slot == wanted) {
+                    result.add(employeeAt(row));
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Bounded-heap selection over the salary column; ties keep row order
+     */
+    private List<Employee> selectBySalary(int limit, boolean highestFirst) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        // Negative when row a ranks ahead of row b
+        Comparator<Integer> rank = (a, b) -> {
+            var bySalary = highestFirst
+                    ? Double.compare(salaries[b], salaries[a])
+                    : Double.compare(salaries[a], salaries[b]);
+            return bySalary != 0 ? bySalary : Integer.compare(a, b);
+        };
+        var heap = new PriorityQueue<Integer>(Math.min(limit, Math.max(1, size)), rank.reversed());
+        for (int row = 0; row < size; row++) {
+            if (heap.size() < limit) {
+                heap.add(row);
+            } else if (rank.compare(row, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(row);
+            }
+        }
+
+        var rows = new ArrayList<>(heap);
+        rows.sort(rank);
+        var result = new ArrayList<Employee>(rows.size());
+        rows.forEach(row -> result.add(employeeAt(row)));
+        return result;
+    }
+
+    private Employee employeeAt(int row) {
+        return new Employee(
+                firstNames[row],
+                lastNames[row],
+                departmentNames.get(departmentCodes[row]),
+                addresses[row],
+                emails[row],
+                phoneNumbers[row],
+                unpackDate(birthDates[row]),
+                unpackDate(weddingDates[row]),
+                salaries[row]);
+    }
+
+    private void write(int row, Employee employee) {
+        firstNames[row] = employee.firstName();
+        lastNames[row] = employee.lastName();
+        addresses[row] = employee.address();
+        emails[row] = employee.email();
+        phoneNumbers[row] = employee.phoneNumber();
+        departmentCodes[row] = departmentCode(employee.department());
+        birthDates[row] = packDate(employee.dateOfBirth());
+        weddingDates[row] = packDate(employee.weddingDate());
+        salaries[row] = employee.salary();
+    }
+
+    /**
+     * Replaces the row's email and phone number and gives it a new version
+     */
+    private void updateContact(int row, String email, String phoneNumber) {
+        // Validate through the record's compact constructor before touching the columns
+        var employee = employeeAt(row);
+        write(row, new Employee(
+                employee.firstName(),
+                employee.lastName(),
+                employee.department(),
+                employee.address(),
+                email,
+                phoneNumber,
+                employee.dateOfBirth(),
+                employee.weddingDate(),
+                employee.salary()));
+        versions[row] = ++lastVersion;
+    }
+
+    private void moveRow(int from, int to) {
+        ids[to] = ids[from];
+        versions[to] = versions[from];
+        firstNames[to] = firstNames[from];
+        lastNames[to] = lastNames[from];
+        addresses[to] = addresses[from];
+        emails[to] = emails[from];
+        phoneNumbers[to] = phoneNumbers[from];
+        departmentCodes[to] = departmentCodes[from];
+        birthDates[to] = birthDates[from];
+        weddingDates[to] = weddingDates[from];
+        salaries[to] = salaries[from];
+    }
+
+    /**
+     * Releases string references of rows beyond the live size
+     */
+    private void clearRows(int from, int to) {
+        Arrays.fill(firstNames, from, to, null);
+        Arrays.fill(lastNames, from, to, null);
+        Arrays.fill(addresses, from, to, null);
+        Arrays.fill(emails, from, to, null);
+        Arrays.fill(phoneNumbers, from, to, null);
+    }
+
+    private int departmentCode(String department) {
+        var code = departmentDictionary.get(department);
+        if (code == null) {
+            code = departmentNames.size();
+            departmentNames.add(department);
+            departmentDictionary.put(department, code);
+        }
+        return code;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= salaries.length) {
+            return;
+        }
+        var capacity = Math.max(required, salaries.length * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        versions = Arrays.copyOf(versions, capacity);
+        firstNames = Arrays.copyOf(firstNames, capacity);
+        lastNames = Arrays.copyOf(lastNames, capacity);
+        addresses = Arrays.copyOf(addresses, capacity);
+        emails = Arrays.copyOf(emails, capacity);
+        phoneNumbers = Arrays.copyOf(phoneNumbers, capacity);
+        departmentCodes = Arrays.copyOf(departmentCodes, capacity);
+        birthDates = Arrays.copyOf(birthDates, capacity);
+        weddingDates = Arrays.copyOf(weddingDates, capacity);
+        salaries = Arrays.copyOf(salaries, capacity);
+    }
+
+    /**
+     * Rejects dates whose year does not fit a packed int, before any column is written
+     */
+    private static void requirePackableDates(Employee employee) {
+        requirePackable(employee.dateOfBirth(), "Date of birth");
+        requirePackable(employee.weddingDate(), "Wedding date");
+    }
+
+    private static void requirePackable(LocalDate date, String field) {
+        if (date != null && (date.getYear() < MIN_PACKED_YEAR || date.getYear() > MAX_PACKED_YEAR)) {
+            throw new IllegalArgumentException(field + " " + date + " is outside the years the columnar"
+                    + " store supports (" + MIN_PACKED_YEAR + " to " + MAX_PACKED_YEAR + ")");
+        }
+    }
+
+    /**
+     * Packs a date as (year << 9 | month << 5 | day) so the month-day can be
+     * read from the low bits without decoding the year
+     */
+    private static int packDate(LocalDate date) {
+        if (date == null) {
+            return NO_DATE;
+        }
+        return (date.getYear() << 9) | (date.getMonthValue() << 5) | date.getDayOfMonth();
+    }
+
+    private static LocalDate unpackDate(int packed) {
+        if (packed == NO_DATE) {
+            return null;
+        }
+        return LocalDate.of(packed >> 9, monthOf(packed), dayOf(packed));
+    }
+
+    private static int monthOf(int packed) {
+        return (packed >> 5) & 0xF;
+    }
+
+    private static int dayOf(int packed) {
+        return packed & 0x1F;
+    }
+}
@@ -0,0 +1,546 @@
+package com.employee.management.repository;
+
+import com.employee.management.model.Employee;
+import com.employee.management.model.Page;
+import com.employee.management.model.VersionedEmployee;
+import com.employee.management.util.LoggerUtil;
+import com.employee.management.util.NameNormalizer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Concurrent implementation of EmployeeRepository built on compare-and-set
+ * instead of locks. Employees are held in a ConcurrentHashMap keyed by
+ * case-folded first name, each in a slot holding a chain of versions, newest
+ * first. A write links a new version onto the slot by compare-and-set and
+ * then stamps it from one repository-wide counter, so writers to different
+ * employees never wait for each other, readers never block, and a version
+ * is never reused, not even by an employee deleted and saved again. A later
+ * writer of the same employee, or a snapshot reading it, spins in the short
+ * window between a version's compare-and-set and its stamp. A skip list of
+ * the same slots by insertion sequence serves listings and pages.
+ * <p>
+ * Reads are weakly consistent: a listing, scan or aggregate that overlaps
+ * writes sees each employee either before or after a given write, but not
+ * necessarily a single point in time across employees. For that, use
+ * {@link #openSnapshot()}, which notes the current version in O(1) and reads
+ * each slot as of that version. A write trims the versions of its employee
+ * that no open snapshot can see, and deleted slots are unlinked once every
+ * open snapshot sees them deleted.
+ */
+public class ConcurrentEmployeeRepository implements EmployeeRepository {
+
+    private static final Logger LOGGER = LoggerUtil.getLogger(ConcurrentEmployeeRepository.class);
+
+    /**
+     * Stamp of a version not yet published; real versions start at 1
+     */
+    private static final long UNSTAMPED = 0;
+
+    /**
+     * Slots sharing a folded first name, oldest first. Buckets are immutable
+     * and replaced by compare-and-set on the map.
+     */
+    private final ConcurrentMap<String, List<Slot>> slotsByName;
+
+    private final ConcurrentNavigableMap<Long, Slot> slotsBySequence;
+
+    private final AtomicLong nextSequence;
+
+    private final AtomicLong size;
+
+    private final AtomicLong lastVersion;
+
+    private final Set<VersionSnapshot> openSnapshots;
+
+    /**
+     * Deleted slots still listed by sequence because an open snapshot may
+     * see them, roughly in deletion order
+     */
+    private final Queue<Slot> deletedSlots;
+
+    /**
+     * One stored employee, as a chain of versions whose head is the latest
+     */
+    private static final class Slot {
+
+        private final long sequence;
+
+        private final AtomicReference<Version> head;
+
+        private Slot(long sequence, Version head) {
+            this.sequence = sequence;
+            this.head = new AtomicReference<>(head);
+        }
+
+        /**
+         * Gets the latest employee, or null once deleted
+         */
+        private Employee employee() {
+            return head.get().employee;
+        }
+
+        /**
+         * Gets the employee as of the given version, or null if it did not
+         * exist or was deleted by then
+         */
+        private Employee employeeAt(long version) {
+            for (var candidate = head.get(); candidate != null; candidate = candidate.previous) {
+                if (candidate.awaitStamp() <= version) {
+                    return candidate.employee;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * One version of an employee; a null employee marks a deletion. The stamp
+     * is set right after the version is linked, and the link to older
+     * versions is cut once no open snapshot can reach them.
+     */
+    private static final class Version {
+
+        private final Employee employee;
+
+        private volatile long stamp;
+
+        private volatile Version previous;
+
+        private Version(Employee employee, Version previous) {
+            this.employee = employee;
+            this.previous = previous;
+        }
+
+        private long awaitStamp() {
+            var current = stamp;
+            while (current == UNSTAMPED) {
+                Thread.onSpinWait();
+                current = stamp;
+            }
+            return current;
+        }
+    }
+
+    public ConcurrentEmployeeRepository() {
+        this.slotsByName = new ConcurrentHashMap<>();
+        this.slotsBySequence = new ConcurrentSkipListMap<>();
+        this.nextSequence = new AtomicLong();
+        this.size = new AtomicLong();
+        this.lastVersion = new AtomicLong();
+        this.openSnapshots = ConcurrentHashMap.newKeySet();
+        this.deletedSlots = new ConcurrentLinkedQueue<>();
+        LOGGER.info("ConcurrentEmployeeRepository initialized");
+    }
+
+    @Override
+    public void save(Employee employee) {
+        insert(employee);
+        LOGGER.info(() -> "Employee saved: " + employee.getFullName());
+    }
+
+    @Override
+    public void saveAll(Collection<Employee> employees) {
+        employees.forEach(this::insert);
+        LOGGER.info(() -> "Employees saved in batch: " + employees.size());
+    }
+
+    @Override
+    public Optional<Employee> findByFirstName(String firstName) {
+        LOGGER.info(() -> "Searching for employee with firstName: " + firstName);
+        return findVersionedByFirstName(firstName).map(VersionedEmployee::employee);
+    }
+
+    @Override
+    public Optional<VersionedEmployee> findVersionedByFirstName(String firstName) {
+        for (var slot : slotsByName.getOrDefault(NameNormalizer.fold(firstName), List.of())) {
+            var current = slot.head.get();
+            if (current.employee != null) {
+                return Optional.of(new VersionedEmployee(current.employee, current.awaitStamp()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<Employee> findAllByFirstName(String firstName) {
+        LOGGER.info(() -> "Searching for all employees with firstName: " + firstName);
+        return slotsByName.getOrDefault(NameNormalizer.fold(firstName), List.of()).stream()
+                .map(Slot::employee)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<Employee> findAll() {
+        LOGGER.info(() -> "Retrieving all employees. Total count: " + size.get());
+        var result = new ArrayList<Employee>((int) Math.min(Integer.MAX_VALUE, size.get()));
+        forEach(result::add);
+        return result;
+    }
+
+    @Override
+    public void forEach(Consumer<? super Employee> action) {
+        for (var slot : slotsBySequence.values()) {
+            var employee = slot.employee();
+            if (employee != null) {
+                action.accept(employee);
+            }
+        }
+    }
+
+    @Override
+    public <R> R stream(Function<? super Stream<Employee>, ? extends R> query) {
+        return query.apply(slotsBySequence.values().stream()
+                .map(Slot::employee)
+                .filter(Objects::nonNull));
+    }
+
+    @Override
+    public Page<Employee> findPage(String cursor, int pageSize) {
+        PageCursor.checkPageSize(pageSize);
+
+        var items = new ArrayList<Employee>(Math.min(pageSize, 1024));
+        var lastSequence = PageCursor.START;
+        for (var slot : slotsBySequence.tailMap(PageCursor.decode(cursor), false).values()) {
+            var employee = slot.employee();
+            if (employee == null) {
+                continue;
+            }
+            if (items.size() == pageSize) {
+                // Another live employee follows the page
+                return new Page<>(items, PageCursor.encode(lastSequence));
+            }
+            items.add(employee);
+            lastSequence = slot.sequence;
+        }
+        return new Page<>(items, null);
+    }
+
+    /**
+     * Opens a view of every slot as of the latest version, in O(1) and
+     * without holding up writers. Unlike listings and scans it is a single
+     * point in time. Its size is counted on first use, O(n).
+     */
+    @Override
+    public Snapshot openSnapshot() {
+        var snapshot = new VersionSnapshot();
+        // Register before reading the version, so no write trims what it needs
+        openSnapshots.add(snapshot);
+        snapshot.version = lastVersion.get();
+        return snapshot;
+    }
+
+    @Override
+    public boolean updateEmailAndPhone(String firstName, String email, String phoneNumber) {
+        LOGGER.info(() -> "Attempting to update email and phone for: " + firstName);
+
+        while (true) {
+            var slot = firstLiveSlot(firstName);
+            if (slot == null) {
+                LOGGER.warning("Employee not found for update: " + firstName);
+                return false;
+            }
+            var current = slot.head.get();
+            if (current.employee != null
+                    && publish(slot, current, withContact(current.employee, email, phoneNumber))) {
+                LOGGER.info(() -> "Employee updated successfully: " + firstName);
+                return true;
+            }
+            // Lost a race with another write to this employee; read again
+        }
+    }
+
+    @Override
+    public boolean updateIfVersion(String firstName, long expectedVersion, String email, String phoneNumber) {
+        LOGGER.info(() -> "Attempting to update email and phone for: " + firstName + " at version " + expectedVersion);
+
+        while (true) {
+            var slot = firstLiveSlot(firstName);
+            if (slot == null) {
+                LOGGER.warning("Employee not found for update: " + firstName);
+                return false;
+            }
+            var current = slot.head.get();
+            if (current.employee == null) {
+                // Deleted after the lookup; an older namesake may now be first
+                continue;
+            }
+            var version = current.awaitStamp();
+            if (version != expectedVersion) {
+                LOGGER.info(() -> "Version conflict for " + firstName + ": expected " + expectedVersion
+                        + " but found " + version);
+                return false;
+            }
+            if (publish(slot, current, withContact(current.employee, email, phoneNumber))) {
+                LOGGER.info(() -> "Employee updated successfully: " + firstName);
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public boolean deleteByFirstName(String firstName) {
+        LOGGER.info(() -> "Attempting to delete employee: " + firstName);
+
+        var removed = slotsByName.remove(NameNormalizer.fold(firstName));
+        var deleted = 0;
+        if (removed != null) {
+            for (var slot : removed) {
+                if (delete(slot)) {
+                    deletedSlots.add(slot);
+                    deleted++;
+                }
+            }
+            size.addAndGet(-deleted);
+            unlinkDeletedSlots();
+        }
+
+        if (deleted > 0) {
+            LOGGER.info(() -> "Employee deleted successfully: " + firstName);
+            return true;
+        }
+        LOGGER.warning("Employee not found for deletion: " + firstName);
+        return false;
+    }
+
+    @Override
+    public boolean existsByFirstName(String firstName) {
+        return slotsByName.containsKey(NameNormalizer.fold(firstName));
+    }
+
+    @Override
+    public long count() {
+        return size.get();
+    }
+
+    /**
+     * Adds the employee at the next sequence, appending its slot to the name
+     * bucket by compare-and-set
+     */
+    private void insert(Employee employee) {
+        var version = new Version(employee, null);
+        var slot = new Slot(nextSequence.getAndIncrement(), version);
+        slotsBySequence.put(slot.sequence, slot);
+        // Stamped only once listed, so every snapshot that should see it finds it
+        version.stamp = lastVersion.incrementAndGet();
+        size.incrementAndGet();
+
+        var key = NameNormalizer.fold(employee.firstName());
+        while (true) {
+            var bucket = slotsByName.get(key);
+            if (bucket == null) {
+                if (slotsByName.putIfAbsent(key, List.of(slot)) == null) {
+                    return;
+                }
+            } else if (slotsByName.replace(key, bucket, withSlot(bucket, slot))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Links a new version of the slot's employee (null to delete it) on top
+     * of the expected latest one, then stamps it. Returns false if another
+     * write got there first.
+     */
+    private boolean publish(Slot slot, Version current, Employee employee) {
+        // Stamps must grow along the chain, so wait for the version being replaced
+        current.awaitStamp();
+        var next = new Version(employee, current);
+        if (!slot.head.compareAndSet(current, next)) {
+            return false;
+        }
+        next.stamp = lastVersion.incrementAndGet();
+        trim(next);
+        return true;
+    }
+
+    /**
+     * Marks the slot's employee deleted; returns false if it already was
+     */
+    private boolean delete(Slot slot) {
+        while (true) {
+            var current = slot.head.get();
+            if (current.employee == null) {
+                return false;
+            }
+            // Concurrent updates of this slot fail their compare-and-set from here on
+            if (publish(slot, current, null)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Cuts the versions below the newest one every open snapshot can see
+     */
+    private void trim(Version latest) {
+        var oldest = oldestVisibleVersion();
+        for (var candidate = latest; candidate != null; candidate = candidate.previous) {
+            if (candidate.stamp <= oldest) {
+                candidate.previous = null;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Drops deleted slots from the sequence list once every open snapshot
+     * sees them deleted
+     */
+    private void unlinkDeletedSlots() {
+        var oldest = oldestVisibleVersion();
+        Slot slot;
+        while ((slot = deletedSlots.peek()) != null && slot.head.get().stamp <= oldest) {
+            if (deletedSlots.remove(slot)) {
+                slotsBySequence.remove(slot.sequence);
+            }
+        }
+    }
+
+    /**
+     * Gets the oldest version an open snapshot may read. The latest version
+     * is read first, so a snapshot registering afterwards sees at least it;
+     * one registered but still reading its version counts as UNSTAMPED and
+     * keeps everything.
+     */
+    private long oldestVisibleVersion() {
+        var oldest = lastVersion.get();
+        for (var snapshot : openSnapshots) {
+            oldest = Math.min(oldest, snapshot.version);
+        }
+        return oldest;
+    }
+
+    /**
+     * Returns the oldest slot with the name whose employee is not deleted
+     */
+    private Slot firstLiveSlot(String firstName) {
+        for (var slot : slotsByName.getOrDefault(NameNormalizer.fold(firstName), List.of())) {
+            if (slot.employee() != null) {
+                return slot;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Copies the bucket with the slot inserted in sequence order; concurrent
+     * saves of one name may reach the bucket out of sequence
+     */
+    private static List<Slot> withSlot(List<Slot> bucket, Slot slot) {
+        var result = new ArrayList<Slot>(bucket.size() + 1);
+        result.addAll(bucket);
+        var position = result.size();
+        while (position > 0 && result.get(position - 1).sequence > slot.sequence) {
+            position--;
+        }
+        result.add(position, slot);
+        return List.copyOf(result);
+    }
+
+    private static Employee withContact(Employee employee, String email, String phoneNumber) {
+        return new Employee(
+                employee.firstName(),
+                employee.lastName(),
+                employee.department(),
+                employee.address(),
+                email,
+                phoneNumber,
+                employee.dateOfBirth(),
+                employee.weddingDate(),
+                employee.salary());
+    }
+
+    /**
+     * Point-in-time view reading every slot as of one version. Closing it
+     * lets writers trim the versions and deleted slots it was holding.
+     */
+    private final class VersionSnapshot implements Snapshot {
+
+        /**
+         * UNSTAMPED until registered, which keeps every version meanwhile
+         */
+        private volatile long version = UNSTAMPED;
+
+        private volatile boolean closed;
+
+        private long size = -1;
+
+        @Override
+        public synchronized long size() {
+            if (size < 0) {
+                var count = 0L;
+                for (var iterator = iterator(); iterator.hasNext(); iterator.next()) {
+                    count++;
+                }
+                size = count;
+            }
+            return size;
+        }
+
+        @Override
+        public Iterator<Employee> iterator() {
+            checkOpen();
+            var slots = slotsBySequence.values().iterator();
+            return new Iterator<>() {
+
+                private Employee next;
+
+                @Override
+                public boolean hasNext() {
+                    checkOpen();
+                    while (next == null && slots.hasNext()) {
+                        next = slots.next().employeeAt(version);
+                    }
+                    return next != null;
+                }
+
+                @Override
+                public Employee next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    var result = next;
+                    next = null;
+                    return result;
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                openSnapshots.remove(this);
+                unlinkDeletedSlots();
+            }
+        }
+
+        private void checkOpen() {
+            if (closed) {
+                throw new IllegalStateException("Snapshot is closed");
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.employee.management.repository;
+
+import com.employee.management.model.Employee;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Snapshot over a private copy of the store, for repositories that keep a
+ * single version
+ */
+final class CopiedSnapshot implements Snapshot {
+
+    private volatile List<Employee> employees;
+
+    private final long size;
+
+    CopiedSnapshot(List<Employee> employees) {
+        this.employees = employees;
+        this.size = employees.size();
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<Employee> iterator() {
+        var current = employees;
+        if (current == null) {
+            throw new IllegalStateException("Snapshot is closed");
+        }
+        return current.iterator();
+    }
+
+    @Override
+    public void close() {
+        employees = null;
+    }
+}
@@ -0,0 +1,56 @@
+package com.employee.management.repository;
+
+import com.employee.management.model.DepartmentStats;
+
+import java.math.BigDecimal;
+import java.util.TreeMap;
+
+/**
+ * Running salary aggregate for one department.
+ * The sum is kept as an exact BigDecimal so repeated add/remove cycles do not
+ * accumulate floating-point drift, and salaries are kept in a sorted multiset
+ * so min and max survive deletions. Not thread-safe; callers guard it with the
+ * owning repository's lock.
+ */
+class DepartmentAggregate {
+
+    private final String department;
+
+    private final TreeMap<Double, Integer> salaries;
+
+    private BigDecimal total;
+
+    private long count;
+
+    DepartmentAggregate(String department) {
+        this.department = department;
+        this.salaries = new TreeMap<>();
+        this.total = BigDecimal.ZERO;
+    }
+
+    /**
+     * Adds a salary; leaves the aggregate unchanged if the salary is not finite
+     */
+    void add(double salary) {
+        var exact = new BigDecimal(salary);
+        salaries.merge(salary, 1, Integer::sum);
+        total = total.add(exact);
+        count++;
+    }
+
+    void remove(double salary) {
+        var exact = new BigDecimal(salary);
+        salaries.computeIfPresent(salary, (key, occurrences) -> occurrences == 1 ? null : occurrences - 1);
+        total = total.subtract(exact);
+        count--;
+    }
+
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    DepartmentStats toStats() {
+        return new DepartmentStats(department, count, total.doubleValue(),
+                salaries.firstKey(), salaries.lastKey());
+    }
+}
@@ -1,9 +1,30 @@
 package com.employee.management.repository;
 
+import com.employee.management.model.DepartmentStats;
 import com.employee.management.model.Employee;
+import com.employee.management.model.Page;
+import com.employee.management.model.VersionedEmployee;
+import com.employee.management.query.AccessPath;
+import com.employee.management.query.Query;
+import com.employee.management.query.QueryPlan;
+import com.employee.management.util.SalaryRanking;
+import com.employee.management.util.SalarySummary;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Employee CRUD operations.
@@ -15,6 +36,14 @@ public interface EmployeeRepository {
      */
     void save(Employee employee);
 
+    /**
+     * Saves a batch of new employees, in order. Implementations apply the
+     * whole batch under a single lock acquisition.
+     */
+    default void saveAll(Collection<Employee> employees) {
+        employees.forEach(this::save);
+    }
+
     /**
      * Finds the first employee with the given first name
      */
@@ -25,11 +54,183 @@ public interface EmployeeRepository {
      */
     List<Employee> findAllByFirstName(String firstName);
 
+    /**
+     * Finds all employees for each of the given first names, keyed by the
+     * name as given; names without matches are left out. Implementations
+     * answer the whole batch under a single lock acquisition, and stores
+     * without a name index in a single pass.
+     */
+    default Map<String, List<Employee>> findAllByFirstNames(Collection<String> firstNames) {
+        var result = new LinkedHashMap<String, List<Employee>>();
+        for (var firstName : firstNames) {
+            var matches = findAllByFirstName(firstName);
+            if (!matches.isEmpty()) {
+                result.put(firstName, matches);
+            }
+        }
+        return result;
+    }
+
     /**
      * Returns all employees in the repository
      */
     List<Employee> findAll();
 
+    /**
+     * Visits every employee in insertion order without copying the store.
+     * The action runs while the repository is locked for reading, so it must
+     * be short and must not call back into the repository.
+     */
+    default void forEach(Consumer<? super Employee> action) {
+        findAll().forEach(action);
+    }
+
+    /**
+     * Visits the first name and phone number of every employee in insertion
+     * order. Stores that keep fields apart override this to avoid building an
+     * Employee per row. Same locking rules as {@link #forEach(Consumer)}.
+     */
+    default void forEachNamePhone(BiConsumer<? super String, ? super String> action) {
+        forEach(employee -> action.accept(employee.firstName(), employee.phoneNumber()));
+    }
+
+    /**
+     * Visits every employee matching the filter, in insertion order, without
+     * copying the store. Same locking rules as {@link #forEach(Consumer)}.
+     */
+    default void scan(Predicate<? super Employee> filter, Consumer<? super Employee> action) {
+        forEach(employee -> {
+            if (filter.test(employee)) {
+                action.accept(employee);
+            }
+        });
+    }
+
+    /**
+     * Gets the employees matching every condition of the query, in insertion
+     * order. Repositories with indexes answer it through the plan returned
+     * by {@link #explain(Query)}; the default scans every employee.
+     */
+    default List<Employee> find(Query query) {
+        var result = new ArrayList<Employee>();
+        scan(query::matches, result::add);
+        return result;
+    }
+
+    /**
+     * Describes how {@link #find(Query)} runs the query
+     */
+    default QueryPlan explain(Query query) {
+        return QueryPlan.fullScan(query, count());
+    }
+
+    /**
+     * Gets the access paths this repository keeps indexes for, which
+     * {@link #find(Query)} and the analytics methods use instead of scanning.
+     * A department index comes with running salary totals per department.
+     */
+    default Set<AccessPath> indexes() {
+        return Set.of();
+    }
+
+    /**
+     * Runs the query over a stream of the backing store, without a defensive
+     * copy, and returns its result. The query must consume the stream with a
+     * terminal operation; the stream is invalid once the query returns.
+     * Same locking rules as {@link #forEach(Consumer)}.
+     */
+    default <R> R stream(Function<? super Stream<Employee>, ? extends R> query) {
+        return query.apply(findAll().stream());
+    }
+
+    /**
+     * Walks all employees in insertion order, handing them to the action in
+     * batches of at most {@code batchSize}. The repository is locked only
+     * while each batch is copied, so writers proceed between batches.
+     * Employees present for the whole walk are visited exactly once;
+     * employees added or removed during the walk may or may not be visited.
+     */
+    default void forEachBatch(int batchSize, Consumer<List<Employee>> action) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        String cursor = null;
+        do {
+            var page = findPage(cursor, batchSize);
+            if (!page.items().isEmpty()) {
+                action.accept(page.items());
+            }
+            cursor = page.nextCursor();
+        } while (cursor != null);
+    }
+
+    /**
+     * Opens a consistent point-in-time view of all employees, in insertion
+     * order, that stays valid while writers continue. Close it to release
+     * the version it holds. The default copies the store while holding out
+     * writers; repositories keeping multiple versions open it in O(1)
+     * without blocking writers.
+     */
+    default Snapshot openSnapshot() {
+        return new CopiedSnapshot(findAll());
+    }
+
+    /**
+     * Gets up to {@code pageSize} employees in insertion order, following the
+     * page the cursor was taken from (null for the first page). Costs
+     * O(log n + pageSize) and holds the lock only while the page is copied.
+     * Cursors stay valid across inserts and deletes: employees present for
+     * the whole walk are returned exactly once.
+     */
+    Page<Employee> findPage(String cursor, int pageSize);
+
+    /**
+     * Finds all employees whose birthday falls on the given date (ignoring year)
+     */
+    default List<Employee> findAllWithBirthdayOn(LocalDate date) {
+        return stream(employees -> employees
+                .filter(emp -> emp.hasBirthdayOn(date))
+                .toList());
+    }
+
+    /**
+     * Finds all employees whose wedding anniversary falls on the given date (ignoring year)
+     */
+    default List<Employee> findAllWithAnniversaryOn(LocalDate date) {
+        return stream(employees -> employees
+                .filter(emp -> emp.hasAnniversaryOn(date))
+                .toList());
+    }
+
+    /**
+     * Returns salary statistics for every department, keyed by department
+     */
+    default Map<String, DepartmentStats> departmentStats() {
+        var result = new HashMap<String, DepartmentStats>();
+        stream(employees -> employees
+                .collect(Collectors.groupingBy(
+                        Employee::department,
+                        SalarySummary.summarizing())))
+                .forEach((department, summary) -> result.put(department, DepartmentStats.of(department, summary)));
+        return result;
+    }
+
+    /**
+     * Returns up to {@code limit} employees with the highest salaries, highest
+     * first; ties keep insertion order
+     */
+    default List<Employee> findTopBySalary(int limit) {
+        return stream(employees -> employees.collect(SalaryRanking.highestPaid(limit)));
+    }
+
+    /**
+     * Returns up to {@code limit} employees with the lowest salaries, lowest
+     * first; ties keep insertion order
+     */
+    default List<Employee> findBottomBySalary(int limit) {
+        return stream(employees -> employees.collect(SalaryRanking.lowestPaid(limit)));
+    }
+
     /**
      * Updates the email and phone number of an employee
      * 
@@ -37,6 +238,22 @@ public interface EmployeeRepository {
      */
     boolean updateEmailAndPhone(String firstName, String email, String phoneNumber);
 
+    /**
+     * Finds the first employee with the given first name together with its
+     * record version, for {@link #updateIfVersion}. Versions are never
+     * reused within a repository, not even after a delete and re-save.
+     */
+    Optional<VersionedEmployee> findVersionedByFirstName(String firstName);
+
+    /**
+     * Updates the email and phone number of the first employee with the
+     * given first name, only if its record is still at the expected version
+     *
+     * @return true if the update was applied, false if the employee was not
+     * found or was updated since that version was read
+     */
+    boolean updateIfVersion(String firstName, long expectedVersion, String email, String phoneNumber);
+
     /**
      * Deletes an employee by first name
      * 
@@ -0,0 +1,53 @@
+package com.employee.management.repository;
+
+import com.employee.management.model.Employee;
+import com.employee.management.util.NameNormalizer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the matches of several first-name lookups during a single pass
+ * over a store that has no name index.
+ */
+final class FirstNameBatch {
+
+    private final Collection<String> firstNames;
+
+    private final Map<String, List<Employee>> matchesByKey;
+
+    FirstNameBatch(Collection<String> firstNames) {
+        this.firstNames = firstNames;
+        this.matchesByKey = new HashMap<>();
+        for (var firstName : firstNames) {
+            matchesByKey.computeIfAbsent(NameNormalizer.fold(firstName), key -> new ArrayList<>());
+        }
+    }
+
+    /**
+     * Gets the match list for the first name, or null if no requested name
+     * equals it ignoring case
+     */
+    List<Employee> matchesFor(String firstName) {
+        return matchesByKey.get(NameNormalizer.fold(firstName));
+    }
+
+    /**
+     * Gets the matches keyed by the names as requested; names without
+     * matches are left out
+     */
+    Map<String, List<Employee>> result() {
+        var result = new LinkedHashMap<String, List<Employee>>();
+        for (var firstName : firstNames) {
+            var matches = matchesByKey.get(NameNormalizer.fold(firstName));
+            if (!matches.isEmpty()) {
+                result.put(firstName, matches);
+            }
+        }
+        return result;
+    }
+}
@@ -1,12 +1,20 @@
 package com.employee.management.repository;
 
 import com.employee.management.model.Employee;
+import com.employee.management.model.Page;
+import com.employee.management.model.VersionedEmployee;
 import com.employee.management.util.LoggerUtil;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 /**
  * In-memory implementation of EmployeeRepository using ArrayList.
@@ -17,20 +25,48 @@ public class InMemoryEmployeeRepository implements EmployeeRepository {
 
     private final List<Employee> employees;
 
+    /**
+     * Ascending row ids parallel to employees, used to resume page walks
+     */
+    private final List<Long> ids;
+
+    /**
+     * Record versions parallel to employees, from one counter per repository
+     */
+    private final List<Long> versions;
+
+    private long nextId;
+
+    private long lastVersion;
+
     public InMemoryEmployeeRepository() {
         this.employees = new ArrayList<>();
+        this.ids = new ArrayList<>();
+        this.versions = new ArrayList<>();
         LOGGER.info("InMemoryEmployeeRepository initialized");
     }
 
     @Override
     public synchronized void save(Employee employee) {
         employees.add(employee);
-        LOGGER.info("Employee saved: " + employee.getFullName());
+        ids.add(nextId++);
+        versions.add(++lastVersion);
+        LOGGER.info(() -> "Employee saved: " + employee.getFullName());
+    }
+
+    @Override
+    public synchronized void saveAll(Collection<Employee> employees) {
+        for (var employee : employees) {
+            this.employees.add(employee);
+            ids.add(nextId++);
+            versions.add(++lastVersion);
+        }
+        LOGGER.info(() -> "Employees saved in batch: " + employees.size());
     }
 
     @Override
     public synchronized Optional<Employee> findByFirstName(String firstName) {
-        LOGGER.info("Searching for employee with firstName: " + firstName);
+        LOGGER.info(() -> "Searching for employee with firstName: " + firstName);
         return employees.stream()
                 .filter(emp -> emp.firstName().equalsIgnoreCase(firstName))
                 .findFirst();
@@ -38,55 +74,122 @@ public class InMemoryEmployeeRepository implements EmployeeRepository {
 
     @Override
     public synchronized List<Employee> findAllByFirstName(String firstName) {
-        LOGGER.info("Searching for all employees with firstName: " + firstName);
+        LOGGER.info(() -> "Searching for all employees with firstName: " + firstName);
         return employees.stream()
                 .filter(emp -> emp.firstName().equalsIgnoreCase(firstName))
                 .toList();
     }
 
+    @Override
+    public synchronized Map<String, List<Employee>> findAllByFirstNames(Collection<String> firstNames) {
+        LOGGER.info(() -> "Searching for all employees with " + firstNames.size() + " firstNames");
+        var batch = new FirstNameBatch(firstNames);
+        for (var employee : employees) {
+            var matches = batch.matchesFor(employee.firstName());
+            if (matches != null) {
+                matches.add(employee);
+            }
+        }
+        return batch.result();
+    }
+
     @Override
     public synchronized List<Employee> findAll() {
-        LOGGER.info("Retrieving all employees. Total count: " + employees.size());
+        LOGGER.info(() -> "Retrieving all employees. Total count: " + employees.size());
         // Return a copy to prevent external modification
         return new ArrayList<>(employees);
     }
 
+    @Override
+    public synchronized void forEach(Consumer<? super Employee> action) {
+        employees.forEach(action);
+    }
+
+    @Override
+    public synchronized <R> R stream(Function<? super Stream<Employee>, ? extends R> query) {
+        return query.apply(employees.stream());
+    }
+
+    @Override
+    public synchronized Page<Employee> findPage(String cursor, int pageSize) {
+        PageCursor.checkPageSize(pageSize);
+
+        var start = firstIndexAfter(PageCursor.decode(cursor));
+        var end = Math.min(employees.size(), start + pageSize);
+        if (start >= end) {
+            return new Page<>(List.of(), null);
+        }
+        var items = new ArrayList<>(employees.subList(start, end));
+        return new Page<>(items, end < employees.size() ? PageCursor.encode(ids.get(end - 1)) : null);
+    }
+
     @Override
     public synchronized boolean updateEmailAndPhone(String firstName, String email, String phoneNumber) {
-        LOGGER.info("Attempting to update email and phone for: " + firstName);
+        LOGGER.info(() -> "Attempting to update email and phone for: " + firstName);
 
-        for (int i = 0; i < employees.size(); i++) {
-            var employee = employees.get(i);
-            if (employee.firstName().equalsIgnoreCase(firstName)) {
-                // Create a new Employee record with updated values
-                var updatedEmployee = new Employee(
-                        employee.firstName(),
-                        employee.lastName(),
-                        employee.department(),
-                        employee.address(),
-                        email,
-                        phoneNumber,
-                        employee.dateOfBirth(),
-                        employee.weddingDate(),
-                        employee.salary());
-                employees.set(i, updatedEmployee);
-                LOGGER.info("Employee updated successfully: " + firstName);
-                return true;
-            }
+        var index = indexOfFirstName(firstName);
+        if (index < 0) {
+            LOGGER.warning("Employee not found for update: " + firstName);
+            return false;
+        }
+
+        updateContact(index, email, phoneNumber);
+        LOGGER.info(() -> "Employee updated successfully: " + firstName);
+        return true;
+    }
+
+    @Override
+    public synchronized Optional<VersionedEmployee> findVersionedByFirstName(String firstName) {
+        var index = indexOfFirstName(firstName);
+        return index < 0
+                ? Optional.empty()
+                : Optional.of(new VersionedEmployee(employees.get(index), versions.get(index)));
+    }
+
+    @Override
+    public synchronized boolean updateIfVersion(String firstName, long expectedVersion, String email,
+                                                String phoneNumber) {
+        LOGGER.info(() -> "Attempting to update email and phone for: " + firstName + " at version " + expectedVersion);
+
+        var index = indexOfFirstName(firstName);
+        if (index < 0) {
+            LOGGER.warning("Employee not found for update: " + firstName);
+            return false;
+        }
+        long version = versions.get(index);
+        if (version != expectedVersion) {
+            LOGGER.info(() -> "Version conflict for " + firstName + ": expected " + expectedVersion
+                    + " but found " + version);
+            return false;
         }
 
-        LOGGER.warning("Employee not found for update: " + firstName);
-        return false;
+        updateContact(index, email, phoneNumber);
+        LOGGER.info(() -> "Employee updated successfully: " + firstName);
+        return true;
     }
 
     @Override
     public synchronized boolean deleteByFirstName(String firstName) {
-        LOGGER.info("Attempting to delete employee: " + firstName);
+        LOGGER.info(() -> "Attempting to delete employee: " + firstName);
 
-        var result = employees.removeIf(emp -> emp.firstName().equalsIgnoreCase(firstName));
+        // Compact the lists in one pass so ids and versions stay aligned with employees
+        var target = 0;
+        for (int i = 0; i < employees.size(); i++) {
+            var employee = employees.get(i);
+            if (!employee.firstName().equalsIgnoreCase(firstName)) {
+                employees.set(target, employee);
+                ids.set(target, ids.get(i));
+                versions.set(target, versions.get(i));
+                target++;
+            }
+        }
+        var result = target < employees.size();
+        employees.subList(target, employees.size()).clear();
+        ids.subList(target, ids.size()).clear();
+        versions.subList(target, versions.size()).clear();
 
         if (result) {
-            LOGGER.info("Employee deleted successfully: " + firstName);
+            LOGGER.info(() -> "Employee deleted successfully: " + firstName);
         } else {
             LOGGER.warning("Employee not found for deletion: " + firstName);
         }
@@ -104,4 +207,42 @@ public class InMemoryEmployeeRepository implements EmployeeRepository {
     public synchronized long count() {
         return employees.size();
     }
+
+    private int indexOfFirstName(String firstName) {
+        for (int i = 0; i < employees.size(); i++) {
+            if (employees.get(i).firstName().equalsIgnoreCase(firstName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Replaces the email and phone number at the position and gives the
+     * record a new version
+     */
+    private void updateContact(int index, String email, String phoneNumber) {
+        var employee = employees.get(index);
+        // Create a new Employee record with updated values
+        var updatedEmployee = new Employee(
+                employee.firstName(),
+                employee.lastName(),
+                employee.department(),
+                employee.address(),
+                email,
+                phoneNumber,
+                employee.dateOfBirth(),
+                employee.weddingDate(),
+                employee.salary());
+        employees.set(index, updatedEmployee);
+        versions.set(index, ++lastVersion);
+    }
+
+    /**
+     * Returns the position of the first row with an id greater than the given one
+     */
+    private int firstIndexAfter(long id) {
+        var position = Collections.binarySearch(ids, id);
+        return position >= 0 ? position + 1 : -position - 1;
+    }
 }
@@ -0,0 +1,783 @@
+package com.employee.management.repository;
+
+import com.employee.management.exception.DuplicateEmployeeException;
+import com.employee.management.model.DepartmentStats;
+import com.employee.management.model.Employee;
+import com.employee.management.model.Page;
+import com.employee.management.model.VersionedEmployee;
+import com.employee.management.query.AccessPath;
+import com.employee.management.query.Condition;
+import com.employee.management.query.Query;
+import com.employee.management.query.QueryPlan;
+import com.employee.management.util.LoggerUtil;
+import com.employee.management.util.NameNormalizer;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * In-memory implementation of EmployeeRepository with a hash index on the
+ * case-folded first name, so lookups by first name run in O(1) expected time
+ * and updates and deletes find their rows without scanning every employee.
+ * Rows are kept in id order so page walks can resume after any id. Month-day
+ * indexes on date of birth and wedding date serve birthday and anniversary
+ * lookups without touching non-matching employees, and per-department salary
+ * aggregates are updated on every mutation so statistics cost O(#departments).
+ * A salary-ordered index keyed by (salary, id) answers top-k and bottom-k
+ * queries in O(log n + k). Hash indexes on department, case-folded email and
+ * phone number serve reverse lookups, and optionally reject duplicate emails
+ * or phone numbers (see {@link UniqueConstraints}) without a scan.
+ * {@link #find(Query)} runs each query through the index estimated to yield
+ * the fewest rows and filters the candidates on the remaining conditions.
+ * Guarded by a read/write lock so read-only queries proceed in parallel and
+ * only mutations are exclusive.
+ * <p>
+ * The rows themselves live in a persistent map: each mutation publishes a
+ * new version that shares all unchanged nodes with the previous one. Full
+ * listings, streams, pages and {@link #openSnapshot()} read the latest
+ * published version without the lock, so long analytics never hold up
+ * writers and always see a single point in time.
+ */
+public class IndexedEmployeeRepository implements EmployeeRepository {
+
+    private static final Logger LOGGER = LoggerUtil.getLogger(IndexedEmployeeRepository.class);
+
+    /**
+     * Row id that no stored row has, for uniqueness checks on new employees
+     */
+    private static final long NO_ROW = -1;
+
+    private static final Set<AccessPath> ACCESS_PATHS = Collections.unmodifiableSet(
+            EnumSet.complementOf(EnumSet.of(AccessPath.FULL_SCAN)));
+
+    /**
+     * Immutable storage slot; updates replace the row in every structure.
+     * Versions come from one counter per repository and are never reused.
+     */
+    private record Row(long id, Employee employee, long version) {
+    }
+
+    /**
+     * Rows by id; ids ascend with insertion so iteration order is insertion
+     * order. Replaced under the write lock, read with or without the lock.
+     */
+    private volatile PersistentLongMap<Row> rows;
+
+    private final Map<String, List<Row>> nameIndex;
+
+    private final MonthDayIndex<Row> birthdayIndex;
+
+    private final MonthDayIndex<Row> anniversaryIndex;
+
+    private final Map<String, DepartmentAggregate> departments;
+
+    private final NavigableMap<Double, NavigableMap<Long, Row>> salaryIndex;
+
+    private final Map<String, NavigableMap<Long, Row>> departmentIndex;
+
+    /**
+     * Rows by case-folded email
+     */
+    private final Map<String, NavigableMap<Long, Row>> emailIndex;
+
+    private final Map<String, NavigableMap<Long, Row>> phoneIndex;
+
+    private final UniqueConstraints uniqueConstraints;
+
+    private final ReadWriteLock lock;
+
+    private long nextId;
+
+    private long lastVersion;
+
+    public IndexedEmployeeRepository() {
+        this(UniqueConstraints.NONE);
+    }
+
+    public IndexedEmployeeRepository(UniqueConstraints uniqueConstraints) {
+        this.rows = PersistentLongMap.empty();
+        this.nameIndex = new HashMap<>();
+        this.birthdayIndex = new MonthDayIndex<>();
+        this.anniversaryIndex = new MonthDayIndex<>();
+        this.departments = new HashMap<>();
+        this.salaryIndex = new TreeMap<>();
+        this.departmentIndex = new HashMap<>();
+        this.emailIndex = new HashMap<>();
+        this.phoneIndex = new HashMap<>();
+        this.uniqueConstraints = uniqueConstraints;
+        this.lock = new ReentrantReadWriteLock();
+        LOGGER.info("IndexedEmployeeRepository initialized with " + uniqueConstraints);
+    }
+
+    @Override
+    public void save(Employee employee) {
+        lock.writeLock().lock();
+        try {
+            checkUnique(employee, NO_ROW);
+            var row = new Row(nextId++, employee, ++lastVersion);
+            // Index before publishing, so a failure leaves no visible row
+            index(row);
+            rows = rows.put(row.id(), row);
+            LOGGER.info(() -> "Employee saved: " + employee.getFullName());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void saveAll(Collection<Employee> employees) {
+        lock.writeLock().lock();
+        try {
+            // Check the whole batch first so a violation leaves the store untouched
+            checkUnique(employees);
+            var updated = rows;
+            var indexed = new ArrayList<Row>(employees.size());
+            try {
+                for (var employee : employees) {
+                    var row = new Row(nextId++, employee, ++lastVersion);
+                    index(row);
+                    indexed.add(row);
+                    updated = updated.put(row.id(), row);
+                }
+            } catch (RuntimeException e) {
+                // Nothing was published; drop the index entries of the rows before the failure
+                indexed.forEach(this::unindex);
+                throw e;
+            }
+            // Publish the batch as one version
+            rows = updated;
+            LOGGER.info(() -> "Employees saved in batch: " + employees.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Employee> findByFirstName(String firstName) {
+        lock.readLock().lock();
+        try {
+            LOGGER.info(() -> "Searching for employee with firstName: " + firstName);
+            var matches = nameIndex.get(NameNormalizer.fold(firstName));
+            return matches == null
+                    ? Optional.empty()
+                    : Optional.of(matches.get(0).employee());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Employee> findAllByFirstName(String firstName) {
+        lock.readLock().lock();
+        try {
+            LOGGER.info(() -> "Searching for all employees with firstName: " + firstName);
+            var matches = nameIndex.get(NameNormalizer.fold(firstName));
+            return matches == null
+                    ? List.of()
+                    : matches.stream().map(Row::employee).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<String, List<Employee>> findAllByFirstNames(Collection<String> firstNames) {
+        lock.readLock().lock();
+        try {
+            LOGGER.info(() -> "Searching for all employees with " + firstNames.size() + " firstNames");
+            var result = new LinkedHashMap<String, List<Employee>>();
+            for (var firstName : firstNames) {
+                var matches = nameIndex.get(NameNormalizer.fold(firstName));
+                if (matches != null) {
+                    result.put(firstName, matches.stream().map(Row::employee).toList());
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Employee> findAll() {
+        var current = rows;
+        LOGGER.info(() -> "Retrieving all employees. Total count: " + current.size());
+        var result = new ArrayList<Employee>(current.size());
+        current.values().forEach(row -> result.add(row.employee()));
+        return result;
+    }
+
+    /**
+     * Visits the latest published version without the lock, so the action
+     * may take its time and writers proceed meanwhile
+     */
+    @Override
+    public void forEach(Consumer<? super Employee> action) {
+        for (var row : rows.values()) {
+            action.accept(row.employee());
+        }
+    }
+
+    /**
+     * Streams the latest published version without the lock
+     */
+    @Override
+    public <R> R stream(Function<? super Stream<Employee>, ? extends R> query) {
+        return query.apply(rows.values().stream().map(Row::employee));
+    }
+
+    @Override
+    public Page<Employee> findPage(String cursor, int pageSize) {
+        PageCursor.checkPageSize(pageSize);
+        var lastId = PageCursor.decode(cursor);
+
+        var current = rows;
+        var items = new ArrayList<Employee>(Math.min(pageSize, current.size()));
+        for (var remaining = current.valuesAfter(lastId); remaining.hasNext() && items.size() < pageSize; ) {
+            var row = remaining.next();
+            items.add(row.employee());
+            lastId = row.id();
+        }
+        return new Page<>(items, current.hasKeyAfter(lastId) ? PageCursor.encode(lastId) : null);
+    }
+
+    /**
+     * Captures the latest published version in O(1) without the lock; the
+     * snapshot shares its rows with the live store until writers replace them
+     */
+    @Override
+    public Snapshot openSnapshot() {
+        return new VersionSnapshot(rows);
+    }
+
+    @Override
+    public List<Employee> findAllWithBirthdayOn(LocalDate date) {
+        lock.readLock().lock();
+        try {
+            LOGGER.info(() -> "Searching for employees with birthday on: " + date);
+            return birthdayIndex.celebratedOn(date).stream().map(Row::employee).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Employee> findAllWithAnniversaryOn(LocalDate date) {
+        lock.readLock().lock();
+        try {
+            LOGGER.info(() -> "Searching for employees with anniversary on: " + date);
+            return anniversaryIndex.celebratedOn(date).stream().map(Row::employee).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Employee> find(Query query) {
+        lock.readLock().lock();
+        try {
+            var plan = plan(query);
+            LOGGER.info(() -> "Running query " + query + " as " + plan);
+            var result = new ArrayList<Employee>();
+            for (var row : candidates(plan)) {
+                if (plan.matchesFilters(row.employee())) {
+                    result.add(row.employee());
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public QueryPlan explain(Query query) {
+        lock.readLock().lock();
+        try {
+            return plan(query);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Set<AccessPath> indexes() {
+        return ACCESS_PATHS;
+    }
+
+    @Override
+    public Map<String, DepartmentStats> departmentStats() {
+        lock.readLock().lock();
+        try {
+            var result = new HashMap<String, DepartmentStats>(departments.size() * 2);
+            departments.forEach((department, aggregate) -> result.put(department, aggregate.toStats()));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Employee> findTopBySalary(int limit) {
+        lock.readLock().lock();
+        try {
+            return collectBySalary(salaryIndex.descendingMap(), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Employee> findBottomBySalary(int limit) {
+        lock.readLock().lock();
+        try {
+            return collectBySalary(salaryIndex, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean updateEmailAndPhone(String firstName, String email, String phoneNumber) {
+        lock.writeLock().lock();
+        try {
+            LOGGER.info(() -> "Attempting to update email and phone for: " + firstName);
+
+            var matches = nameIndex.get(NameNormalizer.fold(firstName));
+            if (matches == null) {
+                LOGGER.warning("Employee not found for update: " + firstName);
+                return false;
+            }
+
+            updateContact(matches.get(0), email, phoneNumber);
+            LOGGER.info(() -> "Employee updated successfully: " + firstName);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<VersionedEmployee> findVersionedByFirstName(String firstName) {
+        lock.readLock().lock();
+        try {
+            var matches = nameIndex.get(NameNormalizer.fold(firstName));
+            if (matches == null) {
+                return Optional.empty();
+            }
+            var row = matches.get(0);
+            return Optional.of(new VersionedEmployee(row.employee(), row.version()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean updateIfVersion(String firstName, long expectedVersion, String email, String phoneNumber) {
+        lock.writeLock().lock();
+        try {
+            LOGGER.info(() -> "Attempting to update email and phone for: " + firstName + " at version " + expectedVersion);
+
+            var matches = nameIndex.get(NameNormalizer.fold(firstName));
+            if (matches == null) {
+                LOGGER.warning("Employee not found for update: " + firstName);
+                return false;
+            }
+            var row = matches.get(0);
+            if (row.version() != expectedVersion) {
+                LOGGER.info(() -> "Version conflict for " + firstName + ": expected " + expectedVersion
+                        + " but found " + row.version());
+                return false;
+            }
+
+            updateContact(row, email, phoneNumber);
+            LOGGER.info(() -> "Employee updated successfully: " + firstName);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean deleteByFirstName(String firstName) {
+        lock.writeLock().lock();
+        try {
+            LOGGER.info(() -> "Attempting to delete employee: " + firstName);
+
+            var matches = nameIndex.get(NameNormalizer.fold(firstName));
+            if (matches == null) {
+                LOGGER.warning("Employee not found for deletion: " + firstName);
+                return false;
+            }
+
+            // Copy first: unindexing mutates the bucket being iterated
+            var updated = rows;
+            for (var row : List.copyOf(matches)) {
+                updated = updated.remove(row.id());
+                unindex(row);
+            }
+            rows = updated;
+            LOGGER.info(() -> "Employee deleted successfully: " + firstName);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean existsByFirstName(String firstName) {
+        lock.readLock().lock();
+        try {
+            return nameIndex.containsKey(NameNormalizer.fold(firstName));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long count() {
+        return rows.size();
+    }
+
+    private QueryPlan plan(Query query) {
+        return QueryPlan.choose(query, ACCESS_PATHS, this::estimate, rows.size());
+    }
+
+    /**
+     * Counts the rows an index yields for the condition; salary ranges stop
+     * counting once past the budget
+     */
+    private long estimate(AccessPath path, Condition condition, long budget) {
+        return switch (path) {
+            case NAME_INDEX -> nameIndex.getOrDefault(NameNormalizer.fold(equalsValue(condition)), List.of()).size();
+            case EMAIL_INDEX -> bucketSize(emailIndex, NameNormalizer.fold(equalsValue(condition)));
+            case PHONE_INDEX -> bucketSize(phoneIndex, equalsValue(condition));
+            case DEPARTMENT_INDEX -> bucketSize(departmentIndex, equalsValue(condition));
+            case BIRTHDAY_INDEX -> birthdayIndex.countOn(((Condition.CelebratedOn) condition).date());
+            case ANNIVERSARY_INDEX -> anniversaryIndex.countOn(((Condition.CelebratedOn) condition).date());
+            case SALARY_INDEX -> {
+                long count = 0;
+                for (var bucket : salaryBuckets(condition).values()) {
+                    count += bucket.size();
+                    if (count > budget) {
+                        break;
+                    }
+                }
+                yield count;
+            }
+            case FULL_SCAN -> rows.size();
+        };
+    }
+
+    /**
+     * Rows the plan's access path yields, in id order
+     */
+    private Collection<Row> candidates(QueryPlan plan) {
+        var condition = plan.indexCondition();
+        return switch (plan.access()) {
+            case NAME_INDEX -> nameIndex.getOrDefault(NameNormalizer.fold(equalsValue(condition)), List.of());
+            case EMAIL_INDEX -> bucket(emailIndex, NameNormalizer.fold(equalsValue(condition)));
+            case PHONE_INDEX -> bucket(phoneIndex, equalsValue(condition));
+            case DEPARTMENT_INDEX -> bucket(departmentIndex, equalsValue(condition));
+            case BIRTHDAY_INDEX -> birthdayIndex.celebratedOn(((Condition.CelebratedOn) condition).date());
+            case ANNIVERSARY_INDEX -> anniversaryIndex.celebratedOn(((Condition.CelebratedOn) condition).date());
+            case SALARY_INDEX -> salaryCandidates(condition);
+            case FULL_SCAN -> rows.values();
+        };
+    }
+
+    private Collection<Row> salaryCandidates(Condition condition) {
+        var buckets = salaryBuckets(condition);
+        if (buckets.size() == 1) {
+            return buckets.firstEntry().getValue().values();
+        }
+
+        var result = new ArrayList<Row>();
+        buckets.values().forEach(bucket -> result.addAll(bucket.values()));
+        // Buckets are in salary order; restore insertion order
+        result.sort(Comparator.comparingLong(Row::id));
+        return result;
+    }
+
+    /**
+     * Salary buckets matching an equality or range condition on salary
+     */
+    private NavigableMap<Double, NavigableMap<Long, Row>> salaryBuckets(Condition condition) {
+        if (condition instanceof Condition.Equals equals) {
+            var salary = (Double) equals.value();
+            return salaryIndex.subMap(salary, true, salary, true);
+        }
+
+        var range = (Condition.Range) condition;
+        var lower = (Double) range.lower();
+        var upper = (Double) range.upper();
+        if (lower == null) {
+            return salaryIndex.headMap(upper, true);
+        }
+        if (upper == null) {
+            return salaryIndex.tailMap(lower, true);
+        }
+        if (Double.compare(lower, upper) > 0) {
+            return Collections.emptyNavigableMap();
+        }
+        return salaryIndex.subMap(lower, true, upper, true);
+    }
+
+    private static String equalsValue(Condition condition) {
+        return (String) ((Condition.Equals) condition).value();
+    }
+
+    private static Collection<Row> bucket(Map<String, NavigableMap<Long, Row>> index, String key) {
+        var bucket = index.get(key);
+        return bucket == null ? List.of() : bucket.values();
+    }
+
+    private static int bucketSize(Map<String, NavigableMap<Long, Row>> index, String key) {
+        var bucket = index.get(key);
+        return bucket == null ? 0 : bucket.size();
+    }
+
+    /**
+     * Rejects an employee whose email or phone number is taken by a row
+     * other than {@code ownId}
+     */
+    private void checkUnique(Employee employee, long ownId) {
+        if (uniqueConstraints.email()) {
+            checkUnique(emailIndex, NameNormalizer.fold(employee.email()), ownId, "email", employee.email());
+        }
+        if (uniqueConstraints.phoneNumber()) {
+            checkUnique(phoneIndex, employee.phoneNumber(), ownId, "phone number", employee.phoneNumber());
+        }
+    }
+
+    private void checkUnique(Collection<Employee> employees) {
+        if (!uniqueConstraints.email() && !uniqueConstraints.phoneNumber()) {
+            return;
+        }
+        var emails = new HashSet<String>();
+        var phoneNumbers = new HashSet<String>();
+        for (var employee : employees) {
+            checkUnique(employee, NO_ROW);
+            if (uniqueConstraints.email() && !emails.add(NameNormalizer.fold(employee.email()))) {
+                throw duplicate("email", employee.email());
+            }
+            if (uniqueConstraints.phoneNumber() && !phoneNumbers.add(employee.phoneNumber())) {
+                throw duplicate("phone number", employee.phoneNumber());
+            }
+        }
+    }
+
+    private static void checkUnique(Map<String, NavigableMap<Long, Row>> index, String key, long ownId,
+                                    String label, String value) {
+        var bucket = index.get(key);
+        if (bucket != null && (bucket.size() > 1 || !bucket.containsKey(ownId))) {
+            throw duplicate(label, value);
+        }
+    }
+
+    private static DuplicateEmployeeException duplicate(String label, String value) {
+        var errorMsg = "Employee with " + label + " '" + value + "' already exists";
+        LOGGER.warning(errorMsg);
+        return new DuplicateEmployeeException(errorMsg);
+    }
+
+    /**
+     * Walks salary buckets in the given order, each bucket in insertion order
+     */
+    private static List<Employee> collectBySalary(NavigableMap<Double, NavigableMap<Long, Row>> bySalary, int limit) {
+        var result = new ArrayList<Employee>(Math.max(0, limit));
+        for (var bucket : bySalary.values()) {
+            for (var row : bucket.values()) {
+                if (result.size() >= limit) {
+                    return result;
+                }
+                result.add(row.employee());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Replaces the row's email and phone number under a new version, after
+     * checking the uniqueness constraints
+     */
+    private void updateContact(Row row, String email, String phoneNumber) {
+        var employee = row.employee();
+        var updatedEmployee = new Employee(
+                employee.firstName(),
+                employee.lastName(),
+                employee.department(),
+                employee.address(),
+                email,
+                phoneNumber,
+                employee.dateOfBirth(),
+                employee.weddingDate(),
+                employee.salary());
+        checkUnique(updatedEmployee, row.id());
+        replace(row, new Row(row.id(), updatedEmployee, ++lastVersion));
+    }
+
+    /**
+     * Swaps an existing row for its updated version in the store and indexes
+     */
+    private void replace(Row oldRow, Row newRow) {
+        unindex(oldRow);
+        try {
+            index(newRow);
+        } catch (RuntimeException e) {
+            index(oldRow);
+            throw e;
+        }
+        rows = rows.put(newRow.id(), newRow);
+    }
+
+    /**
+     * Adds the row to every index. The department aggregate goes first and
+     * is all-or-nothing, so if indexing fails the row is in no index at all.
+     */
+    private void index(Row row) {
+        var employee = row.employee();
+        var aggregate = departments.get(employee.department());
+        if (aggregate == null) {
+            aggregate = new DepartmentAggregate(employee.department());
+            aggregate.add(employee.salary());
+            departments.put(employee.department(), aggregate);
+        } else {
+            aggregate.add(employee.salary());
+        }
+
+        var bucket = nameIndex.computeIfAbsent(
+                NameNormalizer.fold(row.employee().firstName()), key -> new ArrayList<>(1));
+        // Keep buckets in insertion (id) order so findByFirstName returns the oldest match
+        var position = bucket.size();
+        while (position > 0 && bucket.get(position - 1).id() > row.id()) {
+            position--;
+        }
+        bucket.add(position, row);
+
+        birthdayIndex.add(employee.dateOfBirth(), row.id(), row);
+        if (employee.weddingDate() != null) {
+            anniversaryIndex.add(employee.weddingDate(), row.id(), row);
+        }
+        salaryIndex.computeIfAbsent(employee.salary(), salary -> new TreeMap<>())
+                .put(row.id(), row);
+        addTo(departmentIndex, employee.department(), row);
+        addTo(emailIndex, NameNormalizer.fold(employee.email()), row);
+        addTo(phoneIndex, employee.phoneNumber(), row);
+    }
+
+    private void unindex(Row row) {
+        var key = NameNormalizer.fold(row.employee().firstName());
+        var bucket = nameIndex.get(key);
+        if (bucket != null) {
+            bucket.removeIf(candidate -> candidate.id() == row.id());
+            if (bucket.isEmpty()) {
+                nameIndex.remove(key);
+            }
+        }
+
+        var employee = row.employee();
+        birthdayIndex.remove(employee.dateOfBirth(), row.id());
+        if (employee.weddingDate() != null) {
+            anniversaryIndex.remove(employee.weddingDate(), row.id());
+        }
+        var aggregate = departments.get(employee.department());
+        if (aggregate != null) {
+            aggregate.remove(employee.salary());
+            if (aggregate.isEmpty()) {
+                departments.remove(employee.department());
+            }
+        }
+        var salaryBucket = salaryIndex.get(employee.salary());
+        if (salaryBucket != null) {
+            salaryBucket.remove(row.id());
+            if (salaryBucket.isEmpty()) {
+                salaryIndex.remove(employee.salary());
+            }
+        }
+        removeFrom(departmentIndex, employee.department(), row.id());
+        removeFrom(emailIndex, NameNormalizer.fold(employee.email()), row.id());
+        removeFrom(phoneIndex, employee.phoneNumber(), row.id());
+    }
+
+    private static void addTo(Map<String, NavigableMap<Long, Row>> index, String key, Row row) {
+        index.computeIfAbsent(key, k -> new TreeMap<>()).put(row.id(), row);
+    }
+
+    private static void removeFrom(Map<String, NavigableMap<Long, Row>> index, String key, long id) {
+        var bucket = index.get(key);
+        if (bucket != null) {
+            bucket.remove(id);
+            if (bucket.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Point-in-time view pinning one version of the rows. Closing drops the
+     * reference, so nodes no longer shared with a newer version become
+     * garbage once every snapshot holding them is closed.
+     */
+    private static final class VersionSnapshot implements Snapshot {
+
+        private volatile PersistentLongMap<Row> version;
+
+        private final long size;
+
+        private VersionSnapshot(PersistentLongMap<Row> version) {
+            this.version = version;
+            this.size = version.size();
+        }
+
+        @Override
+        public long size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Employee> iterator() {
+            var current = version;
+            if (current == null) {
+                throw new IllegalStateException("Snapshot is closed");
+            }
+            var remaining = current.values().iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return remaining.hasNext();
+                }
+
+                @Override
+                public Employee next() {
+                    return remaining.next().employee();
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+            version = null;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.employee.management.repository;
+
+import com.employee.management.util.CalendarUtil;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Calendar index with one bucket per month-day slot (366 buckets).
+ * Buckets are keyed by row id so results keep insertion order.
+ * Not thread-safe; callers guard it with the owning repository's lock.
+ */
+class MonthDayIndex<V> {
+
+    private final List<NavigableMap<Long, V>> buckets;
+
+    MonthDayIndex() {
+        this.buckets = new ArrayList<>(CalendarUtil.MONTH_DAY_SLOTS);
+        for (int i = 0; i < CalendarUtil.MONTH_DAY_SLOTS; i++) {
+            buckets.add(null);
+        }
+    }
+
+    void add(LocalDate date, long id, V value) {
+        var slot = CalendarUtil.monthDaySlot(date);
+        var bucket = buckets.get(slot);
+        if (bucket == null) {
+            bucket = new TreeMap<>();
+            buckets.set(slot, bucket);
+        }
+        bucket.put(id, value);
+    }
+
+    void remove(LocalDate date, long id) {
+        var slot = CalendarUtil.monthDaySlot(date);
+        var bucket = buckets.get(slot);
+        if (bucket != null) {
+            bucket.remove(id);
+            if (bucket.isEmpty()) {
+                buckets.set(slot, null);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of values celebrated on the given date
+     */
+    int countOn(LocalDate date) {
+        var count = 0;
+        for (var slot : CalendarUtil.slotsCelebratedOn(date)) {
+            var bucket = buckets.get(slot);
+            count += bucket == null ? 0 : bucket.size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the values celebrated on the given date, in insertion order
+     */
+    List<V> celebratedOn(LocalDate date) {
+        var slots = CalendarUtil.slotsCelebratedOn(date);
+        if (slots.length == 1) {
+            var bucket = buckets.get(slots[0]);
+            return bucket == null ? List.of() : List.copyOf(bucket.values());
+        }
+
+        // Leap-day fallback spans two buckets; merge them by id
+        var merged = new TreeMap<Long, V>();
+        for (var slot : slots) {
+            var bucket = buckets.get(slot);
+            if (bucket != null) {
+                merged.putAll(bucket);
+            }
+        }
+        return List.copyOf(merged.values());
+    }
+}
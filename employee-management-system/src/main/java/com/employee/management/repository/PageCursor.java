@@ -0,0 +1,67 @@
+package com.employee.management.repository;
+
+import com.employee.management.exception.InvalidInputException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * Utility class encoding page cursors. A cursor carries the id of the last
+ * row of the previous page; ids only ascend, so a walk resumes at the right
+ * place even after rows before or after it were inserted or deleted.
+ */
+final class PageCursor {
+
+    /**
+     * Row id before the first row, used when no cursor is given
+     */
+    static final long START = -1;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private PageCursor() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Encodes the id of the last row returned
+     */
+    static String encode(long lastRowId) {
+        return ENCODER.encodeToString(ByteBuffer.allocate(Long.BYTES).putLong(lastRowId).array());
+    }
+
+    /**
+     * Decodes a cursor into the id of the last row returned, or START for null
+     */
+    static long decode(String cursor) {
+        if (cursor == null) {
+            return START;
+        }
+
+        byte[] bytes;
+        try {
+            bytes = DECODER.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidInputException("Invalid page cursor: " + cursor, e);
+        }
+        if (bytes.length != Long.BYTES) {
+            throw new InvalidInputException("Invalid page cursor: " + cursor);
+        }
+        var lastRowId = ByteBuffer.wrap(bytes).getLong();
+        if (lastRowId < 0) {
+            throw new InvalidInputException("Invalid page cursor: " + cursor);
+        }
+        return lastRowId;
+    }
+
+    /**
+     * Validates the requested page size
+     */
+    static void checkPageSize(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.employee.management.repository;
+
+import java.util.AbstractCollection;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable sorted map from long keys to values, as a persistent AVL tree.
+ * Every update returns a new map that copies only the O(log n) nodes on the
+ * path to the changed key and shares the rest with the previous version, so
+ * any number of versions can be read concurrently without locking while a
+ * writer produces the next one. A version is reclaimed by the garbage
+ * collector once nothing references its root.
+ */
+final class PersistentLongMap<V> {
+
+    private static final PersistentLongMap<?> EMPTY = new PersistentLongMap<>(null);
+
+    private final Node<V> root;
+
+    private static final class Node<V> {
+
+        private final long key;
+
+        private final V value;
+
+        private final Node<V> left;
+
+        private final Node<V> right;
+
+        private final int height;
+
+        private final int size;
+
+        private Node(long key, V value, Node<V> left, Node<V> right) {
+            this.key = key;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.height = 1 + Math.max(height(left), height(right));
+            this.size = 1 + size(left) + size(right);
+        }
+    }
+
+    private PersistentLongMap(Node<V> root) {
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <V> PersistentLongMap<V> empty() {
+        return (PersistentLongMap<V>) EMPTY;
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    V get(long key) {
+        var node = root;
+        while (node != null) {
+            if (key < node.key) {
+                node = node.left;
+            } else if (key > node.key) {
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether any key is greater than the given one
+     */
+    boolean hasKeyAfter(long key) {
+        var node = root;
+        while (node != null) {
+            if (node.key > key) {
+                return true;
+            }
+            node = node.right;
+        }
+        return false;
+    }
+
+    /**
+     * Returns a map with the key set to the value
+     */
+    PersistentLongMap<V> put(long key, V value) {
+        return new PersistentLongMap<>(put(root, key, value));
+    }
+
+    /**
+     * Returns a map without the key, or this map if the key is absent
+     */
+    PersistentLongMap<V> remove(long key) {
+        var updated = remove(root, key);
+        return updated == root ? this : new PersistentLongMap<>(updated);
+    }
+
+    /**
+     * Gets the values in key order, as a read-only view of this version
+     */
+    Collection<V> values() {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<V> iterator() {
+                return valuesAfter(Long.MIN_VALUE);
+            }
+
+            @Override
+            public int size() {
+                return PersistentLongMap.this.size();
+            }
+        };
+    }
+
+    /**
+     * Iterates the values of the keys greater than the given one, in key
+     * order. Long.MIN_VALUE itself is never yielded, so it starts at the
+     * beginning for the non-negative keys used by the repositories.
+     */
+    Iterator<V> valuesAfter(long key) {
+        return new ValueIterator<>(root, key);
+    }
+
+    private static <V> Node<V> put(Node<V> node, long key, V value) {
+        if (node == null) {
+            return new Node<>(key, value, null, null);
+        }
+        if (key < node.key) {
+            return balance(node.key, node.value, put(node.left, key, value), node.right);
+        }
+        if (key > node.key) {
+            return balance(node.key, node.value, node.left, put(node.right, key, value));
+        }
+        return new Node<>(key, value, node.left, node.right);
+    }
+
+    private static <V> Node<V> remove(Node<V> node, long key) {
+        if (node == null) {
+            return null;
+        }
+        if (key < node.key) {
+            var left = remove(node.left, key);
+            return left == node.left ? node : balance(node.key, node.value, left, node.right);
+        }
+        if (key > node.key) {
+            var right = remove(node.right, key);
+            return right == node.right ? node : balance(node.key, node.value, node.left, right);
+        }
+        if (node.left == null) {
+            return node.right;
+        }
+        if (node.right == null) {
+            return node.left;
+        }
+        var successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.key, successor.value, node.left, removeFirst(node.right));
+    }
+
+    private static <V> Node<V> removeFirst(Node<V> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(node.key, node.value, removeFirst(node.left), node.right);
+    }
+
+    /**
+     * Builds a node from subtrees whose heights differ by at most two,
+     * rotating to restore the AVL invariant
+     */
+    private static <V> Node<V> balance(long key, V value, Node<V> left, Node<V> right) {
+        var leftHeight = height(left);
+        var rightHeight = height(right);
+        if (leftHeight > rightHeight + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.key, left.value, left.left, new Node<>(key, value, left.right, right));
+            }
+            var pivot = left.right;
+            return new Node<>(pivot.key, pivot.value,
+                    new Node<>(left.key, left.value, left.left, pivot.left),
+                    new Node<>(key, value, pivot.right, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.key, right.value, new Node<>(key, value, left, right.left), right.right);
+            }
+            var pivot = right.left;
+            return new Node<>(pivot.key, pivot.value,
+                    new Node<>(key, value, left, pivot.left),
+                    new Node<>(right.key, right.value, pivot.right, right.right));
+        }
+        return new Node<>(key, value, left, right);
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * In-order walk holding the path of pending ancestors, O(log n) space
+     */
+    private static final class ValueIterator<V> implements Iterator<V> {
+
+        private final ArrayDeque<Node<V>> path = new ArrayDeque<>();
+
+        private ValueIterator(Node<V> root, long after) {
+            var node = root;
+            while (node != null) {
+                if (node.key > after) {
+                    path.push(node);
+                    node = node.left;
+                } else {
+                    node = node.right;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public V next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            var node = path.pop();
+            for (var next = node.right; next != null; next = next.left) {
+                path.push(next);
+            }
+            return node.value;
+        }
+    }
+}
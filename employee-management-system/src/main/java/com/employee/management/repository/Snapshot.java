@@ -0,0 +1,42 @@
+package com.employee.management.repository;
+
+import com.employee.management.model.Employee;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Consistent point-in-time view of a repository, opened with
+ * {@link EmployeeRepository#openSnapshot()}. Iteration yields the employees
+ * present when the snapshot was opened, in insertion order, no matter what
+ * is written afterwards, and never blocks writers. Iterating a closed
+ * snapshot throws IllegalStateException.
+ */
+public interface Snapshot extends Iterable<Employee>, AutoCloseable {
+
+    /**
+     * Gets the number of employees in the snapshot
+     */
+    long size();
+
+    /**
+     * Gets a sequential stream of the employees in the snapshot
+     */
+    default Stream<Employee> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    @Override
+    default Spliterator<Employee> spliterator() {
+        return Spliterators.spliterator(iterator(), size(),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * Releases the version held by the snapshot so it can be reclaimed
+     */
+    @Override
+    void close();
+}
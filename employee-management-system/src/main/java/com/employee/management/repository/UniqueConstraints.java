@@ -0,0 +1,13 @@
+package com.employee.management.repository;
+
+/**
+ * Uniqueness constraints enforced by {@link IndexedEmployeeRepository}.
+ * Emails compare case-insensitively, phone numbers exactly.
+ */
+public record UniqueConstraints(boolean email, boolean phoneNumber) {
+
+    /**
+     * No constraints beyond what the service checks
+     */
+    public static final UniqueConstraints NONE = new UniqueConstraints(false, false);
+}
@@ -0,0 +1,385 @@
+package com.employee.management.server;
+
+import com.employee.management.exception.DuplicateEmployeeException;
+import com.employee.management.exception.EmployeeNotFoundException;
+import com.employee.management.exception.InvalidInputException;
+import com.employee.management.io.JsonCodec;
+import com.employee.management.query.Condition;
+import com.employee.management.query.EmployeeField;
+import com.employee.management.query.Query;
+import com.employee.management.service.EmployeeService;
+import com.employee.management.util.LoggerUtil;
+import com.employee.management.util.VirtualThreads;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * JSON-over-HTTP front end for an {@link EmployeeService}, built on the JDK
+ * HTTP server. Each request runs on its own virtual thread when the runtime
+ * supports them (Java 21+), otherwise on a fixed pool of platform threads.
+ *
+ * <pre>
+ * GET    /employees                  page of employees (cursor, size), or the
+ *                                    employees matching department, email,
+ *                                    phoneNumber, minSalary and maxSalary
+ * POST   /employees                  add an employee
+ * GET    /employees/{firstName}      employees with the first name
+ * PUT    /employees/{firstName}      update email and phoneNumber
+ * DELETE /employees/{firstName}      delete
+ * GET    /contacts                   page of firstName/phoneNumber (cursor, size)
+ * GET    /analytics/count            employee count
+ * GET    /analytics/average-salary   average salary by department
+ * GET    /analytics/department-stats salary statistics by department
+ * GET    /analytics/top-paid         n highest paid (n, default 3)
+ * GET    /analytics/lowest-paid      n lowest paid (n, default 3)
+ * GET    /analytics/birthdays        birthday contacts on date (yyyy-MM-dd)
+ * GET    /analytics/anniversaries    anniversary contacts on date (yyyy-MM-dd)
+ * </pre>
+ *
+ * Missing employees map to 404, duplicates to 409 and invalid input to 400;
+ * error bodies are {"error": message}.
+ *
+ * Run with -Dsun.net.httpserver.nodelay=true: with Nagle's algorithm on,
+ * the body write of a keep-alive response waits for the delayed ACK of its
+ * headers, about 40 ms per request. The JDK reads the property once, when
+ * the first server is created; {@code Main} sets it before serving.
+ */
+public class EmployeeHttpServer implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerUtil.getLogger(EmployeeHttpServer.class);
+
+    private static final int OK = 200;
+
+    private static final int CREATED = 201;
+
+    private static final int NO_CONTENT = 204;
+
+    private static final int BAD_REQUEST = 400;
+
+    private static final int NOT_FOUND = 404;
+
+    private static final int METHOD_NOT_ALLOWED = 405;
+
+    private static final int CONFLICT = 409;
+
+    private static final int INTERNAL_ERROR = 500;
+
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
+    private static final int DEFAULT_RANK_SIZE = 3;
+
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+
+    /**
+     * Seconds to let in-flight exchanges finish on close
+     */
+    private static final int STOP_DELAY_SECONDS = 1;
+
+    private static final Set<String> PAGE_PARAMETERS = Set.of("cursor", "size");
+
+    private final EmployeeService service;
+
+    private final ExecutorService executor;
+
+    private final HttpServer server;
+
+    /**
+     * A parsed request: method, path segments below the context and query parameters
+     */
+    private record Request(HttpExchange exchange, String method, List<String> path, Map<String, String> parameters) {
+    }
+
+    private record Response(int status, Object body, Map<String, String> headers) {
+
+        static Response ok(Object body) {
+            return new Response(OK, body, Map.of());
+        }
+
+        static Response noContent() {
+            return new Response(NO_CONTENT, null, Map.of());
+        }
+
+        static Response error(int status, String message) {
+            return new Response(status, Map.of("error", message == null ? "Unknown error" : message), Map.of());
+        }
+    }
+
+    public EmployeeHttpServer(EmployeeService service, ServerConfig config) {
+        this.service = service;
+        this.executor = VirtualThreads.newExecutor("http-worker", config.workerThreads());
+        try {
+            this.server = HttpServer.create(new InetSocketAddress(config.port()), 0);
+        } catch (IOException e) {
+            executor.shutdownNow();
+            throw new UncheckedIOException("Failed to bind HTTP server to port " + config.port(), e);
+        }
+        server.setExecutor(executor);
+        server.createContext("/employees", exchange -> handle(exchange, "/employees", this::employees));
+        server.createContext("/contacts", exchange -> handle(exchange, "/contacts", this::contacts));
+        server.createContext("/analytics", exchange -> handle(exchange, "/analytics", this::analytics));
+    }
+
+    /**
+     * Starts accepting requests
+     */
+    public void start() {
+        server.start();
+        LOGGER.info("HTTP server listening on port " + port());
+    }
+
+    /**
+     * Gets the port the server is bound to
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops accepting requests, waits briefly for exchanges in flight and
+     * stops the request threads
+     */
+    @Override
+    public void close() {
+        server.stop(STOP_DELAY_SECONDS);
+        executor.shutdown();
+        LOGGER.info("HTTP server stopped");
+    }
+
+    private Response employees(Request request) {
+        var path = request.path();
+        if (path.isEmpty()) {
+            return switch (request.method()) {
+                case "GET" -> Response.ok(hasFilters(request.parameters())
+                        ? service.findEmployees(query(request.parameters()))
+                        : service.getEmployeesPage(request.parameters().get("cursor"), pageSize(request)));
+                case "POST" -> {
+                    var employee = JsonCodec.toEmployee(JsonCodec.parseObject(body(request)));
+                    service.addEmployee(employee);
+                    yield new Response(CREATED, employee,
+                            Map.of("Location", "/employees/" + employee.firstName()));
+                }
+                default -> methodNotAllowed("GET, POST");
+            };
+        }
+        if (path.size() > 1) {
+            return notFound(request);
+        }
+
+        var firstName = path.get(0);
+        return switch (request.method()) {
+            case "GET" -> Response.ok(service.getEmployeesByFirstName(firstName));
+            case "PUT" -> {
+                var fields = JsonCodec.parseObject(body(request));
+                service.updateEmailAndPhone(firstName,
+                        JsonCodec.string(fields, "email"), JsonCodec.string(fields, "phoneNumber"));
+                yield Response.noContent();
+            }
+            case "DELETE" -> {
+                service.deleteByFirstName(firstName);
+                yield Response.noContent();
+            }
+            default -> methodNotAllowed("GET, PUT, DELETE");
+        };
+    }
+
+    private Response contacts(Request request) {
+        if (!request.path().isEmpty()) {
+            return notFound(request);
+        }
+        if (!request.method().equals("GET")) {
+            return methodNotAllowed("GET");
+        }
+        return Response.ok(service.getNamePhonesPage(request.parameters().get("cursor"), pageSize(request)));
+    }
+
+    private Response analytics(Request request) {
+        if (request.path().size() != 1) {
+            return notFound(request);
+        }
+        if (!request.method().equals("GET")) {
+            return methodNotAllowed("GET");
+        }
+
+        var parameters = request.parameters();
+        return switch (request.path().get(0)) {
+            case "count" -> Response.ok(Map.of("count", service.getEmployeeCount()));
+            case "average-salary" -> Response.ok(service.getAverageSalaryByDepartment());
+            case "department-stats" -> Response.ok(service.getDepartmentStats());
+            case "top-paid" -> Response.ok(service.getTopNHighestPaid(intParameter(parameters, "n", DEFAULT_RANK_SIZE)));
+            case "lowest-paid" -> Response.ok(service.getBottomNLowestPaid(intParameter(parameters, "n", DEFAULT_RANK_SIZE)));
+            case "birthdays" -> Response.ok(service.getBirthdayContacts(
+                    JsonCodec.parseDate("date", requiredParameter(parameters, "date"))));
+            case "anniversaries" -> Response.ok(service.getAnniversaryContacts(
+                    JsonCodec.parseDate("date", requiredParameter(parameters, "date"))));
+            default -> notFound(request);
+        };
+    }
+
+    private static boolean hasFilters(Map<String, String> parameters) {
+        return !PAGE_PARAMETERS.containsAll(parameters.keySet());
+    }
+
+    /**
+     * Builds a query from the filter parameters; every filter must match
+     */
+    private static Query query(Map<String, String> parameters) {
+        var conditions = new ArrayList<Condition>();
+        for (var parameter : parameters.entrySet()) {
+            var value = parameter.getValue();
+            switch (parameter.getKey()) {
+                case "department" -> conditions.add(Condition.equalTo(EmployeeField.DEPARTMENT, value));
+                case "email" -> conditions.add(Condition.equalTo(EmployeeField.EMAIL, value));
+                case "phoneNumber" -> conditions.add(Condition.equalTo(EmployeeField.PHONE_NUMBER, value));
+                case "minSalary" -> conditions.add(Condition.atLeast(EmployeeField.SALARY,
+                        doubleParameter(parameters, "minSalary")));
+                case "maxSalary" -> conditions.add(Condition.atMost(EmployeeField.SALARY,
+                        doubleParameter(parameters, "maxSalary")));
+                case "cursor", "size" -> throw new InvalidInputException("Filtered results are not paged");
+                default -> throw new InvalidInputException("Unknown query parameter: " + parameter.getKey());
+            }
+        }
+        return new Query(conditions);
+    }
+
+    private static int pageSize(Request request) {
+        return intParameter(request.parameters(), "size", DEFAULT_PAGE_SIZE);
+    }
+
+    private static String requiredParameter(Map<String, String> parameters, String name) {
+        var value = parameters.get(name);
+        if (value == null) {
+            throw new InvalidInputException("Missing query parameter: " + name);
+        }
+        return value;
+    }
+
+    private static int intParameter(Map<String, String> parameters, String name, int defaultValue) {
+        var value = parameters.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException("Query parameter '" + name + "' must be an integer: " + value, e);
+        }
+    }
+
+    private static double doubleParameter(Map<String, String> parameters, String name) {
+        var value = parameters.get(name);
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidInputException("Query parameter '" + name + "' must be a number: " + value, e);
+        }
+    }
+
+    private static String body(Request request) {
+        try {
+            var bytes = request.exchange().getRequestBody().readNBytes(MAX_BODY_BYTES + 1);
+            if (bytes.length > MAX_BODY_BYTES) {
+                throw new InvalidInputException("Request body exceeds " + MAX_BODY_BYTES + " bytes");
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read request body", e);
+        }
+    }
+
+    private static Response notFound(Request request) {
+        return Response.error(NOT_FOUND, "No such resource: " + request.exchange().getRequestURI().getPath());
+    }
+
+    private static Response methodNotAllowed(String allowed) {
+        return new Response(METHOD_NOT_ALLOWED, Map.of("error", "Method not allowed"), Map.of("Allow", allowed));
+    }
+
+    /**
+     * Routes one exchange and maps service exceptions to status codes
+     */
+    private void handle(HttpExchange exchange, String context, Function<Request, Response> route) {
+        var rest = exchange.getRequestURI().getPath().substring(context.length());
+        Response response;
+        try {
+            // A longer name sharing the context prefix, e.g. /employeesX, is not ours
+            response = rest.isEmpty() || rest.startsWith("/")
+                    ? route.apply(parse(exchange, rest))
+                    : Response.error(NOT_FOUND, "No such resource: " + exchange.getRequestURI().getPath());
+        } catch (EmployeeNotFoundException e) {
+            response = Response.error(NOT_FOUND, e.getMessage());
+        } catch (DuplicateEmployeeException e) {
+            response = Response.error(CONFLICT, e.getMessage());
+        } catch (InvalidInputException | IllegalArgumentException e) {
+            response = Response.error(BAD_REQUEST, e.getMessage());
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, e, () -> "Request failed: " + exchange.getRequestMethod() + " "
+                    + exchange.getRequestURI());
+            response = Response.error(INTERNAL_ERROR, "Internal server error");
+        }
+
+        try {
+            send(exchange, response);
+        } catch (IOException e) {
+            LOGGER.fine(() -> "Failed to send response: " + e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static Request parse(HttpExchange exchange, String rest) {
+        var path = Arrays.stream(rest.split("/"))
+                .filter(segment -> !segment.isEmpty())
+                .toList();
+        return new Request(exchange, exchange.getRequestMethod(), path,
+                parameters(exchange.getRequestURI().getRawQuery()));
+    }
+
+    private static Map<String, String> parameters(String rawQuery) {
+        var parameters = new HashMap<String, String>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (var pair : rawQuery.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            var separator = pair.indexOf('=');
+            var name = separator < 0 ? pair : pair.substring(0, separator);
+            var value = separator < 0 ? "" : pair.substring(separator + 1);
+            parameters.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    private static void send(HttpExchange exchange, Response response) throws IOException {
+        var headers = exchange.getResponseHeaders();
+        response.headers().forEach(headers::set);
+        if (response.status() == NO_CONTENT) {
+            exchange.sendResponseHeaders(NO_CONTENT, -1);
+            return;
+        }
+
+        var bytes = JsonCodec.toJson(response.body()).getBytes(StandardCharsets.UTF_8);
+        headers.set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(response.status(), bytes.length);
+        try (var body = exchange.getResponseBody()) {
+            body.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.employee.management.server;
+
+/**
+ * Immutable configuration of the HTTP server: the port to listen on (0 picks
+ * a free port) and the number of worker threads used when the runtime has
+ * no virtual threads.
+ */
+public record ServerConfig(int port, int workerThreads) {
+
+    /**
+     * Compact constructor for validation
+     */
+    public ServerConfig {
+        if (port < 0 || port > 65_535) {
+            throw new IllegalArgumentException("Port must be between 0 and 65535: " + port);
+        }
+        if (workerThreads < 1) {
+            throw new IllegalArgumentException("Worker threads must be at least 1");
+        }
+    }
+}
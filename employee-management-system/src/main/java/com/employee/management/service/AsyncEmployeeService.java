@@ -0,0 +1,332 @@
+package com.employee.management.service;
+
+import com.employee.management.exception.EmployeeNotFoundException;
+import com.employee.management.model.DepartmentStats;
+import com.employee.management.model.Employee;
+import com.employee.management.model.NameEmail;
+import com.employee.management.model.NamePhone;
+import com.employee.management.model.Page;
+import com.employee.management.query.Query;
+import com.employee.management.query.QueryPlan;
+import com.employee.management.util.LoggerUtil;
+import com.employee.management.util.VirtualThreads;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Non-blocking view of an {@link EmployeeService}: every operation runs on
+ * an executor and returns a {@link CompletableFuture}. By default each call
+ * gets its own virtual thread (a fixed pool of maxConcurrency platform
+ * threads before Java 21); at most maxConcurrency calls run against the
+ * service at once and the rest wait for a permit.
+ * <p>
+ * First-name lookups that are waiting together, such as a fan-out over a
+ * list of names, are answered by one
+ * {@link EmployeeService#getEmployeesByFirstNames(Collection)} call of up to
+ * maxBatchSize names: one lock acquisition on an indexed store, one pass
+ * over an unindexed one. A lookup arriving alone runs as soon as its task
+ * starts, so batching adds no latency.
+ */
+public class AsyncEmployeeService implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerUtil.getLogger(AsyncEmployeeService.class);
+
+    private final EmployeeService delegate;
+
+    private final Executor executor;
+
+    /**
+     * The default executor, shut down on close; null when the caller supplied one
+     */
+    private final ExecutorService ownedExecutor;
+
+    private final Semaphore permits;
+
+    private final int maxBatchSize;
+
+    /**
+     * First-name lookups not yet taken by a batch, guarded by itself
+     */
+    private final ArrayDeque<PendingLookup> pendingLookups;
+
+    /**
+     * Whether a task that will drain pendingLookups has been submitted,
+     * guarded by pendingLookups
+     */
+    private boolean drainScheduled;
+
+    private record PendingLookup(String firstName, CompletableFuture<List<Employee>> result) {
+    }
+
+    public AsyncEmployeeService(EmployeeService delegate, AsyncServiceConfig config) {
+        this(delegate, config, VirtualThreads.newExecutor("async-service", config.maxConcurrency()), true);
+    }
+
+    /**
+     * Runs the operations on the given executor, which stays owned by the caller
+     */
+    public AsyncEmployeeService(EmployeeService delegate, AsyncServiceConfig config, Executor executor) {
+        this(delegate, config, executor, false);
+    }
+
+    private AsyncEmployeeService(EmployeeService delegate, AsyncServiceConfig config, Executor executor,
+                                 boolean ownsExecutor) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.ownedExecutor = ownsExecutor ? (ExecutorService) executor : null;
+        this.permits = new Semaphore(config.maxConcurrency());
+        this.maxBatchSize = config.maxBatchSize();
+        this.pendingLookups = new ArrayDeque<>();
+        LOGGER.info("AsyncEmployeeService initialized with " + config.maxConcurrency()
+                + " concurrent calls and batches of up to " + config.maxBatchSize() + " lookups");
+    }
+
+    public CompletableFuture<Void> addEmployee(Employee employee) {
+        return run(() -> delegate.addEmployee(employee));
+    }
+
+    /**
+     * Gets the employees with the first name; lookups waiting together are
+     * batched into one service call
+     */
+    public CompletableFuture<List<Employee>> getEmployeesByFirstName(String firstName) {
+        var lookup = new PendingLookup(firstName, new CompletableFuture<>());
+        boolean schedule;
+        synchronized (pendingLookups) {
+            pendingLookups.add(lookup);
+            schedule = !drainScheduled;
+            drainScheduled = true;
+        }
+        if (schedule) {
+            scheduleDrain();
+        }
+        return lookup.result();
+    }
+
+    public CompletableFuture<Map<String, List<Employee>>> getEmployeesByFirstNames(Collection<String> firstNames) {
+        return supply(() -> delegate.getEmployeesByFirstNames(firstNames));
+    }
+
+    public CompletableFuture<List<Employee>> getEmployeesByDepartment(String department) {
+        return supply(() -> delegate.getEmployeesByDepartment(department));
+    }
+
+    public CompletableFuture<List<Employee>> getEmployeesByEmail(String email) {
+        return supply(() -> delegate.getEmployeesByEmail(email));
+    }
+
+    public CompletableFuture<List<Employee>> getEmployeesByPhoneNumber(String phoneNumber) {
+        return supply(() -> delegate.getEmployeesByPhoneNumber(phoneNumber));
+    }
+
+    public CompletableFuture<List<Map<String, String>>> getFirstNameAndPhone() {
+        return supply(delegate::getFirstNameAndPhone);
+    }
+
+    public CompletableFuture<List<NamePhone>> getNamePhones() {
+        return supply(delegate::getNamePhones);
+    }
+
+    /**
+     * Passes every firstName and phoneNumber to the action on the worker
+     * thread; the service's locking rules for the action still apply
+     */
+    public CompletableFuture<Void> forEachNamePhone(BiConsumer<? super String, ? super String> action) {
+        return run(() -> delegate.forEachNamePhone(action));
+    }
+
+    public CompletableFuture<Page<Employee>> getEmployeesPage(String cursor, int pageSize) {
+        return supply(() -> delegate.getEmployeesPage(cursor, pageSize));
+    }
+
+    public CompletableFuture<Page<NamePhone>> getNamePhonesPage(String cursor, int pageSize) {
+        return supply(() -> delegate.getNamePhonesPage(cursor, pageSize));
+    }
+
+    public CompletableFuture<List<Employee>> findEmployees(Query query) {
+        return supply(() -> delegate.findEmployees(query));
+    }
+
+    public CompletableFuture<QueryPlan> explain(Query query) {
+        return supply(() -> delegate.explain(query));
+    }
+
+    public CompletableFuture<Void> updateEmailAndPhone(String firstName, String email, String phoneNumber) {
+        return run(() -> delegate.updateEmailAndPhone(firstName, email, phoneNumber));
+    }
+
+    public CompletableFuture<Void> deleteByFirstName(String firstName) {
+        return run(() -> delegate.deleteByFirstName(firstName));
+    }
+
+    public CompletableFuture<List<Map<String, String>>> getEmployeesWithBirthdayOn(LocalDate date) {
+        return supply(() -> delegate.getEmployeesWithBirthdayOn(date));
+    }
+
+    public CompletableFuture<List<NameEmail>> getBirthdayContacts(LocalDate date) {
+        return supply(() -> delegate.getBirthdayContacts(date));
+    }
+
+    public CompletableFuture<List<Map<String, String>>> getEmployeesWithAnniversaryOn(LocalDate date) {
+        return supply(() -> delegate.getEmployeesWithAnniversaryOn(date));
+    }
+
+    public CompletableFuture<List<NamePhone>> getAnniversaryContacts(LocalDate date) {
+        return supply(() -> delegate.getAnniversaryContacts(date));
+    }
+
+    public CompletableFuture<Long> getEmployeeCount() {
+        return supply(delegate::getEmployeeCount);
+    }
+
+    public CompletableFuture<Map<String, Double>> getAverageSalaryByDepartment() {
+        return supply(delegate::getAverageSalaryByDepartment);
+    }
+
+    public CompletableFuture<Map<String, DepartmentStats>> getDepartmentStats() {
+        return supply(delegate::getDepartmentStats);
+    }
+
+    public CompletableFuture<List<Employee>> getTopThreeHighestPaid() {
+        return supply(delegate::getTopThreeHighestPaid);
+    }
+
+    public CompletableFuture<List<Employee>> getTopNHighestPaid(int n) {
+        return supply(() -> delegate.getTopNHighestPaid(n));
+    }
+
+    public CompletableFuture<List<Employee>> getBottomNLowestPaid(int n) {
+        return supply(() -> delegate.getBottomNLowestPaid(n));
+    }
+
+    /**
+     * Stops accepting operations if the executor is the default one;
+     * operations already submitted still complete
+     */
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    private <T> CompletableFuture<T> supply(Supplier<T> operation) {
+        return CompletableFuture.supplyAsync(() -> withPermit(operation), executor);
+    }
+
+    private CompletableFuture<Void> run(Runnable operation) {
+        return supply(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    private <T> T withPermit(Supplier<T> operation) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+        try {
+            return operation.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void scheduleDrain() {
+        try {
+            executor.execute(this::drainLookups);
+        } catch (RejectedExecutionException e) {
+            List<PendingLookup> rejected;
+            synchronized (pendingLookups) {
+                rejected = new ArrayList<>(pendingLookups);
+                pendingLookups.clear();
+                drainScheduled = false;
+            }
+            rejected.forEach(lookup -> lookup.result().completeExceptionally(new CompletionException(e)));
+        }
+    }
+
+    /**
+     * Takes up to maxBatchSize waiting lookups and answers them with one
+     * service call. Another drain is scheduled first if lookups remain, so
+     * batches beyond the first run concurrently within the permit limit.
+     */
+    private void drainLookups() {
+        var batch = new ArrayList<PendingLookup>();
+        boolean more;
+        synchronized (pendingLookups) {
+            while (batch.size() < maxBatchSize && !pendingLookups.isEmpty()) {
+                batch.add(pendingLookups.poll());
+            }
+            more = !pendingLookups.isEmpty();
+            drainScheduled = more;
+        }
+        if (more) {
+            scheduleDrain();
+        }
+
+        if (batch.size() == 1) {
+            // Keep the single-lookup contract, including its not-found exception
+            var lookup = batch.get(0);
+            complete(lookup.result(), () -> withPermit(() -> delegate.getEmployeesByFirstName(lookup.firstName())));
+        } else if (!batch.isEmpty()) {
+            resolve(batch);
+        }
+    }
+
+    private void resolve(List<PendingLookup> batch) {
+        Map<String, List<Employee>> found;
+        try {
+            var firstNames = batch.stream().map(PendingLookup::firstName).distinct().toList();
+            found = withPermit(() -> delegate.getEmployeesByFirstNames(firstNames));
+        } catch (CompletionException e) {
+            batch.forEach(lookup -> lookup.result().completeExceptionally(e));
+            return;
+        } catch (RuntimeException e) {
+            batch.forEach(lookup -> lookup.result().completeExceptionally(new CompletionException(e)));
+            return;
+        }
+
+        for (var lookup : batch) {
+            var employees = found.get(lookup.firstName());
+            if (employees == null) {
+                lookup.result().completeExceptionally(new CompletionException(
+                        new EmployeeNotFoundException("No employees found with firstName: " + lookup.firstName())));
+            } else {
+                lookup.result().complete(employees);
+            }
+        }
+        LOGGER.fine(() -> "Answered " + batch.size() + " firstName lookups in one batch");
+    }
+
+    /**
+     * Completes the future with the operation's result, or its failure
+     * wrapped in a CompletionException as supplyAsync does
+     */
+    private static <T> void complete(CompletableFuture<T> future, Supplier<T> operation) {
+        try {
+            future.complete(operation.get());
+        } catch (CompletionException e) {
+            future.completeExceptionally(e);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(new CompletionException(e));
+        }
+    }
+}
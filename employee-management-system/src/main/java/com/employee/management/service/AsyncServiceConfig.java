@@ -0,0 +1,21 @@
+package com.employee.management.service;
+
+/**
+ * Immutable configuration of {@link AsyncEmployeeService}: how many
+ * service calls may run at once, and how many first-name lookups waiting
+ * together are answered by a single batched call.
+ */
+public record AsyncServiceConfig(int maxConcurrency, int maxBatchSize) {
+
+    /**
+     * Compact constructor for validation
+     */
+    public AsyncServiceConfig {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Max concurrency must be at least 1");
+        }
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Max batch size must be at least 1");
+        }
+    }
+}
@@ -1,10 +1,21 @@
 package com.employee.management.service;
 
+import com.employee.management.exception.EmployeeNotFoundException;
+import com.employee.management.model.DepartmentStats;
 import com.employee.management.model.Employee;
+import com.employee.management.model.NameEmail;
+import com.employee.management.model.NamePhone;
+import com.employee.management.model.Page;
+import com.employee.management.query.Query;
+import com.employee.management.query.QueryPlan;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
 
 /**
  * Service interface for employee business operations.
@@ -22,9 +33,84 @@ public interface EmployeeService {
     List<Employee> getEmployeesByFirstName(String firstName);
 
     /**
-     * Gets the list of employees with firstName and phoneNumber
+     * Gets the employees for each of the given first names, keyed by the
+     * name as given. Names without employees are left out instead of
+     * failing the whole batch.
      */
-    List<Map<String, String>> getFirstNameAndPhone();
+    default Map<String, List<Employee>> getEmployeesByFirstNames(Collection<String> firstNames) {
+        var result = new LinkedHashMap<String, List<Employee>>();
+        for (var firstName : firstNames) {
+            try {
+                result.put(firstName, getEmployeesByFirstName(firstName));
+            } catch (EmployeeNotFoundException e) {
+                // Left out of the result
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the employees of a department, in insertion order
+     */
+    List<Employee> getEmployeesByDepartment(String department);
+
+    /**
+     * Gets the employees with the given email address (case-insensitive)
+     */
+    List<Employee> getEmployeesByEmail(String email);
+
+    /**
+     * Gets the employees with the given phone number
+     */
+    List<Employee> getEmployeesByPhoneNumber(String phoneNumber);
+
+    /**
+     * Gets the list of employees with firstName and phoneNumber.
+     * Adapter over {@link #getNamePhones()}; prefer the typed variant.
+     */
+    default List<Map<String, String>> getFirstNameAndPhone() {
+        return getNamePhones().stream()
+                .map(contact -> Map.of(
+                        "firstName", contact.firstName(),
+                        "phoneNumber", contact.phoneNumber()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the firstName and phoneNumber of every employee, in insertion order
+     */
+    List<NamePhone> getNamePhones();
+
+    /**
+     * Passes the firstName and phoneNumber of every employee to the action,
+     * in insertion order, without building a result list. The action runs
+     * while the repository is locked for reading, so it must be short and
+     * must not call back into the service.
+     */
+    void forEachNamePhone(BiConsumer<? super String, ? super String> action);
+
+    /**
+     * Gets a page of employees in insertion order. Pass null for the first
+     * page and the previous page's nextCursor to continue.
+     */
+    Page<Employee> getEmployeesPage(String cursor, int pageSize);
+
+    /**
+     * Gets a page of firstName and phoneNumber projections in insertion
+     * order, with the same cursor contract as {@link #getEmployeesPage}
+     */
+    Page<NamePhone> getNamePhonesPage(String cursor, int pageSize);
+
+    /**
+     * Gets the employees matching every condition of the query, in
+     * insertion order, using the repository's indexes where possible
+     */
+    List<Employee> findEmployees(Query query);
+
+    /**
+     * Describes how {@link #findEmployees(Query)} runs the query
+     */
+    QueryPlan explain(Query query);
 
     /**
      * Updates the email and phoneNumber of a particular employee
@@ -38,15 +124,41 @@ public interface EmployeeService {
 
     /**
      * Gets a list of employees with their firstName and emailAddress
-     * whose birthday falls on the given date
+     * whose birthday falls on the given date.
+     * Adapter over {@link #getBirthdayContacts(LocalDate)}.
      */
-    List<Map<String, String>> getEmployeesWithBirthdayOn(LocalDate date);
+    default List<Map<String, String>> getEmployeesWithBirthdayOn(LocalDate date) {
+        return getBirthdayContacts(date).stream()
+                .map(contact -> Map.of(
+                        "firstName", contact.firstName(),
+                        "email", contact.email()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the firstName and email of employees whose birthday falls on the
+     * given date
+     */
+    List<NameEmail> getBirthdayContacts(LocalDate date);
 
     /**
      * Gets the list of employees with their firstName and phoneNumber
-     * whose wedding anniversary falls on the given date
+     * whose wedding anniversary falls on the given date.
+     * Adapter over {@link #getAnniversaryContacts(LocalDate)}.
+     */
+    default List<Map<String, String>> getEmployeesWithAnniversaryOn(LocalDate date) {
+        return getAnniversaryContacts(date).stream()
+                .map(contact -> Map.of(
+                        "firstName", contact.firstName(),
+                        "phoneNumber", contact.phoneNumber()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the firstName and phoneNumber of employees whose wedding
+     * anniversary falls on the given date
      */
-    List<Map<String, String>> getEmployeesWithAnniversaryOn(LocalDate date);
+    List<NamePhone> getAnniversaryContacts(LocalDate date);
 
     /**
      * Gets the count of employees
@@ -59,8 +171,24 @@ public interface EmployeeService {
      */
     Map<String, Double> getAverageSalaryByDepartment();
 
+    /**
+     * Gets salary statistics (count, total, min, max, average) for every
+     * department in a single call
+     */
+    Map<String, DepartmentStats> getDepartmentStats();
+
     /**
      * Gets the top three highest paid employees
      */
     List<Employee> getTopThreeHighestPaid();
+
+    /**
+     * Gets the n highest paid employees, highest first
+     */
+    List<Employee> getTopNHighestPaid(int n);
+
+    /**
+     * Gets the n lowest paid employees, lowest first
+     */
+    List<Employee> getBottomNLowestPaid(int n);
 }
@@ -3,35 +3,79 @@ package com.employee.management.service;
 import com.employee.management.exception.DuplicateEmployeeException;
 import com.employee.management.exception.EmployeeNotFoundException;
 import com.employee.management.exception.InvalidInputException;
+import com.employee.management.model.DepartmentStats;
 import com.employee.management.model.Employee;
+import com.employee.management.model.NameEmail;
+import com.employee.management.model.NamePhone;
+import com.employee.management.model.Page;
+import com.employee.management.query.AccessPath;
+import com.employee.management.query.Condition;
+import com.employee.management.query.EmployeeField;
+import com.employee.management.query.Query;
+import com.employee.management.query.QueryPlan;
 import com.employee.management.repository.EmployeeRepository;
 import com.employee.management.util.InputValidator;
 import com.employee.management.util.LoggerUtil;
+import com.employee.management.util.SalaryRanking;
+import com.employee.management.util.SalarySummary;
 
 import java.time.LocalDate;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of EmployeeService using Java 8 Streams.
+ * Optionally runs analytics as parallel streams on a dedicated fork-join pool
+ * (see {@link ParallelQueryConfig}). Parallel mode pays off for scan-based
+ * repositories; analytics the repository answers from an index still use
+ * the index. Results match the sequential path exactly, salary totals
+ * included, since every path sums salaries with {@link SalarySummary}.
  */
 public class EmployeeServiceImpl implements EmployeeService {
 
     private static final Logger LOGGER = LoggerUtil.getLogger(EmployeeServiceImpl.class);
 
+    /**
+     * Upper bound on page sizes, so one call never buffers the whole directory
+     */
+    private static final int MAX_PAGE_SIZE = 10_000;
+
     private final EmployeeRepository repository;
 
+    /**
+     * Dedicated pool for parallel queries; null when running sequentially
+     */
+    private final ForkJoinPool parallelPool;
+
+    private final int parallelThreshold;
+
     public EmployeeServiceImpl(EmployeeRepository repository) {
         this.repository = repository;
+        this.parallelPool = null;
+        this.parallelThreshold = Integer.MAX_VALUE;
         LOGGER.info("EmployeeServiceImpl initialized");
     }
 
+    public EmployeeServiceImpl(EmployeeRepository repository, ParallelQueryConfig parallelConfig) {
+        this.repository = repository;
+        this.parallelPool = new ForkJoinPool(parallelConfig.parallelism());
+        this.parallelThreshold = parallelConfig.threshold();
+        LOGGER.info("EmployeeServiceImpl initialized with parallelism " + parallelConfig.parallelism()
+                + " above " + parallelConfig.threshold() + " employees");
+    }
+
     @Override
     public void addEmployee(Employee employee) {
-        LOGGER.info("Adding employee: " + employee.getFullName());
+        LOGGER.info(() -> "Adding employee: " + employee.getFullName());
 
         // Validate email
         if (!InputValidator.isValidEmail(employee.email())) {
@@ -55,12 +99,12 @@ public class EmployeeServiceImpl implements EmployeeService {
         }
 
         repository.save(employee);
-        LOGGER.info("Employee added successfully: " + employee.getFullName());
+        LOGGER.info(() -> "Employee added successfully: " + employee.getFullName());
     }
 
     @Override
     public List<Employee> getEmployeesByFirstName(String firstName) {
-        LOGGER.info("Getting employees by firstName: " + firstName);
+        LOGGER.info(() -> "Getting employees by firstName: " + firstName);
 
         var employees = repository.findAllByFirstName(firstName);
 
@@ -70,24 +114,95 @@ public class EmployeeServiceImpl implements EmployeeService {
             throw new EmployeeNotFoundException(errorMsg);
         }
 
-        LOGGER.info("Found " + employees.size() + " employee(s) with firstName: " + firstName);
+        LOGGER.info(() -> "Found " + employees.size() + " employee(s) with firstName: " + firstName);
+        return employees;
+    }
+
+    @Override
+    public Map<String, List<Employee>> getEmployeesByFirstNames(Collection<String> firstNames) {
+        LOGGER.info(() -> "Getting employees by " + firstNames.size() + " firstNames");
+
+        var employees = repository.findAllByFirstNames(firstNames);
+
+        LOGGER.info(() -> "Found employees for " + employees.size() + " of " + firstNames.size() + " firstNames");
         return employees;
     }
 
     @Override
-    public List<Map<String, String>> getFirstNameAndPhone() {
+    public List<Employee> getEmployeesByDepartment(String department) {
+        LOGGER.info(() -> "Getting employees by department: " + department);
+
+        return findRequired(Condition.equalTo(EmployeeField.DEPARTMENT, department), "department", department);
+    }
+
+    @Override
+    public List<Employee> getEmployeesByEmail(String email) {
+        LOGGER.info(() -> "Getting employees by email: " + email);
+
+        return findRequired(Condition.equalTo(EmployeeField.EMAIL, email), "email", email);
+    }
+
+    @Override
+    public List<Employee> getEmployeesByPhoneNumber(String phoneNumber) {
+        LOGGER.info(() -> "Getting employees by phone number: " + phoneNumber);
+
+        return findRequired(Condition.equalTo(EmployeeField.PHONE_NUMBER, phoneNumber), "phoneNumber", phoneNumber);
+    }
+
+    @Override
+    public List<NamePhone> getNamePhones() {
         LOGGER.info("Getting firstName and phone for all employees");
 
-        return repository.findAll().stream()
-                .map(emp -> Map.of(
-                        "firstName", emp.firstName(),
-                        "phoneNumber", emp.phoneNumber()))
-                .collect(Collectors.toList());
+        if (isParallel()) {
+            return parallelQuery(employees -> employees
+                    .map(emp -> new NamePhone(emp.firstName(), emp.phoneNumber()))
+                    .toList());
+        }
+
+        var result = new ArrayList<NamePhone>((int) Math.min(repository.count(), Integer.MAX_VALUE));
+        repository.forEachNamePhone((firstName, phoneNumber) -> result.add(new NamePhone(firstName, phoneNumber)));
+        return result;
+    }
+
+    @Override
+    public void forEachNamePhone(BiConsumer<? super String, ? super String> action) {
+        LOGGER.info("Streaming firstName and phone for all employees");
+
+        repository.forEachNamePhone(action);
+    }
+
+    @Override
+    public Page<Employee> getEmployeesPage(String cursor, int pageSize) {
+        LOGGER.info(() -> "Getting page of " + pageSize + " employees");
+
+        validatePageSize(pageSize);
+        return repository.findPage(cursor, pageSize);
+    }
+
+    @Override
+    public Page<NamePhone> getNamePhonesPage(String cursor, int pageSize) {
+        LOGGER.info(() -> "Getting page of " + pageSize + " firstName and phone entries");
+
+        validatePageSize(pageSize);
+        return repository.findPage(cursor, pageSize)
+                .map(emp -> new NamePhone(emp.firstName(), emp.phoneNumber()));
+    }
+
+    @Override
+    public List<Employee> findEmployees(Query query) {
+        LOGGER.info(() -> "Finding employees where " + query);
+
+        return find(query);
+    }
+
+    @Override
+    public QueryPlan explain(Query query) {
+        return repository.explain(query);
     }
 
     @Override
     public void updateEmailAndPhone(String firstName, String email, String phoneNumber) {
-        LOGGER.info("Updating email and phone for: " + firstName);
+        LOGGER.info(() -> "Updating email and phone for: " + firstName);
 
         // Validate email
         if (!InputValidator.isValidEmail(email)) {
@@ -111,12 +226,12 @@ public class EmployeeServiceImpl implements EmployeeService {
             throw new EmployeeNotFoundException(errorMsg);
         }
 
-        LOGGER.info("Employee updated successfully: " + firstName);
+        LOGGER.info(() -> "Employee updated successfully: " + firstName);
     }
 
     @Override
     public void deleteByFirstName(String firstName) {
-        LOGGER.info("Deleting employee by firstName: " + firstName);
+        LOGGER.info(() -> "Deleting employee by firstName: " + firstName);
 
         var deleted = repository.deleteByFirstName(firstName);
 
@@ -126,37 +241,39 @@ public class EmployeeServiceImpl implements EmployeeService {
             throw new EmployeeNotFoundException(errorMsg);
         }
 
-        LOGGER.info("Employee deleted successfully: " + firstName);
+        LOGGER.info(() -> "Employee deleted successfully: " + firstName);
     }
 
     @Override
-    public List<Map<String, String>> getEmployeesWithBirthdayOn(LocalDate date) {
-        LOGGER.info("Finding employees with birthday on: " + date);
+    public List<NameEmail> getBirthdayContacts(LocalDate date) {
+        LOGGER.info(() -> "Finding employees with birthday on: " + date);
+
+        var employees = isParallelScan(AccessPath.BIRTHDAY_INDEX)
+                ? parallelQuery(all -> all.filter(emp -> emp.hasBirthdayOn(date)).toList())
+                : repository.findAllWithBirthdayOn(date);
 
-        return repository.findAll().stream()
-                .filter(emp -> emp.hasBirthdayOn(date))
-                .map(emp -> Map.of(
-                        "firstName", emp.firstName(),
-                        "email", emp.email()))
-                .collect(Collectors.toList());
+        return employees.stream()
+                .map(emp -> new NameEmail(emp.firstName(), emp.email()))
+                .toList();
     }
 
     @Override
-    public List<Map<String, String>> getEmployeesWithAnniversaryOn(LocalDate date) {
-        LOGGER.info("Finding employees with anniversary on: " + date);
+    public List<NamePhone> getAnniversaryContacts(LocalDate date) {
+        LOGGER.info(() -> "Finding employees with anniversary on: " + date);
 
-        return repository.findAll().stream()
-                .filter(emp -> emp.hasAnniversaryOn(date))
-                .map(emp -> Map.of(
-                        "firstName", emp.firstName(),
-                        "phoneNumber", emp.phoneNumber()))
-                .collect(Collectors.toList());
+        var employees = isParallelScan(AccessPath.ANNIVERSARY_INDEX)
+                ? parallelQuery(all -> all.filter(emp -> emp.hasAnniversaryOn(date)).toList())
+                : repository.findAllWithAnniversaryOn(date);
+
+        return employees.stream()
+                .map(emp -> new NamePhone(emp.firstName(), emp.phoneNumber()))
+                .toList();
     }
 
     @Override
     public long getEmployeeCount() {
         var count = repository.count();
-        LOGGER.info("Total employee count: " + count);
+        LOGGER.info(() -> "Total employee count: " + count);
         return count;
     }
 
@@ -164,19 +281,117 @@ public class EmployeeServiceImpl implements EmployeeService {
     public Map<String, Double> getAverageSalaryByDepartment() {
         LOGGER.info("Calculating average salary by department");
 
-        return repository.findAll().stream()
-                .collect(Collectors.groupingBy(
-                        Employee::department,
-                        Collectors.averagingDouble(Employee::salary)));
+        var averages = new HashMap<String, Double>();
+        departmentStats()
+                .forEach((department, stats) -> averages.put(department, stats.averageSalary()));
+        return averages;
+    }
+
+    @Override
+    public Map<String, DepartmentStats> getDepartmentStats() {
+        LOGGER.info("Calculating salary statistics by department");
+
+        return departmentStats();
     }
 
     @Override
     public List<Employee> getTopThreeHighestPaid() {
         LOGGER.info("Finding top 3 highest paid employees");
 
-        return repository.findAll().stream()
-                .sorted(Comparator.comparingDouble(Employee::salary).reversed())
-                .limit(3)
-                .collect(Collectors.toList());
+        return getTopNHighestPaid(3);
+    }
+
+    @Override
+    public List<Employee> getTopNHighestPaid(int n) {
+        LOGGER.info(() -> "Finding top " + n + " highest paid employees");
+
+        validateRankSize(n);
+        return isParallelScan(AccessPath.SALARY_INDEX)
+                ? parallelQuery(employees -> employees.collect(SalaryRanking.highestPaid(n)))
+                : repository.findTopBySalary(n);
+    }
+
+    @Override
+    public List<Employee> getBottomNLowestPaid(int n) {
+        LOGGER.info(() -> "Finding bottom " + n + " lowest paid employees");
+
+        validateRankSize(n);
+        return isParallelScan(AccessPath.SALARY_INDEX)
+                ? parallelQuery(employees -> employees.collect(SalaryRanking.lowestPaid(n)))
+                : repository.findBottomBySalary(n);
+    }
+
+    private List<Employee> find(Query query) {
+        // Index plans touch few rows; only full scans are worth splitting
+        if (isParallel() && repository.explain(query).access() == AccessPath.FULL_SCAN) {
+            return parallelQuery(employees -> employees.filter(query::matches).toList());
+        }
+        return repository.find(query);
+    }
+
+    /**
+     * Runs a single-condition lookup, failing when nothing matches
+     */
+    private List<Employee> findRequired(Condition condition, String label, String value) {
+        var employees = find(Query.where(condition));
+
+        if (employees.isEmpty()) {
+            var errorMsg = "No employees found with " + label + ": " + value;
+            LOGGER.warning(errorMsg);
+            throw new EmployeeNotFoundException(errorMsg);
+        }
+
+        LOGGER.info(() -> "Found " + employees.size() + " employee(s) with " + label + ": " + value);
+        return employees;
+    }
+
+    private static void validateRankSize(int n) {
+        if (n < 0) {
+            var errorMsg = "Number of employees cannot be negative: " + n;
+            LOGGER.warning(errorMsg);
+            throw new InvalidInputException(errorMsg);
+        }
+    }
+
+    private static void validatePageSize(int pageSize) {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            var errorMsg = "Page size must be between 1 and " + MAX_PAGE_SIZE + ": " + pageSize;
+            LOGGER.warning(errorMsg);
+            throw new InvalidInputException(errorMsg);
+        }
+    }
+
+    private Map<String, DepartmentStats> departmentStats() {
+        if (!isParallelScan(AccessPath.DEPARTMENT_INDEX)) {
+            return repository.departmentStats();
+        }
+
+        var result = new HashMap<String, DepartmentStats>();
+        parallelQuery(employees -> employees.collect(Collectors.groupingBy(
+                Employee::department,
+                SalarySummary.summarizing())))
+                .forEach((department, summary) -> result.put(department, DepartmentStats.of(department, summary)));
+        return result;
+    }
+
+    private boolean isParallel() {
+        return parallelPool != null && repository.count() >= parallelThreshold;
+    }
+
+    /**
+     * Checks if a query the given index would answer should run as a
+     * parallel scan; an index lookup beats splitting a scan
+     */
+    private boolean isParallelScan(AccessPath index) {
+        return !repository.indexes().contains(index) && isParallel();
+    }
+
+    /**
+     * Runs the query as a parallel stream inside the dedicated pool, so its
+     * subtasks never compete with other users of the common pool
+     */
+    private <R> R parallelQuery(Function<Stream<Employee>, R> query) {
+        return parallelPool.submit(() -> repository.stream(employees -> query.apply(employees.parallel())))
+                .join();
     }
 }
@@ -0,0 +1,29 @@
+package com.employee.management.service;
+
+/**
+ * Immutable configuration for parallel execution of analytics queries.
+ * Queries run in parallel on a dedicated fork-join pool once the repository
+ * holds at least {@code threshold} employees; smaller data sets stay sequential
+ * because the fork/join overhead outweighs the gain.
+ */
+public record ParallelQueryConfig(int threshold, int parallelism) {
+
+    /**
+     * Compact constructor for validation
+     */
+    public ParallelQueryConfig {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Threshold cannot be negative");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1");
+        }
+    }
+
+    /**
+     * Returns a configuration using every available core above the given threshold
+     */
+    public static ParallelQueryConfig ofThreshold(int threshold) {
+        return new ParallelQueryConfig(threshold, Runtime.getRuntime().availableProcessors());
+    }
+}
@@ -0,0 +1,241 @@
+package com.employee.management.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Handler that hands records to a background writer through a bounded ring
+ * buffer, so logging threads never format or write output themselves.
+ * Producers claim slots with a single CAS (no locks); one daemon thread
+ * drains the buffer into the target handler. When the buffer is full the
+ * configured {@link LogOverflowPolicy} applies; discarded records are
+ * reported by a warning once the writer catches up.
+ * Caller location (source class and method) is expensive to infer and would
+ * be wrong if inferred on the writer thread, so unless includeLocation is
+ * set it is cleared and formatters fall back to the logger name.
+ */
+public class AsyncHandler extends Handler {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final Handler target;
+
+    private final LogOverflowPolicy overflowPolicy;
+
+    private final boolean includeLocation;
+
+    private final int mask;
+
+    /**
+     * Record slots; slot i is readable when sequences[i] == position + 1
+     */
+    private final LogRecord[] slots;
+
+    private final AtomicLongArray sequences;
+
+    private final AtomicLong tail;
+
+    /**
+     * Next position to read; only written by the writer thread
+     */
+    private volatile long head;
+
+    private final LongAdder dropped;
+
+    private long droppedReported;
+
+    private final Thread writer;
+
+    private volatile boolean writerIdle;
+
+    private volatile boolean closed;
+
+    public AsyncHandler(Handler target, int capacity, LogOverflowPolicy overflowPolicy) {
+        this(target, capacity, overflowPolicy, false);
+    }
+
+    public AsyncHandler(Handler target, int capacity, LogOverflowPolicy overflowPolicy, boolean includeLocation) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Capacity must be at least 2");
+        }
+        var size = Integer.highestOneBit(capacity - 1) << 1;
+        this.target = target;
+        this.overflowPolicy = overflowPolicy;
+        this.includeLocation = includeLocation;
+        this.mask = size - 1;
+        this.slots = new LogRecord[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.tail = new AtomicLong();
+        this.dropped = new LongAdder();
+        this.writer = new Thread(this::drainLoop, "async-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (closed || !isLoggable(record)) {
+            return;
+        }
+        if (includeLocation) {
+            // Infer the caller now, while the logging thread's stack is still current
+            record.getSourceClassName();
+        } else {
+            record.setSourceClassName(null);
+            record.setSourceMethodName(null);
+        }
+        if (offer(record)) {
+            wakeWriter();
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                while (!offer(record)) {
+                    if (closed) {
+                        return;
+                    }
+                    wakeWriter();
+                    LockSupport.parkNanos(FULL_PARK_NANOS);
+                }
+                wakeWriter();
+            }
+            case DISCARD -> dropped.increment();
+            case CALLER_RUNS -> target.publish(record);
+        }
+    }
+
+    /**
+     * Waits until every record published before this call has been written
+     */
+    @Override
+    public void flush() {
+        var position = tail.get();
+        while (head < position && writer.isAlive()) {
+            wakeWriter();
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        target.flush();
+    }
+
+    /**
+     * Drains the buffer, stops the writer and closes the target handler
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        target.close();
+    }
+
+    /**
+     * Gets the number of records discarded because the buffer was full
+     */
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Gets the number of buffer slots
+     */
+    public int capacity() {
+        return slots.length;
+    }
+
+    private boolean offer(LogRecord record) {
+        while (true) {
+            var position = tail.get();
+            var index = (int) position & mask;
+            var available = sequences.get(index) - position;
+            if (available == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots[index] = record;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (available < 0) {
+                return false;
+            }
+        }
+    }
+
+    private LogRecord poll() {
+        var position = head;
+        var index = (int) position & mask;
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        var record = slots[index];
+        slots[index] = null;
+        sequences.set(index, position + slots.length);
+        head = position + 1;
+        return record;
+    }
+
+    private void wakeWriter() {
+        if (writerIdle) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private void drainLoop() {
+        while (true) {
+            var record = poll();
+            if (record != null) {
+                write(record);
+                continue;
+            }
+
+            reportDropped();
+            if (closed && head == tail.get()) {
+                target.flush();
+                return;
+            }
+            writerIdle = true;
+            // Re-check after announcing idleness so a concurrent offer cannot be missed
+            if (sequences.get((int) head & mask) != head + 1 && !closed) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            writerIdle = false;
+        }
+    }
+
+    private void write(LogRecord record) {
+        try {
+            target.publish(record);
+        } catch (RuntimeException e) {
+            reportError("Failed to publish log record", e, ErrorManager.WRITE_FAILURE);
+        }
+    }
+
+    private void reportDropped() {
+        var total = dropped.sum();
+        if (total > droppedReported) {
+            var record = new LogRecord(Level.WARNING,
+                    "Async logging buffer full: " + (total - droppedReported) + " log record(s) dropped");
+            record.setLoggerName(AsyncHandler.class.getName());
+            write(record);
+            droppedReported = total;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.employee.management.util;
+
+import java.time.LocalDate;
+import java.time.Month;
+
+/**
+ * Utility class for year-independent calendar arithmetic used by birthday
+ * and anniversary lookups.
+ */
+public class CalendarUtil {
+
+    /**
+     * Number of distinct month-day slots, including 29 February
+     */
+    public static final int MONTH_DAY_SLOTS = 366;
+
+    /**
+     * Slot index of the first day of each month in a leap-year calendar
+     */
+    private static final int[] MONTH_OFFSETS = {0, 31, 60, 91, 121, 152, 182, 213, 244, 274, 305, 335};
+
+    private static final int LEAP_DAY_SLOT = MONTH_OFFSETS[1] + 28;
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private CalendarUtil() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Returns the month-day slot (0-365) of the given date, ignoring the year
+     */
+    public static int monthDaySlot(LocalDate date) {
+        return monthDaySlot(date.getMonthValue(), date.getDayOfMonth());
+    }
+
+    /**
+     * Returns the month-day slot (0-365) of the given month (1-12) and day of month
+     */
+    public static int monthDaySlot(int month, int dayOfMonth) {
+        return MONTH_OFFSETS[month - 1] + dayOfMonth - 1;
+    }
+
+    /**
+     * Returns the month-day slots that are celebrated on the given date.
+     * In non-leap years 29 February anniversaries are celebrated on 28 February.
+     */
+    public static int[] slotsCelebratedOn(LocalDate date) {
+        var slot = monthDaySlot(date);
+        if (isLeapDayFallback(date)) {
+            return new int[]{slot, LEAP_DAY_SLOT};
+        }
+        return new int[]{slot};
+    }
+
+    /**
+     * Checks if a recurring event that started on the given date is celebrated
+     * on the target date (ignoring year)
+     */
+    public static boolean isCelebratedOn(LocalDate eventDate, LocalDate date) {
+        if (eventDate.getMonth() == date.getMonth()
+                && eventDate.getDayOfMonth() == date.getDayOfMonth()) {
+            return true;
+        }
+        return eventDate.getMonth() == Month.FEBRUARY
+                && eventDate.getDayOfMonth() == 29
+                && isLeapDayFallback(date);
+    }
+
+    private static boolean isLeapDayFallback(LocalDate date) {
+        return date.getMonth() == Month.FEBRUARY
+                && date.getDayOfMonth() == 28
+                && !date.isLeapYear();
+    }
+}
@@ -0,0 +1,278 @@
+package com.employee.management.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Regex-free, allocation-free counterparts of the {@link InputValidator}
+ * checks for bulk ingest. Accepts and rejects exactly the same inputs as the
+ * InputValidator patterns and its dd-MM-yyyy formatter.
+ * Dates are returned packed into a long as (year &lt;&lt; 9 | month &lt;&lt; 5 | day);
+ * negative results are error codes, so bad input never throws.
+ */
+public final class FastInputValidator {
+
+    /**
+     * Input was null or blank
+     */
+    public static final long DATE_EMPTY = -1;
+
+    /**
+     * Input does not have the dd-MM-yyyy shape
+     */
+    public static final long DATE_MALFORMED = -2;
+
+    /**
+     * Input has the right shape but is not a valid date
+     */
+    public static final long DATE_INVALID = -3;
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+    private static final int CANONICAL_DATE_LENGTH = 10;
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private FastInputValidator() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Validates email format: [A-Za-z0-9+_.-]+ '@' [A-Za-z0-9.-]+ '.' [A-Za-z]{2,}
+     */
+    public static boolean isValidEmail(CharSequence email) {
+        if (email == null) {
+            return false;
+        }
+        var length = email.length();
+
+        var at = 0;
+        while (at < length && isLocalChar(email.charAt(at))) {
+            at++;
+        }
+        if (at == 0 || at == length || email.charAt(at) != '@') {
+            return false;
+        }
+
+        // The top-level domain is the run of letters after the last dot
+        var lastDot = -1;
+        for (int i = at + 1; i < length; i++) {
+            var c = email.charAt(i);
+            if (c == '.') {
+                lastDot = i;
+            } else if (!isDomainChar(c)) {
+                return false;
+            }
+        }
+        if (lastDot <= at + 1 || length - lastDot - 1 < 2) {
+            return false;
+        }
+        for (int i = lastDot + 1; i < length; i++) {
+            if (!isAsciiLetter(email.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Validates phone number format (10 digits)
+     */
+    public static boolean isValidPhone(CharSequence phone) {
+        if (phone == null || phone.length() != 10) {
+            return false;
+        }
+        for (int i = 0; i < 10; i++) {
+            if (!isDigit(phone.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses a dd-MM-yyyy date into its packed form, or returns an error code
+     */
+    public static long parseDate(CharSequence text) {
+        if (text == null || isBlank(text)) {
+            return DATE_EMPTY;
+        }
+        if (text.length() != CANONICAL_DATE_LENGTH) {
+            return parseUnusualDate(text);
+        }
+        if (text.charAt(2) != '-' || text.charAt(5) != '-') {
+            return DATE_MALFORMED;
+        }
+
+        var day = twoDigits(text.charAt(0), text.charAt(1));
+        var month = twoDigits(text.charAt(3), text.charAt(4));
+        var year = fourDigits(text.charAt(6), text.charAt(7), text.charAt(8), text.charAt(9));
+        if (day < 0 || month < 0 || year < 0) {
+            // A signed year such as "+123" still goes to the formatter
+            return parseUnusualDate(text);
+        }
+        return resolve(year, month, day);
+    }
+
+    /**
+     * Parses a dd-MM-yyyy date from ASCII bytes, or returns an error code
+     */
+    public static long parseDate(byte[] bytes, int offset, int length) {
+        if (length == 0 || isBlank(bytes, offset, length)) {
+            return DATE_EMPTY;
+        }
+        if (length != CANONICAL_DATE_LENGTH) {
+            return parseUnusualDate(new String(bytes, offset, length, StandardCharsets.ISO_8859_1));
+        }
+        if (bytes[offset + 2] != '-' || bytes[offset + 5] != '-') {
+            return DATE_MALFORMED;
+        }
+
+        var day = twoDigits((char) bytes[offset], (char) bytes[offset + 1]);
+        var month = twoDigits((char) bytes[offset + 3], (char) bytes[offset + 4]);
+        var year = fourDigits((char) bytes[offset + 6], (char) bytes[offset + 7],
+                (char) bytes[offset + 8], (char) bytes[offset + 9]);
+        if (day < 0 || month < 0 || year < 0) {
+            return bytes[offset + 6] == '+' || bytes[offset + 6] == '-'
+                    ? parseUnusualDate(new String(bytes, offset, length, StandardCharsets.ISO_8859_1))
+                    : DATE_MALFORMED;
+        }
+        return resolve(year, month, day);
+    }
+
+    /**
+     * Returns true if the parse result is an error code
+     */
+    public static boolean isError(long packedDate) {
+        return packedDate < 0;
+    }
+
+    /**
+     * Converts a packed date to a LocalDate
+     */
+    public static LocalDate toLocalDate(long packedDate) {
+        if (packedDate < 0) {
+            throw new IllegalArgumentException("Not a date: error code " + packedDate);
+        }
+        return LocalDate.of((int) (packedDate >>> 9), (int) (packedDate >>> 5) & 0xF, (int) packedDate & 0x1F);
+    }
+
+    /**
+     * Gets the InputValidator error message for a date error code
+     */
+    public static String errorMessage(long errorCode) {
+        return errorCode == DATE_EMPTY
+                ? "Date cannot be null or empty"
+                : "Invalid date format. Please use dd-MM-yyyy format";
+    }
+
+    /**
+     * Applies the formatter's SMART resolution: day 1-31 and month 1-12 are
+     * required, and a day past the end of a short month is clamped to its last day
+     */
+    private static long resolve(long year, int month, int day) {
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > 31) {
+            return DATE_INVALID;
+        }
+        if (month == 4 || month == 6 || month == 9 || month == 11) {
+            day = Math.min(day, 30);
+        } else if (month == 2) {
+            day = Math.min(day, isLeap(year) ? 29 : 28);
+        }
+        return year << 9 | month << 5 | day;
+    }
+
+    /**
+     * Slow path for shapes the canonical scanner does not handle, such as
+     * years with more than four digits or an explicit sign. Anything else is
+     * rejected without consulting the formatter.
+     */
+    private static long parseUnusualDate(CharSequence text) {
+        if (!hasUnusualYearShape(text)) {
+            return DATE_MALFORMED;
+        }
+        try {
+            var date = LocalDate.parse(text, DATE_FORMATTER);
+            return (long) date.getYear() << 9 | date.getMonthValue() << 5 | date.getDayOfMonth();
+        } catch (DateTimeException e) {
+            return DATE_MALFORMED;
+        }
+    }
+
+    /**
+     * Checks for dd-MM- followed by an optional sign and at least four digits
+     */
+    private static boolean hasUnusualYearShape(CharSequence text) {
+        var length = text.length();
+        if (length < CANONICAL_DATE_LENGTH
+                || twoDigits(text.charAt(0), text.charAt(1)) < 0 || text.charAt(2) != '-'
+                || twoDigits(text.charAt(3), text.charAt(4)) < 0 || text.charAt(5) != '-') {
+            return false;
+        }
+        var yearStart = text.charAt(6) == '+' || text.charAt(6) == '-' ? 7 : 6;
+        if (length - yearStart < 4) {
+            return false;
+        }
+        for (int i = yearStart; i < length; i++) {
+            if (!isDigit(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLeap(long year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int twoDigits(char tens, char ones) {
+        if (!isDigit(tens) || !isDigit(ones)) {
+            return -1;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+
+    private static int fourDigits(char a, char b, char c, char d) {
+        if (!isDigit(a) || !isDigit(b) || !isDigit(c) || !isDigit(d)) {
+            return -1;
+        }
+        return (a - '0') * 1000 + (b - '0') * 100 + (c - '0') * 10 + (d - '0');
+    }
+
+    private static boolean isBlank(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isBlank(byte[] bytes, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            if (!Character.isWhitespace((char) (bytes[i] & 0xFF))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isLocalChar(char c) {
+        return isAsciiLetter(c) || isDigit(c) || c == '+' || c == '_' || c == '.' || c == '-';
+    }
+
+    private static boolean isDomainChar(char c) {
+        return isAsciiLetter(c) || isDigit(c) || c == '.' || c == '-';
+    }
+}
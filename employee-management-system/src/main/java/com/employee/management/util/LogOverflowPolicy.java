@@ -0,0 +1,22 @@
+package com.employee.management.util;
+
+/**
+ * What {@link AsyncHandler} does with a record when its buffer is full.
+ */
+public enum LogOverflowPolicy {
+
+    /**
+     * Wait until the writer frees a slot; no record is lost
+     */
+    BLOCK,
+
+    /**
+     * Drop the record and count it; callers never wait
+     */
+    DISCARD,
+
+    /**
+     * Publish the record on the calling thread, bypassing the buffer
+     */
+    CALLER_RUNS
+}
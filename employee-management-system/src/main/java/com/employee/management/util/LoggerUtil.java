@@ -2,6 +2,8 @@ package com.employee.management.util;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Locale;
+import java.util.logging.Handler;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
 
@@ -10,6 +12,10 @@ import java.util.logging.Logger;
  */
 public class LoggerUtil {
 
+    private static final String ASYNC_PREFIX = AsyncHandler.class.getName();
+
+    private static final int DEFAULT_ASYNC_CAPACITY = 8192;
+
     static {
         try {
             // Load logging configuration
@@ -23,6 +29,7 @@ public class LoggerUtil {
         } catch (IOException e) {
             System.err.println("Failed to load logging configuration: " + e.getMessage());
         }
+        installAsyncHandler();
     }
 
     /**
@@ -38,4 +45,46 @@ public class LoggerUtil {
     public static Logger getLogger(Class<?> clazz) {
         return Logger.getLogger(clazz.getName());
     }
+
+    /**
+     * Moves the configured root handlers behind a single AsyncHandler when
+     * AsyncHandler.enabled is set in the logging configuration
+     */
+    private static void installAsyncHandler() {
+        var manager = LogManager.getLogManager();
+        if (!Boolean.parseBoolean(manager.getProperty(ASYNC_PREFIX + ".enabled"))) {
+            return;
+        }
+
+        var root = Logger.getLogger("");
+        var handlers = root.getHandlers();
+        if (handlers.length != 1) {
+            // Only a single target is supported; leave anything else synchronous
+            return;
+        }
+
+        var capacity = parseInt(manager.getProperty(ASYNC_PREFIX + ".capacity"), DEFAULT_ASYNC_CAPACITY);
+        var policyName = manager.getProperty(ASYNC_PREFIX + ".overflowPolicy");
+        var policy = policyName == null
+                ? LogOverflowPolicy.BLOCK
+                : LogOverflowPolicy.valueOf(policyName.trim().toUpperCase(Locale.ROOT));
+
+        var includeLocation = Boolean.parseBoolean(manager.getProperty(ASYNC_PREFIX + ".includeLocation"));
+
+        Handler target = handlers[0];
+        root.removeHandler(target);
+        root.addHandler(new AsyncHandler(target, capacity, policy, includeLocation));
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid logging capacity '" + value + "', using " + defaultValue);
+            return defaultValue;
+        }
+    }
 }
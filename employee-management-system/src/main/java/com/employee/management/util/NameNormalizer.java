@@ -0,0 +1,29 @@
+package com.employee.management.util;
+
+/**
+ * Utility class for building case-folded lookup keys from first names.
+ */
+public class NameNormalizer {
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private NameNormalizer() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Folds the name so that two names produce the same key exactly when
+     * {@link String#equalsIgnoreCase(String)} considers them equal
+     */
+    public static String fold(String name) {
+        if (name == null) {
+            return null;
+        }
+        var builder = new StringBuilder(name.length());
+        name.codePoints()
+                .map(cp -> Character.toLowerCase(Character.toUpperCase(cp)))
+                .forEach(builder::appendCodePoint);
+        return builder.toString();
+    }
+}
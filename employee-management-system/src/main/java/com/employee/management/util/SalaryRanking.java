@@ -0,0 +1,110 @@
+package com.employee.management.util;
+
+import com.employee.management.model.Employee;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Collector;
+
+/**
+ * Utility class for bounded-heap salary ranking over unindexed employees.
+ * Selecting k of n employees costs O(n log k) time and O(k) memory instead of
+ * sorting the whole data set. Ties keep encounter order, matching a stable
+ * sort, for both sequential and ordered parallel streams.
+ */
+public class SalaryRanking {
+
+    private static final Comparator<Employee> HIGHEST_FIRST =
+            Comparator.comparingDouble(Employee::salary).reversed();
+
+    private static final Comparator<Employee> LOWEST_FIRST =
+            Comparator.comparingDouble(Employee::salary);
+
+    /**
+     * Employee tagged with its encounter position for stable tie-breaking
+     */
+    private record Ranked(Employee employee, long position) {
+    }
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private SalaryRanking() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Collects the highest paid employees, highest first
+     */
+    public static Collector<Employee, ?, List<Employee>> highestPaid(int limit) {
+        return selecting(limit, HIGHEST_FIRST);
+    }
+
+    /**
+     * Collects the lowest paid employees, lowest first
+     */
+    public static Collector<Employee, ?, List<Employee>> lowestPaid(int limit) {
+        return selecting(limit, LOWEST_FIRST);
+    }
+
+    private static Collector<Employee, Selection, List<Employee>> selecting(int limit, Comparator<Employee> order) {
+        return Collector.of(
+                () -> new Selection(limit, order),
+                Selection::add,
+                Selection::merge,
+                Selection::result);
+    }
+
+    /**
+     * Mutable top-k accumulator; the root of the heap is the worst candidate kept
+     */
+    private static final class Selection {
+
+        private final int limit;
+
+        private final Comparator<Ranked> rank;
+
+        private final PriorityQueue<Ranked> heap;
+
+        private long seen;
+
+        private Selection(int limit, Comparator<Employee> order) {
+            this.limit = Math.max(0, limit);
+            this.rank = Comparator.comparing(Ranked::employee, order)
+                    .thenComparingLong(Ranked::position);
+            this.heap = new PriorityQueue<>(Math.max(1, Math.min(this.limit, 1024)), rank.reversed());
+        }
+
+        private void add(Employee employee) {
+            offer(new Ranked(employee, seen++));
+        }
+
+        /**
+         * Merges a selection over the elements that follow this one in encounter order
+         */
+        private Selection merge(Selection following) {
+            for (var candidate : following.heap) {
+                offer(new Ranked(candidate.employee(), seen + candidate.position()));
+            }
+            seen += following.seen;
+            return this;
+        }
+
+        private void offer(Ranked candidate) {
+            if (heap.size() < limit) {
+                heap.add(candidate);
+            } else if (limit > 0 && rank.compare(candidate, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        }
+
+        private List<Employee> result() {
+            var ranked = new ArrayList<>(heap);
+            ranked.sort(rank);
+            return ranked.stream().map(Ranked::employee).toList();
+        }
+    }
+}
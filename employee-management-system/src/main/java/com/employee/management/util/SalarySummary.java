@@ -0,0 +1,146 @@
+package com.employee.management.util;
+
+import com.employee.management.model.Employee;
+
+import java.util.Arrays;
+import java.util.stream.Collector;
+
+/**
+ * Salary count, sum, min and max like DoubleSummaryStatistics, but with an
+ * exact sum. The running total is held as non-overlapping partial sums
+ * (Shewchuk's algorithm, as in Python's math.fsum) and rounded once when
+ * read, so the result is the correctly rounded sum of the salaries whatever
+ * order they were added or combined in. Sequential and parallel streams, and
+ * every repository, therefore report identical totals. Not thread-safe.
+ */
+public class SalarySummary {
+
+    private double[] partials = new double[4];
+
+    private int partialCount;
+
+    /**
+     * Plain sum of infinite and NaN salaries, and of a total that overflowed,
+     * which the partials cannot hold
+     */
+    private double nonFinite;
+
+    private long count;
+
+    private double min = Double.POSITIVE_INFINITY;
+
+    private double max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Summarizes the salaries of the collected employees
+     */
+    public static Collector<Employee, ?, SalarySummary> summarizing() {
+        return Collector.of(
+                SalarySummary::new,
+                (summary, employee) -> summary.accept(employee.salary()),
+                SalarySummary::combine,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    public void accept(double salary) {
+        add(salary);
+        count++;
+        min = Math.min(min, salary);
+        max = Math.max(max, salary);
+    }
+
+    /**
+     * Adds the other summary into this one and returns this
+     */
+    public SalarySummary combine(SalarySummary other) {
+        for (int i = 0; i < other.partialCount; i++) {
+            add(other.partials[i]);
+        }
+        nonFinite += other.nonFinite;
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the sum, correctly rounded from the exact total
+     */
+    public double getSum() {
+        // NaN compares unequal too
+        if (nonFinite != 0) {
+            return nonFinite;
+        }
+        if (partialCount == 0) {
+            return 0.0;
+        }
+        // Add the partials from the largest down until the remaining ones no longer matter
+        var n = partialCount - 1;
+        var high = partials[n];
+        var low = 0.0;
+        while (n > 0) {
+            var x = high;
+            var y = partials[--n];
+            high = x + y;
+            low = y - (high - x);
+            if (low != 0.0) {
+                break;
+            }
+        }
+        // Round half-even correctly when the discarded partials push past a tie
+        if (n > 0 && ((low < 0 && partials[n - 1] < 0) || (low > 0 && partials[n - 1] > 0))) {
+            var y = low * 2;
+            var x = high + y;
+            if (y == x - high) {
+                high = x;
+            }
+        }
+        return high;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    private void add(double value) {
+        if (!Double.isFinite(value)) {
+            nonFinite += value;
+            return;
+        }
+        var x = value;
+        var kept = 0;
+        for (int i = 0; i < partialCount; i++) {
+            var y = partials[i];
+            if (Math.abs(x) < Math.abs(y)) {
+                var swap = x;
+                x = y;
+                y = swap;
+            }
+            var high = x + y;
+            var low = y - (high - x);
+            if (low != 0.0) {
+                partials[kept++] = low;
+            }
+            x = high;
+        }
+        if (!Double.isFinite(x)) {
+            // The total overflowed; report it as infinite
+            nonFinite += x;
+            partialCount = 0;
+            return;
+        }
+        if (kept == partials.length) {
+            partials = Arrays.copyOf(partials, kept * 2);
+        }
+        partials[kept++] = x;
+        partialCount = kept;
+    }
+}
@@ -0,0 +1,44 @@
+package com.employee.management.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Utility class for creating thread-per-task executors on virtual threads
+ * where the runtime supports them (Java 21+). Looked up reflectively so the
+ * application still runs on Java 17.
+ */
+public class VirtualThreads {
+
+    private static final Logger LOGGER = LoggerUtil.getLogger(VirtualThreads.class);
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private VirtualThreads() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Creates a virtual-thread-per-task executor, or a fixed pool of
+     * fallbackThreads daemon threads named name-N on older runtimes
+     */
+    public static ExecutorService newExecutor(String name, int fallbackThreads) {
+        try {
+            var executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            LOGGER.info(() -> "Running " + name + " tasks on virtual threads");
+            return executor;
+        } catch (ReflectiveOperationException e) {
+            LOGGER.info(() -> "Virtual threads unavailable; running " + name + " tasks on "
+                    + fallbackThreads + " platform threads");
+            var threadNumber = new AtomicInteger();
+            return Executors.newFixedThreadPool(fallbackThreads, runnable -> {
+                var thread = new Thread(runnable, name + "-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -1,3 +1,8 @@
 module employee.management {
     requires java.logging;
+    requires java.management;
+    requires jdk.httpserver;
+
+    exports com.employee.management.cache to java.management;
+    exports com.employee.management.metrics to java.management;
 }
@@ -0,0 +1,116 @@
+package com.employee.management.io;
+
+import com.employee.management.model.Employee;
+import com.employee.management.repository.InMemoryEmployeeRepository;
+import com.employee.management.util.LoggerUtil;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Checks that a CSV export imports back to the same employees, including
+ * fields that need quoting or carry line breaks.
+ */
+class CsvRoundTripTest {
+
+    private static final List<String> ADDRESSES = List.of(
+            "12 Park Street",
+            "Flat 4, 2nd Floor",
+            "The \"Old\" Mill",
+            "Line one\nLine two",
+            "Windows\r\nline break",
+            "Bare\rcarriage return",
+            "Trailing quote \"\nthen a new line",
+            "Blank line\n\ninside",
+            "\"\"");
+
+    @BeforeAll
+    static void silenceLogging() {
+        LoggerUtil.getLogger(CsvRoundTripTest.class);
+        Logger.getLogger("com.employee.management").setLevel(Level.OFF);
+    }
+
+    @Test
+    void exportImportsBackUnchanged(@TempDir Path directory) {
+        var source = new InMemoryEmployeeRepository();
+        for (int i = 0; i < ADDRESSES.size(); i++) {
+            source.save(employee("Name" + i, ADDRESSES.get(i)));
+        }
+        var file = directory.resolve("employees.csv");
+        new EmployeeExporter(source).export(file, EmployeeExporter.Format.CSV);
+
+        var target = new InMemoryEmployeeRepository();
+        ImportResult result;
+        try (var importer = new CsvEmployeeImporter(target, 2, 3)) {
+            result = importer.importFile(file);
+        }
+
+        assertEquals(ADDRESSES.size(), result.accepted());
+        assertEquals(0, result.rejected(), () -> "Unexpected errors: " + result.errors());
+        assertEquals(sorted(source.findAll()), sorted(target.findAll()));
+    }
+
+    @Test
+    void errorsReportTheLineTheRecordStartsOn() throws IOException {
+        var csv = CsvCodec.headerLine()
+                + csvLine(employee("Alice", "Two\nlines"))
+                + csvLine(employee("Bob", "Three\r\nline\raddress"))
+                + "not,a,valid,row\n"
+                + csvLine(employee("Carol", "One line"));
+
+        var target = new InMemoryEmployeeRepository();
+        ImportResult result;
+        try (var importer = new CsvEmployeeImporter(target, 1, 2)) {
+            result = importer.importFrom(new BufferedReader(new StringReader(csv)));
+        }
+
+        assertEquals(3, result.accepted());
+        assertEquals(List.of(new ImportResult.RowError(7, "Expected 9 fields but found 4")), result.errors());
+    }
+
+    @Test
+    void recordReaderSplitsOnlyOutsideQuotes() throws IOException {
+        var reader = new CsvRecordReader(new StringReader("a,\"b\nc\"\r\n\r\nd\"e\nf,\"g\"\"\rh\"\ri"));
+
+        assertEquals("a,\"b\nc\"", reader.next());
+        assertEquals(1, reader.lineNumber());
+        assertEquals("", reader.next());
+        assertEquals(3, reader.lineNumber());
+        // A quote that does not open a field is literal and cannot span lines
+        assertEquals("d\"e", reader.next());
+        assertEquals(4, reader.lineNumber());
+        assertEquals("f,\"g\"\"\rh\"", reader.next());
+        assertEquals(5, reader.lineNumber());
+        assertEquals("i", reader.next());
+        assertEquals(7, reader.lineNumber());
+        assertNull(reader.next());
+    }
+
+    private static Employee employee(String firstName, String address) {
+        return new Employee(firstName, "Smith", "Engineering", address, firstName.toLowerCase() + "@example.com",
+                "9876543210", LocalDate.of(1990, 5, 17), LocalDate.of(2018, 2, 3), 55_000.5);
+    }
+
+    private static String csvLine(Employee employee) {
+        var out = new StringBuilder();
+        CsvCodec.appendLine(out, employee);
+        return out.toString();
+    }
+
+    private static List<Employee> sorted(List<Employee> employees) {
+        return employees.stream().sorted(Comparator.comparing(Employee::firstName)).toList();
+    }
+}
@@ -0,0 +1,190 @@
+package com.employee.management.util;
+
+import com.employee.management.exception.InvalidInputException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that FastInputValidator accepts and rejects exactly what
+ * InputValidator does, with the same dates and error messages.
+ */
+class FastInputValidatorTest {
+
+    private static final long SEED = 42;
+
+    static Stream<String> dates() {
+        return Stream.of(
+                // Ordinary dates
+                "01-01-2023", "15-08-1990", "31-12-1999",
+                // Leap days
+                "29-02-2024", "29-02-2023", "29-02-2000", "29-02-1900", "30-02-2024", "31-02-2023",
+                // Days past the end of a 30-day month
+                "31-04-2023", "31-06-2023", "31-09-2023", "31-11-2023", "30-04-2023",
+                // Out-of-range fields
+                "32-01-2023", "00-01-2023", "01-00-2023", "01-13-2023", "99-99-9999", "01-01-0000",
+                // Blank and padded input
+                "", " ", "   ", "\t\n", "\u2003", "\u00A0", " 01-01-2023", "01-01-2023 ", "01 -01-2023",
+                "01-01-2023\n",
+                // Wrong shape
+                "1-1-2023", "01/01/2023", "2023-01-01", "01-01-23", "0a-01-2023", "01-01-20x3", "--------",
+                "N/A",
+                // Non-ASCII digits
+                "٠١-٠١-٢٠٢٣",
+                "０１-０１-２０２３",
+                "०१-०१-२०२३",
+                "01-01-٢٠٢٣",
+                // Signed and long years
+                "01-01-+12345", "01-01-12345", "01-01-+2023", "01-01--2023", "01-01--12345", "29-02-+10000",
+                "31-12-999999999", "01-01-1000000000", "01-01-+999999999",
+                // Oversized input
+                "01-01-" + "9".repeat(30), "01-01-+" + "1".repeat(19), "01-01-2023".repeat(1_000),
+                "1".repeat(10_000));
+    }
+
+    static Stream<String> emails() {
+        return Stream.of(
+                "john.doe@example.com", "a+b_c-d.e@mail-server.co.uk", "A@B.CO", "a@b.co", "a@..co",
+                "a@b.c", "a@b.c1", "a@b.co.", "a@b", "@b.co", "a@.co", "a@@b.co", "a@b..co", "a@-.co",
+                "", " ", " a@b.co", "a@b.co ", "a b@c.de", "a@b.co\n",
+                "ä@b.co", "a@b.cö", "a@über.de", "١@b.co", "a@b.ｃｏ",
+                "a".repeat(10_000) + "@example.com", "a@" + "b.".repeat(5_000) + "com",
+                "a@b." + "c".repeat(10_000), "@".repeat(10_000));
+    }
+
+    static Stream<String> phones() {
+        return Stream.of(
+                "9876543210", "0000000000", "987654321", "98765432100", " 987654321", "987654321 ",
+                "98765-4321", "+919876543", "", " ", "          ", "\t\t\t\t\t\t\t\t\t\t",
+                "٩٨٧٦٥٤٣٢١٠",
+                "９８７６５４３２１０",
+                "9".repeat(10_000));
+    }
+
+    @ParameterizedTest
+    @MethodSource("dates")
+    void parseDateMatchesInputValidator(String text) {
+        assertSameDate(text, FastInputValidator.parseDate(text));
+    }
+
+    @ParameterizedTest
+    @MethodSource("dates")
+    void parseDateFromBytesMatchesParseDateFromText(String text) {
+        var encoder = StandardCharsets.ISO_8859_1.newEncoder();
+        if (!encoder.canEncode(text)) {
+            return;
+        }
+        var bytes = ("xx" + text + "yy").getBytes(StandardCharsets.ISO_8859_1);
+        assertEquals(FastInputValidator.parseDate(text), FastInputValidator.parseDate(bytes, 2, text.length()),
+                () -> "Byte parse differs for \"" + text + "\"");
+    }
+
+    @ParameterizedTest
+    @MethodSource("emails")
+    void isValidEmailMatchesInputValidator(String email) {
+        assertEquals(InputValidator.isValidEmail(email), FastInputValidator.isValidEmail(email),
+                () -> "Email check differs for \"" + email + "\"");
+    }
+
+    @ParameterizedTest
+    @MethodSource("phones")
+    void isValidPhoneMatchesInputValidator(String phone) {
+        assertEquals(InputValidator.isValidPhone(phone), FastInputValidator.isValidPhone(phone),
+                () -> "Phone check differs for \"" + phone + "\"");
+    }
+
+    @Test
+    void nullInputIsRejected() {
+        assertEquals(FastInputValidator.DATE_EMPTY, FastInputValidator.parseDate(null));
+        assertEquals(InputValidator.isValidEmail(null), FastInputValidator.isValidEmail(null));
+        assertEquals(InputValidator.isValidPhone(null), FastInputValidator.isValidPhone(null));
+    }
+
+    @Test
+    void leapDayIsKeptOnlyInLeapYears() {
+        assertEquals(LocalDate.of(2024, 2, 29), FastInputValidator.toLocalDate(FastInputValidator.parseDate("29-02-2024")));
+        assertEquals(LocalDate.of(2023, 2, 28), FastInputValidator.toLocalDate(FastInputValidator.parseDate("29-02-2023")));
+        assertEquals(LocalDate.of(1900, 2, 28), FastInputValidator.toLocalDate(FastInputValidator.parseDate("29-02-1900")));
+    }
+
+    @Test
+    void dayPastEndOfMonthIsClamped() {
+        assertEquals(LocalDate.of(2023, 4, 30), FastInputValidator.toLocalDate(FastInputValidator.parseDate("31-04-2023")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {FastInputValidator.DATE_EMPTY, FastInputValidator.DATE_MALFORMED,
+            FastInputValidator.DATE_INVALID})
+    void errorCodesAreNotDates(long errorCode) {
+        assertTrue(FastInputValidator.isError(errorCode));
+        assertThrows(IllegalArgumentException.class, () -> FastInputValidator.toLocalDate(errorCode));
+    }
+
+    @Test
+    void randomDateShapedInputMatchesInputValidator() {
+        var random = new Random(SEED);
+        var alphabet = "0123456789-+ a١\t";
+        for (int i = 0; i < 20_000; i++) {
+            var text = new StringBuilder();
+            if (random.nextBoolean()) {
+                // dd-MM-yyyy with random digits, so most land on real dates
+                text.append(String.format("%02d-%02d-%04d",
+                        random.nextInt(34), random.nextInt(14), random.nextInt(10_000)));
+                if (random.nextInt(4) == 0) {
+                    text.setCharAt(random.nextInt(text.length()), alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+            } else {
+                var length = random.nextInt(14);
+                for (int j = 0; j < length; j++) {
+                    text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+            }
+            assertSameDate(text.toString(), FastInputValidator.parseDate(text));
+        }
+    }
+
+    @Test
+    void randomEmailShapedInputMatchesInputValidator() {
+        var random = new Random(SEED);
+        var alphabet = "ab9+_.-@ é";
+        for (int i = 0; i < 20_000; i++) {
+            var length = random.nextInt(12);
+            var text = new StringBuilder();
+            for (int j = 0; j < length; j++) {
+                text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            var email = text.toString();
+            assertEquals(InputValidator.isValidEmail(email), FastInputValidator.isValidEmail(email),
+                    () -> "Email check differs for \"" + email + "\"");
+        }
+    }
+
+    /**
+     * Asserts that the packed result holds the date InputValidator parses,
+     * or the error InputValidator reports
+     */
+    private static void assertSameDate(String text, long packed) {
+        LocalDate expected;
+        try {
+            expected = InputValidator.parseDate(text);
+        } catch (InvalidInputException e) {
+            assertTrue(FastInputValidator.isError(packed), () -> "Expected an error for \"" + text + "\"");
+            assertEquals(e.getMessage(), FastInputValidator.errorMessage(packed),
+                    () -> "Error message differs for \"" + text + "\"");
+            return;
+        }
+        assertTrue(!FastInputValidator.isError(packed),
+                () -> "Expected " + expected + " for \"" + text + "\" but got error " + packed);
+        assertEquals(expected, FastInputValidator.toLocalDate(packed), () -> "Date differs for \"" + text + "\"");
+    }
+}